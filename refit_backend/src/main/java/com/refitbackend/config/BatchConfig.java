@@ -0,0 +1,30 @@
+package com.refitbackend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 백그라운드 일괄 작업용 스레드 풀
+ */
+@Configuration
+public class BatchConfig {
+
+    /**
+     * 평점 재계산 (RatingRecomputeJob) - 조정 스레드 1개 + 구간 처리 스레드 parallelism개
+     * 대기 구간 수는 작업 쪽에서 제한, 컨텍스트 종료 시 실행 중인 작업은 중단 (체크포인트부터 이어서 실행 가능)
+     */
+    @Bean(name = "ratingRecomputeExecutor")
+    public ThreadPoolTaskExecutor ratingRecomputeExecutor(
+            @Value("${product.rating-recompute.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        int threads = Math.max(1, parallelism) + 1;
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("rating-recompute-");
+        executor.setDaemon(true);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
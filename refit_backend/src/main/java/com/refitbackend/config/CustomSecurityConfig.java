@@ -42,6 +42,7 @@ public class CustomSecurityConfig {
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS","PATCH"));
         configuration.setAllowedHeaders(List.of("*")); // Authorization, Content-Type 등 포함
         configuration.setAllowCredentials(true); // 쿠키, Authorization 헤더 포함 가능
+        configuration.setExposedHeaders(List.of("X-Next-Cursor")); // 키셋 페이징 다음 페이지 커서
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -67,6 +68,7 @@ public class CustomSecurityConfig {
                 .requestMatchers("/api/test/protected").hasRole("MEMBER")
                 .requestMatchers("/api/cart/**").hasRole("MEMBER")
                 .requestMatchers("/api/orders/**").hasRole("MEMBER")
+                .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 .anyRequest().permitAll()
             )
             .addFilterBefore(new JWTCheckFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class)
@@ -32,26 +32,8 @@ public class CustomServletConfig implements WebMvcConfigurer{
 
   @Override
   public void addResourceHandlers(ResourceHandlerRegistry registry) {
-    // uploads 폴더에 대한 정적 리소스 매핑
-    registry.addResourceHandler("/uploads/**")
-            .addResourceLocations("file:build/resources/main/static/uploads/")
-            .setCachePeriod(3600)
-            .resourceChain(true);
-            
-    // reviewimages 폴더에 대한 정적 리소스 매핑
-    registry.addResourceHandler("/reviewimages/**")
-            .addResourceLocations("file:build/resources/main/static/reviewimages/")
-            .setCachePeriod(3600)
-            .resourceChain(true);
-            
-    // donation 폴더에 대한 정적 리소스 매핑 (필요시 주석 해제)
-    /*
-    registry.addResourceHandler("/donation/**")
-            .addResourceLocations("file:build/resources/main/static/donation/")
-            .setCachePeriod(3600)
-            .resourceChain(true);
-    */
-            
+    // uploads, reviewimages, donation, images, thumbs는 StaticAssetController에서 전송 (Range, ETag, immutable 캐시)
+
     // 기타 정적 리소스
     registry.addResourceHandler("/**")
             .addResourceLocations("classpath:/static/", "file:build/resources/main/static/");
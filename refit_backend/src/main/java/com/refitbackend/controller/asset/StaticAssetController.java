@@ -0,0 +1,75 @@
+package com.refitbackend.controller.asset;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.springframework.http.CacheControl;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+import com.refitbackend.service.asset.StaticAssetService;
+import com.refitbackend.service.storage.StorageBackend;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드/정적 이미지 파일 전송 (build/resources/main/static 아래)
+ * 파일명이 UUID나 내용 해시(SHA-256)인 업로드 파일(축소본 포함)은 내용이 바뀌지 않으므로 1년 immutable,
+ * 그 외 파일은 1시간 캐시 후 ETag로 재검증
+ * 업로드 파일이 오브젝트 스토리지(file.storage.backend=s3)에 있으면 해당 URL로 리다이렉트
+ */
+@RestController
+@RequiredArgsConstructor
+public class StaticAssetController {
+
+    private static final Pattern FINGERPRINT = Pattern.compile(
+            "([0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}|[0-9a-f]{64})([_.].*)?");
+
+    private final Path baseStorageLocation = Paths.get("build/resources/main/static").toAbsolutePath().normalize();
+
+    private final StaticAssetService staticAssetService;
+    private final StorageBackend storageBackend;
+
+    @GetMapping({ "/uploads/**", "/reviewimages/**", "/donation/**", "/images/**", "/thumbs/**" })
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String uri = request.getRequestURI().substring(request.getContextPath().length());
+        String relative = UriUtils.decode(uri.substring(1), StandardCharsets.UTF_8);
+        int slash = relative.indexOf('/');
+        if (slash < 0) {
+            // 폴더 자체 (/uploads 등)
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        String rootName = relative.substring(0, slash);
+        Path root = baseStorageLocation.resolve(rootName);
+        Path file = baseStorageLocation.resolve(relative).normalize();
+        if (!file.startsWith(root) || file.equals(root)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        if (StorageBackend.UPLOAD_ROOTS.contains(rootName)) {
+            String key = baseStorageLocation.relativize(file).toString().replace('\\', '/');
+            Optional<Path> localPath = storageBackend.localPath(key);
+            if (localPath.isEmpty()) {
+                // 오브젝트 스토리지 - CDN 또는 서명된 URL로 이동 (어느 서버에서 받아도 같은 파일)
+                response.sendRedirect(storageBackend.url(key));
+                return;
+            }
+            file = localPath.get();
+        }
+
+        CacheControl cacheControl = FINGERPRINT.matcher(file.getFileName().toString()).matches()
+                ? StaticAssetService.immutable()
+                : CacheControl.maxAge(1, TimeUnit.HOURS);
+        staticAssetService.serve(request, response, file, cacheControl);
+    }
+}
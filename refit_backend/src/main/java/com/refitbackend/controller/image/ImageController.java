@@ -0,0 +1,37 @@
+package com.refitbackend.controller.image;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.refitbackend.service.image.ImageDerivativeService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드 이미지 축소본 조회
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/images")
+public class ImageController {
+
+    private final ImageDerivativeService imageDerivativeService;
+
+    /**
+     * 원본 URL별 축소본 URL (너비 -> URL, 아직 없거나 원본이 작으면 빈 객체)
+     * 예: /api/images/variants?url=/reviewimages/a.jpg&url=/reviewimages/b.png
+     */
+    @GetMapping("/variants")
+    public ResponseEntity<Map<String, Map<Integer, String>>> getVariants(@RequestParam("url") List<String> urls) {
+        if (urls.size() > 100) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(imageDerivativeService.getVariants(urls));
+    }
+}
@@ -0,0 +1,67 @@
+package com.refitbackend.controller.image;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.CacheControl;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+import com.refitbackend.service.asset.StaticAssetService;
+import com.refitbackend.service.image.ImageResizeService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이미지 크기 변환
+ * 예: /img/300x0/reviewimages/a.png (가로 300 이하, 세로는 비율대로), /img/200x200/images/b.jpg (200x200 상자 안에 맞춤)
+ */
+@RestController
+@RequiredArgsConstructor
+public class ImageResizeController {
+
+    private static final String PREFIX = "/img/";
+
+    private final ImageResizeService imageResizeService;
+    private final StaticAssetService staticAssetService;
+
+    /**
+     * 크기가 잘못됐거나 허용하지 않는 경로면 400, 원본이 없으면 404, 변환이 밀려 있으면 503
+     * 변환된 파일은 StaticAssetService로 전송 (Range, ETag)
+     */
+    @GetMapping(PREFIX + "{size}/**")
+    public void resize(@PathVariable("size") String size, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        int x = size.indexOf('x');
+        if (x < 0) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        String uri = request.getRequestURI().substring(request.getContextPath().length());
+        String sourcePath = UriUtils.decode(uri.substring(PREFIX.length() + size.length()), StandardCharsets.UTF_8);
+
+        Path resized;
+        try {
+            resized = imageResizeService.resize(sourcePath,
+                    Integer.parseInt(size.substring(0, x)), Integer.parseInt(size.substring(x + 1)));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 포함
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        } catch (IllegalStateException e) {
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+        if (resized == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        staticAssetService.serve(request, response, resized, CacheControl.maxAge(1, TimeUnit.DAYS));
+    }
+}
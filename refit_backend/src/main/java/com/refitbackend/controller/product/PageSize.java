@@ -0,0 +1,17 @@
+package com.refitbackend.controller.product;
+
+/**
+ * 목록 요청의 size 파라미터 보정 (1 ~ MAX)
+ * 음수나 너무 큰 값으로 전체 테이블을 읽거나 size + 1 계산이 넘치지 않도록
+ */
+final class PageSize {
+
+    static final int MAX = 100;
+
+    private PageSize() {
+    }
+
+    static int clamp(int size) {
+        return Math.max(1, Math.min(size, MAX));
+    }
+}
@@ -0,0 +1,88 @@
+package com.refitbackend.controller.product;
+
+import com.refitbackend.dto.product.ProductDetailCacheStatsDTO;
+import com.refitbackend.dto.product.RatingRecomputeStatusDTO;
+import com.refitbackend.service.product.ProductDetailCache;
+import com.refitbackend.service.product.RatingRecomputeJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 상품 관리 API (관리자 전용)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/products")
+@RequiredArgsConstructor
+public class ProductAdminController {
+
+    private final ProductDetailCache productDetailCache;
+    private final RatingRecomputeJob ratingRecomputeJob;
+
+    /**
+     * 상품 상세 캐시 통계 - 적중률, 동시 조회 병합 횟수, DB 적재 시간 (캐시 크기 조정용)
+     */
+    @GetMapping("/detail-cache")
+    public ResponseEntity<ProductDetailCacheStatsDTO> getDetailCacheStats() {
+        return ResponseEntity.ok(ProductDetailCacheStatsDTO.builder()
+                .size(productDetailCache.size())
+                .maxEntries(productDetailCache.getMaxEntries())
+                .hitCount(productDetailCache.getHitCount())
+                .missCount(productDetailCache.getMissCount())
+                .hitRate(productDetailCache.getHitRate())
+                .coalescedCount(productDetailCache.getCoalescedCount())
+                .evictionCount(productDetailCache.getEvictionCount())
+                .invalidationCount(productDetailCache.getInvalidationCount())
+                .loadCount(productDetailCache.getLoadCount())
+                .loadFailureCount(productDetailCache.getLoadFailureCount())
+                .avgLoadMillis(productDetailCache.getAverageLoadMillis())
+                .maxLoadMillis(productDetailCache.getMaxLoadMillis())
+                .build());
+    }
+
+    /**
+     * 상품 상세 캐시 비우기
+     */
+    @DeleteMapping("/detail-cache")
+    public ResponseEntity<Void> clearDetailCache() {
+        log.info("상품 상세 캐시 초기화 요청");
+        productDetailCache.clear();
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 리뷰 집계(평점, 리뷰 수, 별점 분포) 전체 재계산 시작
+     * @param resume true면 이전에 끝나지 않은 작업을 체크포인트 다음부터 이어서 실행
+     */
+    @PostMapping("/rating-recompute")
+    public ResponseEntity<RatingRecomputeStatusDTO> startRatingRecompute(
+            @RequestParam(defaultValue = "false") boolean resume) {
+        try {
+            log.info("평점 재계산 요청: resume={}", resume);
+            return ResponseEntity.accepted().body(ratingRecomputeJob.start(resume));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ratingRecomputeJob.getStatus());
+        }
+    }
+
+    /**
+     * 평점 재계산 진행 상황
+     */
+    @GetMapping("/rating-recompute")
+    public ResponseEntity<RatingRecomputeStatusDTO> getRatingRecomputeStatus() {
+        return ResponseEntity.ok(ratingRecomputeJob.getStatus());
+    }
+
+    /**
+     * 평점 재계산 중단 (처리 중인 구간까지 마치고 멈춤, resume으로 재개)
+     */
+    @DeleteMapping("/rating-recompute")
+    public ResponseEntity<RatingRecomputeStatusDTO> cancelRatingRecompute() {
+        log.info("평점 재계산 중단 요청");
+        ratingRecomputeJob.cancel();
+        return ResponseEntity.ok(ratingRecomputeJob.getStatus());
+    }
+}
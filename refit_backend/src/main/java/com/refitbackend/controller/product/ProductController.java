@@ -2,6 +2,7 @@ package com.refitbackend.controller.product;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.refitbackend.dto.product.CategorySubDTO;
 import com.refitbackend.dto.product.ProductDetailDTO;
+import com.refitbackend.dto.product.ProductFeedDTO;
 import com.refitbackend.dto.product.ProductImageDTO;
 import com.refitbackend.service.product.CategorySubService;
 import com.refitbackend.service.product.ProductService;
@@ -27,6 +29,9 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/products")
 public class ProductController {
 
+    // 키셋 페이징 다음 페이지 커서 응답 헤더
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final ProductService productService;
     private final CategorySubService categorySubService;
 
@@ -51,20 +56,27 @@ public class ProductController {
      */
    
     
+/**
+ * 브랜드별 상품 이미지 리스트 조회
+ * 첫 페이지나 cursor 요청은 키셋 페이징 (다음 페이지 커서는 X-Next-Cursor 헤더), cursor 없이 page만 주면 기존 방식
+ */
 @GetMapping("/by-brand")
-public List<Map<String, List<ProductImageDTO>>> getProductsImagesByBrandId(
+public ResponseEntity<List<Map<String, List<ProductImageDTO>>>> getProductsImagesByBrandId(
         @RequestParam("brandId") Long brandId,
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size,
+        @RequestParam(value = "cursor", required = false) String cursor,
         @RequestParam(value = "mainCategoryId", required = false) Long mainCategoryId,
         @RequestParam(value = "subCategoryId", required = false) Long subCategoryId) {
 
-    Pageable pageable = PageRequest.of(page, size);
+    if (cursor != null || page == 0) {
+        return feedResponse(() -> productService.getProductsFeedByBrandId(brandId, mainCategoryId, subCategoryId, cursor, PageSize.clamp(size)));
+    }
+
+    Pageable pageable = PageRequest.of(page, PageSize.clamp(size));
     List<List<ProductImageDTO>> imageLists = productService.getProductsImagesByBrandId(brandId,mainCategoryId, subCategoryId, pageable);
 
-    return imageLists.stream()
-            .map(images -> Map.of("images", images))
-            .toList();
+    return ResponseEntity.ok(wrapImages(imageLists));
 }
 
 
@@ -83,7 +95,7 @@ public List<ProductImageDTO> getProductsByMainCategory(
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size) {
 
-    Pageable pageable = PageRequest.of(page, size);
+    Pageable pageable = PageRequest.of(page, PageSize.clamp(size));
     return productService.getProductsByMainCategoryId(mainCategoryId, pageable);
 }
 
@@ -94,63 +106,72 @@ public List<ProductImageDTO> getProductsByCategory(
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size) {
 
-    Pageable pageable = PageRequest.of(page, size);
+    Pageable pageable = PageRequest.of(page, PageSize.clamp(size));
     return productService.getProductsByCategorySubId(subCategoryId, pageable);
 }
 @GetMapping("/high-rated")
-public List<Map<String, List<ProductImageDTO>>> getHighRatedProductsImagesOnly(
+public ResponseEntity<List<Map<String, List<ProductImageDTO>>>> getHighRatedProductsImagesOnly(
         @RequestParam(defaultValue = "4.5") Double minRating,
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size,
+        @RequestParam(value = "cursor", required = false) String cursor,
         @RequestParam(value = "mainCategoryId", required = false) Long mainCategoryId,
         @RequestParam(value = "subCategoryId", required = false) Long subCategoryId
 ) {
-    Pageable pageable = PageRequest.of(page, size);
+    if (cursor != null || page == 0) {
+        return feedResponse(() -> productService.getHighRatedProductsFeed(minRating, mainCategoryId, subCategoryId, cursor, PageSize.clamp(size)));
+    }
+
+    Pageable pageable = PageRequest.of(page, PageSize.clamp(size));
 
     List<List<ProductImageDTO>> imageLists =
             productService.getHighRatedProductsImagesOnly(minRating, mainCategoryId, subCategoryId, pageable);
 
-    return imageLists.stream()
-            .map(images -> Map.of("images", images))
-            .toList();
+    return ResponseEntity.ok(wrapImages(imageLists));
 }
 
    /**
      * 최신 상품 이미지 리스트 조회
      */
     @GetMapping("/new")
-public List<Map<String, List<ProductImageDTO>>> getNewProductsImages(
+public ResponseEntity<List<Map<String, List<ProductImageDTO>>>> getNewProductsImages(
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size,
+        @RequestParam(value = "cursor", required = false) String cursor,
         @RequestParam(value = "mainCategoryId", required = false) Long mainCategoryId,
         @RequestParam(value = "subCategoryId", required = false) Long subCategoryId) {
 
-    Pageable pageable = PageRequest.of(page, size);
+    if (cursor != null || page == 0) {
+        return feedResponse(() -> productService.getNewProductsFeed(mainCategoryId, subCategoryId, cursor, PageSize.clamp(size)));
+    }
+
+    Pageable pageable = PageRequest.of(page, PageSize.clamp(size));
     List<List<ProductImageDTO>> imageLists = productService.getNewProductsImages( mainCategoryId, subCategoryId, pageable);
 
-    return imageLists.stream()
-            .map(images -> Map.of("images", images))
-            .toList();
+    return ResponseEntity.ok(wrapImages(imageLists));
 }
 
     /**
      * 가성비 좋은 고평점 상품 이미지 리스트 조회
      */
     @GetMapping("/affordable")
-public List<Map<String, List<ProductImageDTO>>> getAffordableHighRatedProductsImages(
+public ResponseEntity<List<Map<String, List<ProductImageDTO>>>> getAffordableHighRatedProductsImages(
         @RequestParam("maxPrice") Integer maxPrice,
         @RequestParam("minRating") Double minRating,
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size,
+        @RequestParam(value = "cursor", required = false) String cursor,
         @RequestParam(value = "mainCategoryId", required = false) Long mainCategoryId,
         @RequestParam(value = "subCategoryId", required = false) Long subCategoryId) {
 
-    Pageable pageable = PageRequest.of(page, size);
+    if (cursor != null || page == 0) {
+        return feedResponse(() -> productService.getAffordableHighRatedProductsFeed(maxPrice, minRating, mainCategoryId, subCategoryId, cursor, PageSize.clamp(size)));
+    }
+
+    Pageable pageable = PageRequest.of(page, PageSize.clamp(size));
     List<List<ProductImageDTO>> imageLists = productService.getAffordableHighRatedProductsImages(maxPrice, minRating, mainCategoryId, subCategoryId, pageable);
 
-    return imageLists.stream()
-            .map(images -> Map.of("images", images))
-            .toList();
+    return ResponseEntity.ok(wrapImages(imageLists));
 }
 
     /**
@@ -167,13 +188,13 @@ public List<Map<String, List<ProductImageDTO>>> getAffordableHighRatedProductsIm
     }
 
     /**
-     * 모든 상품의 평점 업데이트
+     * 모든 상품의 평점 업데이트 (백그라운드 작업, 진행 상황은 GET /api/admin/products/rating-recompute)
      */
     @PostMapping("/update-all-ratings")
     public ResponseEntity<String> updateAllProductRatings() {
         try {
             productService.updateAllProductRatings();
-            return ResponseEntity.ok("모든 상품 평점이 업데이트되었습니다.");
+            return ResponseEntity.accepted().body("모든 상품 평점 재계산을 시작했습니다.");
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("평점 업데이트 실패: " + e.getMessage());
         }
@@ -184,10 +205,31 @@ public List<Map<String, List<ProductImageDTO>>> getAffordableHighRatedProductsIm
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
 
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = PageRequest.of(page, PageSize.clamp(size));
         return productService.getRecommendedProducts(memberId, pageable);
     }
 
-}
-    
+    /**
+     * 키셋 페이징 응답 - 본문은 기존 목록 형식 그대로, 다음 페이지 커서는 헤더로 (마지막 페이지면 없음)
+     */
+    private ResponseEntity<List<Map<String, List<ProductImageDTO>>>> feedResponse(Supplier<ProductFeedDTO> query) {
+        ProductFeedDTO feed;
+        try {
+            feed = query.get();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (feed.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, feed.getNextCursor());
+        }
+        return response.body(wrapImages(feed.getProducts()));
+    }
 
+    private static List<Map<String, List<ProductImageDTO>>> wrapImages(List<List<ProductImageDTO>> imageLists) {
+        return imageLists.stream()
+                .map(images -> Map.of("images", images))
+                .toList();
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.refitbackend.controller.product;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.refitbackend.dto.product.ProductCardDTO;
+import com.refitbackend.dto.product.ProductCardPageDTO;
+import com.refitbackend.dto.product.ProductFeedDTO;
+import com.refitbackend.dto.product.ProductImageDTO;
+import com.refitbackend.service.product.ProductService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 목록 v2 - 상품당 카드 하나 (상품 정보는 한 번만, 이미지는 URL 배열)
+ * 기존 /api/products 목록은 이미지마다 상품 정보를 반복해서 보냄
+ * 응답은 DTO 그대로 Jackson이 응답 스트림에 바로 직렬화 (중간 Map 없음)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v2/products")
+public class ProductV2Controller {
+
+    private final ProductService productService;
+
+    /**
+     * 브랜드별 상품 카드 (키셋 페이징, cursor가 없으면 첫 페이지)
+     */
+    @GetMapping("/by-brand")
+    public ResponseEntity<ProductCardPageDTO> getProductsByBrandId(
+            @RequestParam("brandId") Long brandId,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "mainCategoryId", required = false) Long mainCategoryId,
+            @RequestParam(value = "subCategoryId", required = false) Long subCategoryId) {
+
+        return feedResponse(() -> productService.getProductsFeedByBrandId(brandId, mainCategoryId, subCategoryId, cursor, PageSize.clamp(size)));
+    }
+
+    /**
+     * 평점 높은 상품 카드 (키셋 페이징)
+     */
+    @GetMapping("/high-rated")
+    public ResponseEntity<ProductCardPageDTO> getHighRatedProducts(
+            @RequestParam(defaultValue = "4.5") Double minRating,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "mainCategoryId", required = false) Long mainCategoryId,
+            @RequestParam(value = "subCategoryId", required = false) Long subCategoryId) {
+
+        return feedResponse(() -> productService.getHighRatedProductsFeed(minRating, mainCategoryId, subCategoryId, cursor, PageSize.clamp(size)));
+    }
+
+    /**
+     * 최신 상품 카드 (키셋 페이징)
+     */
+    @GetMapping("/new")
+    public ResponseEntity<ProductCardPageDTO> getNewProducts(
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "mainCategoryId", required = false) Long mainCategoryId,
+            @RequestParam(value = "subCategoryId", required = false) Long subCategoryId) {
+
+        return feedResponse(() -> productService.getNewProductsFeed(mainCategoryId, subCategoryId, cursor, PageSize.clamp(size)));
+    }
+
+    /**
+     * 가성비 좋은 고평점 상품 카드 (키셋 페이징)
+     */
+    @GetMapping("/affordable")
+    public ResponseEntity<ProductCardPageDTO> getAffordableHighRatedProducts(
+            @RequestParam("maxPrice") Integer maxPrice,
+            @RequestParam("minRating") Double minRating,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "mainCategoryId", required = false) Long mainCategoryId,
+            @RequestParam(value = "subCategoryId", required = false) Long subCategoryId) {
+
+        return feedResponse(() -> productService.getAffordableHighRatedProductsFeed(maxPrice, minRating, mainCategoryId, subCategoryId, cursor, PageSize.clamp(size)));
+    }
+
+    /**
+     * 메인 카테고리별 상품 카드 (페이징)
+     */
+    @GetMapping("/category/{mainCategoryId}")
+    public ProductCardPageDTO getProductsByMainCategory(
+            @PathVariable("mainCategoryId") Long mainCategoryId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        Pageable pageable = PageRequest.of(page, PageSize.clamp(size));
+        return cardPage(productService.getProductsByMainCategoryId(mainCategoryId, pageable));
+    }
+
+    /**
+     * 서브 카테고리별 상품 카드 (페이징)
+     */
+    @GetMapping("/category/{mainCategoryId}/{subCategoryId}")
+    public ProductCardPageDTO getProductsByCategory(
+            @PathVariable("mainCategoryId") Long mainCategoryId,
+            @PathVariable("subCategoryId") Long subCategoryId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        Pageable pageable = PageRequest.of(page, PageSize.clamp(size));
+        return cardPage(productService.getProductsByCategorySubId(subCategoryId, pageable));
+    }
+
+    /**
+     * 추천 상품 카드 (페이징)
+     */
+    @GetMapping("/recommendations/{memberId}")
+    public ProductCardPageDTO getRecommendedProducts(
+            @PathVariable String memberId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        Pageable pageable = PageRequest.of(page, PageSize.clamp(size));
+        return cardPage(productService.getRecommendedProducts(memberId, pageable).getContent());
+    }
+
+    /**
+     * 키셋 페이징 응답 - 잘못된 커서면 400
+     */
+    private ResponseEntity<ProductCardPageDTO> feedResponse(Supplier<ProductFeedDTO> query) {
+        ProductFeedDTO feed;
+        try {
+            feed = query.get();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<ProductCardDTO> cards = feed.getProducts().stream()
+                .filter(images -> !images.isEmpty())
+                .map(ProductCardDTO::fromImages)
+                .toList();
+        return ResponseEntity.ok(new ProductCardPageDTO(cards, feed.getNextCursor()));
+    }
+
+    private static ProductCardPageDTO cardPage(List<ProductImageDTO> images) {
+        return new ProductCardPageDTO(ProductCardDTO.fromFlatImages(images), null);
+    }
+}
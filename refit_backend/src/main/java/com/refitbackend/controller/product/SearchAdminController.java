@@ -0,0 +1,86 @@
+package com.refitbackend.controller.product;
+
+import com.refitbackend.service.product.search.SearchResultCache;
+import com.refitbackend.service.product.search.SearchTelemetry;
+import com.refitbackend.service.product.search.SynonymDictionary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 검색 관리 API (관리자 전용)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/search")
+@RequiredArgsConstructor
+public class SearchAdminController {
+
+    private final SynonymDictionary synonymDictionary;
+    private final SearchResultCache searchResultCache;
+    private final SearchTelemetry searchTelemetry;
+
+    /**
+     * 동의어 사전 즉시 다시 읽기
+     */
+    @PostMapping("/synonyms/reload")
+    public ResponseEntity<Map<String, Object>> reloadSynonyms() {
+        log.info("동의어 사전 재로드 요청");
+        synonymDictionary.reload();
+        return ResponseEntity.ok(Map.of(
+            "groupCount", synonymDictionary.groupCount(),
+            "termCount", synonymDictionary.termCount()
+        ));
+    }
+
+    /**
+     * 검색 결과 캐시 통계 (캐시 크기 조정용)
+     */
+    @GetMapping("/cache")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        return ResponseEntity.ok(Map.of(
+            "size", searchResultCache.size(),
+            "maxEntries", searchResultCache.getMaxEntries(),
+            "hitCount", searchResultCache.getHitCount(),
+            "missCount", searchResultCache.getMissCount(),
+            "evictionCount", searchResultCache.getEvictionCount(),
+            "hitRate", searchResultCache.getHitRate()
+        ));
+    }
+
+    /**
+     * 검색 결과 캐시 비우기
+     */
+    @DeleteMapping("/cache")
+    public ResponseEntity<Void> clearCache() {
+        log.info("검색 결과 캐시 초기화 요청");
+        searchResultCache.clear();
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 검색 통계 - 단계별 소요 시간, 인기 검색어, 결과 없는 검색어 (캐시 예열, 동의어 추가 대상 선정용)
+     */
+    @GetMapping("/telemetry")
+    public ResponseEntity<Map<String, Object>> getTelemetry(@RequestParam(defaultValue = "20") int size) {
+        int limit = Math.max(1, Math.min(size, searchTelemetry.getTopCapacity()));
+        return ResponseEntity.ok(Map.of(
+            "stages", searchTelemetry.getStageStats(),
+            "popularQueries", searchTelemetry.getPopularQueries(limit),
+            "zeroResultQueries", searchTelemetry.getZeroResultQueries(limit)
+        ));
+    }
+
+    /**
+     * 검색 통계 초기화
+     */
+    @DeleteMapping("/telemetry")
+    public ResponseEntity<Void> resetTelemetry() {
+        log.info("검색 통계 초기화 요청");
+        searchTelemetry.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
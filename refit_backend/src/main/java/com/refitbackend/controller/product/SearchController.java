@@ -1,6 +1,9 @@
 package com.refitbackend.controller.product;
 
 import com.refitbackend.dto.product.ProductImageDTO;
+import com.refitbackend.dto.product.SearchFilterDTO;
+import com.refitbackend.dto.product.SearchResultDTO;
+import com.refitbackend.dto.product.SuggestionDTO;
 import com.refitbackend.service.product.SearchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,6 +12,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -22,29 +26,48 @@ public class SearchController {
 
     /**
      * 통합 검색 - 상품명, 브랜드명, 설명, 카테고리에서 키워드 검색
+     * 브랜드, 카테고리, 가격 범위, 평점 필터와 제외 단어("-블랙") 지원
+     * 응답의 facets는 필터 적용 후 검색 결과 전체의 속성별 상품 수
      */
     @GetMapping("/products")
     public ResponseEntity<Map<String, Object>> searchProducts(
             @RequestParam("keyword") String keyword,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "brandId", required = false) Long brandId,
+            @RequestParam(value = "mainCategoryId", required = false) Long mainCategoryId,
+            @RequestParam(value = "subCategoryId", required = false) Long subCategoryId,
+            @RequestParam(value = "minPrice", required = false) Integer minPrice,
+            @RequestParam(value = "maxPrice", required = false) Integer maxPrice,
+            @RequestParam(value = "minRating", required = false) Integer minRating) {
         
         try {
-            log.info("검색 요청: keyword={}, page={}, size={}", keyword, page, size);
+            log.info("검색 요청: keyword={}, page={}, size={}, cursor={}", keyword, page, size, cursor);
+            
+            SearchFilterDTO filter = SearchFilterDTO.builder()
+                    .brandId(brandId)
+                    .mainCategoryId(mainCategoryId)
+                    .subCategoryId(subCategoryId)
+                    .minPrice(minPrice)
+                    .maxPrice(maxPrice)
+                    .minRating(minRating)
+                    .build();
             
             Pageable pageable = PageRequest.of(page, size);
-            List<ProductImageDTO> products = searchService.searchProducts(keyword, pageable);
-            long totalCount = searchService.getSearchResultCount(keyword);
+            SearchResultDTO result = searchService.search(keyword, filter, pageable, cursor);
             
-            Map<String, Object> response = Map.of(
-                "products", products,
-                "totalCount", totalCount,
-                "currentPage", page,
-                "pageSize", size,
-                "keyword", keyword
-            );
+            // cursor는 마지막 페이지에서 null이므로 Map.of 대신 HashMap 사용
+            Map<String, Object> response = new HashMap<>();
+            response.put("products", result.getProducts());
+            response.put("totalCount", result.getTotalCount());
+            response.put("currentPage", result.getCurrentPage());
+            response.put("pageSize", size);
+            response.put("keyword", keyword);
+            response.put("facets", result.getFacets());
+            response.put("cursor", result.getCursor());
             
-            log.info("검색 완료: {}개 상품 발견", products.size());
+            log.info("검색 완료: {}개 상품 발견", result.getProducts().size());
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
@@ -53,6 +76,29 @@ public class SearchController {
         }
     }
 
+    /**
+     * 검색어 자동완성 - 입력할 때마다 호출해도 되도록 메모리 사전에서만 조회
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<Map<String, Object>> suggest(
+            @RequestParam("prefix") String prefix,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        try {
+            List<SuggestionDTO> suggestions = searchService.suggest(prefix, size);
+            
+            Map<String, Object> response = Map.of(
+                "suggestions", suggestions,
+                "prefix", prefix
+            );
+            return ResponseEntity.ok(response);
+            
+        } catch (Exception e) {
+            log.error("자동완성 중 오류 발생", e);
+            return ResponseEntity.badRequest().body(Map.of("error", "자동완성 중 오류가 발생했습니다."));
+        }
+    }
+
     /**
      * 브랜드별 검색
      */
@@ -0,0 +1,31 @@
+package com.refitbackend.domain.batch;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 배치 작업 진행 위치
+ * 작업이 중간에 실패하거나 서버가 재시작돼도 lastProcessedId 다음부터 이어서 실행
+ */
+@Entity
+@Table(name = "job_checkpoints")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobCheckpoint {
+
+    @Id
+    private String jobName;
+
+    // 이 ID까지는 처리 완료
+    private Long lastProcessedId;
+
+    // RUNNING, COMPLETED, FAILED, CANCELLED
+    private String status;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,35 @@
+package com.refitbackend.domain.file;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 내용 주소 방식으로 저장된 업로드 파일 (같은 내용은 한 파일을 공유)
+ * refCount가 0이 되면 파일 삭제
+ */
+@Entity
+@Table(name = "stored_files")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoredFile {
+
+    // 저장 위치 기준 상대 경로 (예: reviewimages/ab/cd/abcd....jpg)
+    @Id
+    @Column(length = 255)
+    private String path;
+
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    private Long byteSize;
+
+    // 이 파일을 가리키는 업로드 수
+    private Integer refCount;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,37 @@
+package com.refitbackend.domain.image;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 업로드 이미지의 축소본 (고정 너비 JPEG)
+ * 목록 화면은 원본 대신 작은 축소본을 요청
+ */
+@Entity
+@Table(name = "image_derivatives", indexes = @Index(name = "idx_image_derivatives_original_url", columnList = "originalUrl"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImageDerivative {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 원본 URL (storeFile이 반환한 값)
+    @Column(nullable = false, length = 500)
+    private String originalUrl;
+
+    private Integer width;
+
+    @Column(nullable = false, length = 500)
+    private String url;
+
+    private Long byteSize;
+
+    private LocalDateTime createdAt;
+}
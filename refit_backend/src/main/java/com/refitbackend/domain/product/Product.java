@@ -8,7 +8,10 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.ColumnDefault;
+
 @Entity
+@EntityListeners(ProductEntityListener.class)
 @Table(name = "products")
 @Getter
 @Setter
@@ -33,6 +36,43 @@ public class Product {
 
     private Double rating;
 
+    // 리뷰 집계 - 리뷰 작성/수정/삭제 시 SQL 증감으로 갱신 (rating = ratingSum / reviewCount)
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Double ratingSum = 0.0;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer reviewCount = 0;
+
+    // 별점 분포 (반올림한 별점별 리뷰 수)
+    @Column(name = "rating1_count", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer rating1Count = 0;
+
+    @Column(name = "rating2_count", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer rating2Count = 0;
+
+    @Column(name = "rating3_count", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer rating3Count = 0;
+
+    @Column(name = "rating4_count", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer rating4Count = 0;
+
+    @Column(name = "rating5_count", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer rating5Count = 0;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
     private Category category;
@@ -90,4 +130,33 @@ public class Product {
         }
         this.rating = rating;
     }
+
+    /**
+     * 리뷰 집계 전체 교체 (리뷰 테이블에서 다시 계산할 때, 리뷰가 없으면 평점 null)
+     * @param histogram 1점 ~ 5점 리뷰 수
+     */
+    public void applyReviewAggregate(int reviewCount, double ratingSum, int[] histogram) {
+        this.reviewCount = reviewCount;
+        this.ratingSum = reviewCount > 0 ? ratingSum : 0.0;
+        this.rating1Count = histogram[0];
+        this.rating2Count = histogram[1];
+        this.rating3Count = histogram[2];
+        this.rating4Count = histogram[3];
+        this.rating5Count = histogram[4];
+        setRating(reviewCount > 0 ? ratingSum / reviewCount : null);
+    }
+
+    /**
+     * 별점 분포 (1점 ~ 5점 순)
+     */
+    public List<Integer> getRatingHistogram() {
+        return List.of(rating1Count, rating2Count, rating3Count, rating4Count, rating5Count);
+    }
+
+    /**
+     * 리뷰 평점이 속하는 별점 (반올림, 1 ~ 5)
+     */
+    public static int starOf(double rating) {
+        return (int) Math.max(1, Math.min(5, Math.round(rating)));
+    }
 }
@@ -0,0 +1,22 @@
+package com.refitbackend.domain.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 상품 변경 이벤트
+ * 상품이 생성/수정/삭제될 때 발행되며, 검색 인덱스 등 메모리 데이터 갱신에 사용
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class ProductChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Long productId;
+    private final Type type;
+}
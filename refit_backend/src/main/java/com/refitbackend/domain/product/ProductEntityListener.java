@@ -0,0 +1,41 @@
+package com.refitbackend.domain.product;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Product 엔티티 변경 감지 리스너
+ * JPA 라이프사이클 콜백을 ProductChangedEvent로 변환해서 발행
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onPostPersist(Product product) {
+        publish(product, ProductChangedEvent.Type.CREATED);
+    }
+
+    @PostUpdate
+    public void onPostUpdate(Product product) {
+        publish(product, ProductChangedEvent.Type.UPDATED);
+    }
+
+    @PostRemove
+    public void onPostRemove(Product product) {
+        publish(product, ProductChangedEvent.Type.DELETED);
+    }
+
+    private void publish(Product product, ProductChangedEvent.Type type) {
+        if (product.getId() != null) {
+            eventPublisher.publishEvent(new ProductChangedEvent(product.getId(), type));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.refitbackend.domain.product;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -12,6 +13,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 @Entity
+@EntityListeners(ProductOptionEntityListener.class)
 @Table(name = "product_options")
 @Getter
 @Setter
@@ -0,0 +1,18 @@
+package com.refitbackend.domain.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 상품 옵션 변경 이벤트
+ * 옵션이 추가/수정(재고 포함)/삭제될 때 발행되며, 상품 상세 캐시 무효화에 사용
+ * 검색 인덱스와 무관한 변경이라 ProductChangedEvent와 분리
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class ProductOptionChangedEvent {
+
+    private final Long productId;
+}
@@ -0,0 +1,29 @@
+package com.refitbackend.domain.product;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ProductOption 엔티티 변경 감지 리스너
+ * JPA 라이프사이클 콜백을 ProductOptionChangedEvent로 변환해서 발행
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductOptionEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChanged(ProductOption option) {
+        if (option.getProduct() != null && option.getProduct().getId() != null) {
+            eventPublisher.publishEvent(new ProductOptionChangedEvent(option.getProduct().getId()));
+        }
+    }
+}
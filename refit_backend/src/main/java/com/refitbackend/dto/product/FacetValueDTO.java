@@ -0,0 +1,20 @@
+package com.refitbackend.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색 결과 패싯 항목 (브랜드, 카테고리, 서브 카테고리)
+ * id는 검색 필터 파라미터로 그대로 사용
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FacetValueDTO {
+    private Long id;
+    private String name;
+    private int count;
+}
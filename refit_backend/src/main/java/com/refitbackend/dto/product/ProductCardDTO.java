@@ -0,0 +1,79 @@
+package com.refitbackend.dto.product;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 목록 카드 (v2)
+ * 상품 정보는 한 번만, 이미지는 순서대로 URL 배열로
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProductCardDTO {
+    private Long id;
+    private String name;
+    private String brandName;
+    private Double rating;
+    private Integer basePrice;
+    private Integer reviewCount;
+
+    // 대표 썸네일 (썸네일 지정 이미지, 없으면 첫 이미지)
+    private String thumbnail;
+
+    // 원본 이미지 URL (imageOrder 순)
+    private List<String> images;
+
+    /**
+     * 한 상품의 이미지 리스트 -> 카드 (이미지는 이미 imageOrder 순으로 정렬돼 있어야 함)
+     */
+    public static ProductCardDTO fromImages(List<ProductImageDTO> images) {
+        ProductImageDTO first = images.get(0);
+        List<String> urls = new ArrayList<>(images.size());
+        String thumbnail = null;
+        for (ProductImageDTO image : images) {
+            urls.add(image.getUrl());
+            if (thumbnail == null && Boolean.TRUE.equals(image.getIsThumbnail())) {
+                thumbnail = thumbnailOf(image);
+            }
+        }
+        return ProductCardDTO.builder()
+                .id(first.getProductId())
+                .name(first.getProductName())
+                .brandName(first.getBrandName())
+                .rating(first.getProductRating())
+                .basePrice(first.getProductBasePrice())
+                .reviewCount(first.getReviewCount())
+                .thumbnail(thumbnail != null ? thumbnail : thumbnailOf(first))
+                .images(urls)
+                .build();
+    }
+
+    /**
+     * 상품 순서대로 나열된 이미지 리스트 -> 상품별 카드 (첫 등장 순서 유지)
+     */
+    public static List<ProductCardDTO> fromFlatImages(List<ProductImageDTO> images) {
+        Map<Long, List<ProductImageDTO>> byProduct = new LinkedHashMap<>();
+        for (ProductImageDTO image : images) {
+            byProduct.computeIfAbsent(image.getProductId(), id -> new ArrayList<>()).add(image);
+        }
+        return byProduct.values().stream()
+                .map(ProductCardDTO::fromImages)
+                .toList();
+    }
+
+    private static String thumbnailOf(ProductImageDTO image) {
+        return image.getUrlThumbnail() != null ? image.getUrlThumbnail() : image.getUrl();
+    }
+}
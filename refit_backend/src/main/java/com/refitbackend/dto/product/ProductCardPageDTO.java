@@ -0,0 +1,24 @@
+package com.refitbackend.dto.product;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 카드 목록 한 페이지 (v2)
+ * 다음 페이지 커서는 키셋 페이징 목록에서만, 마지막 페이지면 생략
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProductCardPageDTO {
+    private List<ProductCardDTO> products;
+    private String nextCursor;
+}
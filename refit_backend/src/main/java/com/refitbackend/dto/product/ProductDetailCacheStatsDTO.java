@@ -0,0 +1,33 @@
+package com.refitbackend.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 상세 캐시 통계
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductDetailCacheStatsDTO {
+    private Integer size;
+    private Integer maxEntries;
+
+    private Long hitCount;
+    private Long missCount;
+    private Double hitRate;
+
+    // 같은 상품을 동시에 조회해서 DB 적재 한 번으로 합쳐진 요청 수
+    private Long coalescedCount;
+    private Long evictionCount;
+    private Long invalidationCount;
+
+    // DB 적재 횟수, 실패 횟수, 적재 시간
+    private Long loadCount;
+    private Long loadFailureCount;
+    private Double avgLoadMillis;
+    private Double maxLoadMillis;
+}
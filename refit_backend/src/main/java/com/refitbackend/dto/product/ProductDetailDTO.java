@@ -26,6 +26,10 @@ public class ProductDetailDTO {
     private String brandName; 
 
     private Double rating;
+    private Integer reviewCount;
+
+    // 별점 분포 (1점 ~ 5점 리뷰 수)
+    private List<Integer> ratingHistogram;
 
     private List<ProductOptionDTO> options;
     private List<ProductImageDTO> images;
@@ -0,0 +1,21 @@
+package com.refitbackend.dto.product;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 목록 한 페이지 (키셋 페이징)
+ * 상품마다 이미지 리스트, 다음 페이지 커서 (마지막 페이지면 null)
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductFeedDTO {
+    private List<List<ProductImageDTO>> products;
+    private String nextCursor;
+}
@@ -26,21 +26,4 @@ public class ProductImageDTO {
     // 2차 추가
     private String brandName;
     private Integer reviewCount;
-
-    public ProductImageDTO(Long id, String url, String urlThumbnail, String altText, Boolean isThumbnail, Integer imageOrder,
-                       Long productId, String productName, Double productRating, Integer productBasePrice,
-                       String brandName, Long reviewCount) {
-    this.id = id;
-    this.url = url;
-    this.urlThumbnail = urlThumbnail;
-    this.altText = altText;
-    this.isThumbnail = isThumbnail;
-    this.imageOrder = imageOrder;
-    this.productId = productId;
-    this.productName = productName;
-    this.productRating = productRating;
-    this.productBasePrice = productBasePrice;
-    this.brandName = brandName;
-    this.reviewCount = reviewCount.intValue(); // Integer 변환
 }
-}
\ No newline at end of file
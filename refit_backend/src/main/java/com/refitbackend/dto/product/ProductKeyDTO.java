@@ -0,0 +1,22 @@
+package com.refitbackend.dto.product;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 키셋 페이징용 상품 정렬 키 (ID, 평점, 등록일)
+ * 다음 페이지 커서를 만들 때 상품 엔티티를 읽지 않도록 쿼리에서 바로 조회
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductKeyDTO {
+    private Long id;
+    private Double rating;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,28 @@
+package com.refitbackend.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색 인덱스 구축용 DTO
+ * 검색 대상 필드(상품명, 설명, 브랜드명, 카테고리명, 서브 카테고리명)와 필터용 속성만 포함
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductSearchDocumentDTO {
+    private Long id;
+    private String name;
+    private String description;
+    private Long brandId;
+    private String brandName;
+    private Long categoryId;
+    private String categoryName;
+    private Long categorySubId;
+    private String categorySubName;
+    private Integer basePrice;
+    private Double rating;
+}
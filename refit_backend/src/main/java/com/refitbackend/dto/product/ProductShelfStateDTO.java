@@ -0,0 +1,25 @@
+package com.refitbackend.dto.product;
+
+import com.refitbackend.domain.product.ProductStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 홈 화면 진열대 조건에 쓰이는 상품 필드 (상품 변경이 진열대에 영향을 주는지 판단용)
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductShelfStateDTO {
+    private Long id;
+    private Long brandId;
+    private Long mainCategoryId;
+    private Long subCategoryId;
+    private ProductStatus status;
+    private Integer basePrice;
+    private Double rating;
+}
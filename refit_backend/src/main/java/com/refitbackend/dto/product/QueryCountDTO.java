@@ -0,0 +1,20 @@
+package com.refitbackend.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색어별 검색 횟수 (인기 검색어, 결과 없는 검색어)
+ * count는 근사값으로 실제 횟수보다 최대 error만큼 클 수 있음
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class QueryCountDTO {
+    private String query;
+    private long count;
+    private long error;
+}
@@ -0,0 +1,20 @@
+package com.refitbackend.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색 결과 구간 패싯 항목 (가격대, 평점대)
+ * min 이상 max 미만 (max가 null이면 상한 없음)
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RangeFacetDTO {
+    private Integer min;
+    private Integer max;
+    private int count;
+}
@@ -0,0 +1,39 @@
+package com.refitbackend.dto.product;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 평점 재계산 작업 진행 상황
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RatingRecomputeStatusDTO {
+    // IDLE, RUNNING, COMPLETED, FAILED, CANCELLED
+    private String status;
+
+    // 처리 범위 (상품 ID)
+    private Long fromId;
+    private Long toId;
+
+    // 이 ID까지는 처리 완료 (재개 시작 위치)
+    private Long checkpointId;
+
+    private Integer totalChunks;
+    private Integer completedChunks;
+
+    // 확인한 상품 수, 집계가 달라서 실제로 갱신한 상품 수
+    private Long scannedProducts;
+    private Long updatedProducts;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private Long elapsedMillis;
+    private String error;
+}
@@ -0,0 +1,23 @@
+package com.refitbackend.dto.product;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색 결과 패싯 - 검색 결과 전체(페이지 아님)의 속성별 상품 수
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SearchFacetsDTO {
+    private List<FacetValueDTO> brands;
+    private List<FacetValueDTO> categories;
+    private List<FacetValueDTO> subCategories;
+    private List<RangeFacetDTO> prices;
+    private List<RangeFacetDTO> ratings;
+}
@@ -0,0 +1,29 @@
+package com.refitbackend.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색 필터 조건
+ * null인 조건은 적용하지 않음
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SearchFilterDTO {
+    private Long brandId;
+    private Long mainCategoryId;
+    private Long subCategoryId;
+    private Integer minPrice;
+    private Integer maxPrice;
+
+    // 평점 이상 (예: 4면 4.0점 이상)
+    private Integer minRating;
+
+    public boolean hasPriceRange() {
+        return minPrice != null || maxPrice != null;
+    }
+}
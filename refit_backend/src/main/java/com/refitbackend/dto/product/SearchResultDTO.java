@@ -0,0 +1,30 @@
+package com.refitbackend.dto.product;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 통합 검색 결과
+ * 요청한 페이지의 상품과 전체 검색 결과 수를 함께 반환
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SearchResultDTO {
+    private List<ProductImageDTO> products;
+    private long totalCount;
+    private int currentPage;
+    private int pageSize;
+    private String keyword;
+
+    // 검색 결과 전체 기준 브랜드, 카테고리, 가격대, 평점대별 상품 수
+    private SearchFacetsDTO facets;
+
+    // 다음 페이지 요청 시 page 대신 전달하면 검색을 다시 하지 않고 이어서 조회 (마지막 페이지면 null)
+    private String cursor;
+}
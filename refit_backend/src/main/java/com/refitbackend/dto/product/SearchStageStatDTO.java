@@ -0,0 +1,20 @@
+package com.refitbackend.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색 단계별 소요 시간 통계
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SearchStageStatDTO {
+    private String stage;
+    private long count;
+    private double avgMillis;
+    private double maxMillis;
+}
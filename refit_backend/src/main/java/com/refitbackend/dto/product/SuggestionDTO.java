@@ -0,0 +1,20 @@
+package com.refitbackend.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색어 자동완성 항목
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SuggestionDTO {
+    private String text;
+
+    // 인기도 (해당 단어를 가진 상품 수)
+    private int weight;
+}
@@ -0,0 +1,28 @@
+package com.refitbackend.dto.review;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품별 리뷰 집계 (리뷰 수, 평점 합계, 별점 분포)
+ * Product의 집계 컬럼을 리뷰 테이블에서 다시 계산할 때 사용
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReviewAggregateDTO {
+    private Long productId;
+    private Long reviewCount;
+    private Double ratingSum;
+    private Long rating1Count;
+    private Long rating2Count;
+    private Long rating3Count;
+    private Long rating4Count;
+    private Long rating5Count;
+
+    public int[] getHistogram() {
+        return new int[] { rating1Count.intValue(), rating2Count.intValue(), rating3Count.intValue(),
+                rating4Count.intValue(), rating5Count.intValue() };
+    }
+}
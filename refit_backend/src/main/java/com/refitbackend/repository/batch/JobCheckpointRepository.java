@@ -0,0 +1,8 @@
+package com.refitbackend.repository.batch;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.refitbackend.domain.batch.JobCheckpoint;
+
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+}
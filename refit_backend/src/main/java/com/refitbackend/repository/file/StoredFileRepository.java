@@ -0,0 +1,58 @@
+package com.refitbackend.repository.file;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.refitbackend.domain.file.StoredFile;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * 참조 수 변경은 모두 한 문장으로 (읽고 쓰는 사이에 다른 트랜잭션이 끼어들지 않도록)
+ * 호출 측 트랜잭션이 있으면 그 트랜잭션에 참여하고, 행 잠금은 커밋할 때까지 유지됨
+ */
+public interface StoredFileRepository extends JpaRepository<StoredFile, String> {
+
+    /**
+     * 참조 추가 (행이 없으면 참조 수 1로 생성)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO stored_files (path, sha256, byte_size, ref_count, created_at) "
+            + "VALUES (:path, :sha256, :byteSize, 1, :createdAt) "
+            + "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1", nativeQuery = true)
+    int addReference(@Param("path") String path, @Param("sha256") String sha256,
+                     @Param("byteSize") long byteSize, @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 참조 하나 제거
+     * @return 1이면 제거됨, 0이면 기록이 없는 파일 (UUID 방식으로 저장된 파일 등)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoredFile f SET f.refCount = f.refCount - 1 WHERE f.path = :path AND f.refCount > 0")
+    int removeReference(@Param("path") String path);
+
+    /**
+     * 참조가 남지 않은 기록 삭제
+     * @return 1이면 삭제됨 (마지막 참조였음)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM StoredFile f WHERE f.path = :path AND f.refCount <= 0")
+    int deleteIfUnreferenced(@Param("path") String path);
+
+    /**
+     * 잠금 조회 - 다른 트랜잭션이 같은 경로에 참조를 추가하는 중이면 그 트랜잭션이 끝날 때까지 대기
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM StoredFile f WHERE f.path = :path")
+    Optional<StoredFile> findForUpdate(@Param("path") String path);
+}
@@ -0,0 +1,15 @@
+package com.refitbackend.repository.image;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.refitbackend.domain.image.ImageDerivative;
+
+public interface ImageDerivativeRepository extends JpaRepository<ImageDerivative, Long> {
+
+    List<ImageDerivative> findByOriginalUrlOrderByWidthAsc(String originalUrl);
+
+    List<ImageDerivative> findByOriginalUrlInOrderByWidthAsc(Collection<String> originalUrls);
+}
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.refitbackend.domain.product.ProductImage;
+import com.refitbackend.dto.product.ProductImageDTO;
 
 /**
  * 상품 원본 이미지 전용 Repository
@@ -17,26 +18,31 @@ import com.refitbackend.domain.product.ProductImage;
 public interface ProductImageRepository extends JpaRepository<ProductImage, Long>{
     
     /**
-     * 상품의 모든 이미지 조회 (N+1 문제 해결을 위한 fetch join)
+     * 상품 카드용 이미지 조회 - 엔티티 대신 필요한 컬럼만 DTO로 (Product, Review 엔티티를 읽지 않음)
+     * 리뷰 수는 상품의 집계 컬럼을 그대로 사용
      */
-    @Query("SELECT pi FROM ProductImage pi " +
-           "LEFT JOIN FETCH pi.product p " +
-           "LEFT JOIN FETCH p.brand " +
-           "LEFT JOIN FETCH p.reviews " +
-           "WHERE pi.product.id = :productId " +
+    @Query("SELECT new com.refitbackend.dto.product.ProductImageDTO(" +
+           "pi.id, pi.url, pi.urlThumbnail, pi.altText, pi.isThumbnail, pi.imageOrder, " +
+           "p.id, p.name, p.rating, p.basePrice, b.name, p.reviewCount) " +
+           "FROM ProductImage pi " +
+           "JOIN pi.product p " +
+           "LEFT JOIN p.brand b " +
+           "WHERE p.id = :productId " +
            "ORDER BY pi.imageOrder ASC")
-    List<ProductImage> findByProductIdWithFetch(@Param("productId") Long productId);
+    List<ProductImageDTO> findCardsByProductId(@Param("productId") Long productId);
     
     /**
-     * 여러 상품의 이미지를 한 번에 조회 (N+1 문제 해결)
+     * 여러 상품의 카드용 이미지를 한 번에 조회 (조회 비용은 페이지 크기에만 비례)
      */
-    @Query("SELECT pi FROM ProductImage pi " +
-           "LEFT JOIN FETCH pi.product p " +
-           "LEFT JOIN FETCH p.brand " +
-           "LEFT JOIN FETCH p.reviews " +
-           "WHERE pi.product.id IN :productIds " +
-           "ORDER BY pi.product.id, pi.imageOrder ASC")
-    List<ProductImage> findByProductIdsWithFetch(@Param("productIds") List<Long> productIds);
+    @Query("SELECT new com.refitbackend.dto.product.ProductImageDTO(" +
+           "pi.id, pi.url, pi.urlThumbnail, pi.altText, pi.isThumbnail, pi.imageOrder, " +
+           "p.id, p.name, p.rating, p.basePrice, b.name, p.reviewCount) " +
+           "FROM ProductImage pi " +
+           "JOIN pi.product p " +
+           "LEFT JOIN p.brand b " +
+           "WHERE p.id IN :productIds " +
+           "ORDER BY p.id, pi.imageOrder ASC")
+    List<ProductImageDTO> findCardsByProductIds(@Param("productIds") List<Long> productIds);
     
     /**
      * 상품의 모든 이미지 조회 (기존 메서드 유지)
@@ -1,17 +1,28 @@
 package com.refitbackend.repository.product;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.refitbackend.domain.product.Product;
+import com.refitbackend.dto.product.ProductKeyDTO;
+import com.refitbackend.dto.product.ProductSearchDocumentDTO;
+import com.refitbackend.dto.product.ProductShelfStateDTO;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
@@ -21,13 +32,17 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("select p from Product p where p.id = :id")
     Optional<Product> selectOne(@Param("id") Long id);
 
+    // 목록 조회는 2단계로 처리 (images 같은 컬렉션을 페이징 쿼리에서 fetch하면 Hibernate가 전체를 읽고 메모리에서 자름)
+    // 1. DB에서 상품 ID만 LIMIT/OFFSET으로 페이징
+    // 2. 목록 카드는 ID 페이지로 바로 조회하고, 엔티티가 필요한 곳(findByCategorySubId)만
+    //    해당 페이지 상품을 연관 엔티티(다대일)와 함께 한 번에 조회 (이미지는 ProductImageService에서 일괄 조회)
+
     // 평점 높은 상품들 페이징 조회 - 카테고리 필터링 추가
-    @EntityGraph(attributePaths = {"category", "brand", "images"})
-    @Query("select p from Product p where p.rating >= :minRating and p.rating is not null " +
+    @Query("select p.id from Product p where p.rating >= :minRating and p.rating is not null " +
            "and (:mainCategoryId is null or p.category.id = :mainCategoryId) " +
            "and (:subCategoryId is null or p.categorySub.id = :subCategoryId) " +
-           "order by p.rating desc")
-    Page<Product> findByRatingGreaterThanEqualOrderByRatingDesc(
+           "order by p.rating desc, p.id desc")
+    Page<Long> findIdsByRatingGreaterThanEqual(
         @Param("minRating") Double minRating,
         @Param("mainCategoryId") Long mainCategoryId,
         @Param("subCategoryId") Long subCategoryId,
@@ -35,44 +50,44 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     );
 
    // 브랜드별 상품 조회 (페이징)
-   @EntityGraph(attributePaths = {"category", "brand", "images"})
-   @Query("select p from Product p where p.brand.id = :brandId " +
+   @Query("select p.id from Product p where p.brand.id = :brandId " +
       "and (:mainCategoryId is null or p.category.id = :mainCategoryId) " +
-      "and (:subCategoryId is null or p.categorySub.id = :subCategoryId)")
-   Page<Product> findByBrandId(@Param("brandId") Long brandId, 
+      "and (:subCategoryId is null or p.categorySub.id = :subCategoryId) " +
+      "order by p.id desc")
+   Page<Long> findIdsByBrandId(@Param("brandId") Long brandId, 
    @Param("mainCategoryId") Long mainCategoryId,
    @Param("subCategoryId") Long subCategoryId,
    Pageable pageable);
 
     // 메인 카테고리별 상품 조회 (페이징)
-    @EntityGraph(attributePaths = {"category", "categorySub", "brand", "images"})
-    @Query("select p from Product p where p.category.id = :categoryId")
-    Page<Product> findByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+    @Query("select p.id from Product p where p.category.id = :categoryId")
+    Page<Long> findIdsByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
 
     // 서브 카테고리별 상품 조회 (페이징)
-    @EntityGraph(attributePaths = {"category", "categorySub", "brand", "images"})
-    @Query("select p from Product p where p.categorySub.id = :subCategoryId")
-    Page<Product> findByCategorySubId(@Param("subCategoryId") Long subCategoryId, Pageable pageable);
+    @Query("select p.id from Product p where p.categorySub.id = :subCategoryId")
+    Page<Long> findIdsByCategorySubId(@Param("subCategoryId") Long subCategoryId, Pageable pageable);
+
+    default Page<Product> findByCategorySubId(Long subCategoryId, Pageable pageable) {
+        return fetchPage(findIdsByCategorySubId(subCategoryId, pageable));
+    }
 
     // 최신 등록 상품들 (ACTIVE 상태만, 페이징) - 카테고리 필터링 추가
-    @EntityGraph(attributePaths = {"category", "brand", "images"})
-    @Query("select p from Product p where p.status = 'ACTIVE' " +
+    @Query("select p.id from Product p where p.status = 'ACTIVE' " +
            "and (:mainCategoryId is null or p.category.id = :mainCategoryId) " +
            "and (:subCategoryId is null or p.categorySub.id = :subCategoryId) " +
-           "order by p.createdAt desc")
-    Page<Product> findByStatusActiveOrderByCreatedAtDesc(
+           "order by p.createdAt desc, p.id desc")
+    Page<Long> findIdsByStatusActive(
         @Param("mainCategoryId") Long mainCategoryId,
         @Param("subCategoryId") Long subCategoryId,
         Pageable pageable
     );
 
     // 가성비 + 고평점 (페이징) - 카테고리 필터링 추가
-    @EntityGraph(attributePaths = {"category", "brand", "images"})
-    @Query("select p from Product p where p.basePrice <= :maxPrice and p.rating >= :minRating " +
+    @Query("select p.id from Product p where p.basePrice <= :maxPrice and p.rating >= :minRating " +
            "and (:mainCategoryId is null or p.category.id = :mainCategoryId) " +
            "and (:subCategoryId is null or p.categorySub.id = :subCategoryId) " +
-           "order by p.rating desc")
-    Page<Product> findAllAffordableHighRated(
+           "order by p.rating desc, p.id desc")
+    Page<Long> findAffordableHighRatedIds(
         @Param("maxPrice") Integer maxPrice,
         @Param("minRating") Double minRating,
         @Param("mainCategoryId") Long mainCategoryId,
@@ -80,48 +95,181 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
         Pageable pageable
     );
 
-    // Vision API용: 여러 카테고리 ID로 제품 검색
-    @EntityGraph(attributePaths = {"category", "categorySub", "brand", "images"})
-    @Query("select p from Product p where p.category.id in :categoryIds")
-    Page<Product> findByCategoryIdIn(@Param("categoryIds") List<Long> categoryIds, Pageable pageable);
-
-    // 통합 검색: 상품명, 브랜드명, 설명에서 키워드 검색
-    @EntityGraph(attributePaths = {"category", "categorySub", "brand", "images"})
-    @Query("select p from Product p where " +
-           "p.name like %:keyword% or " +
-           "p.description like %:keyword% or " +
-           "p.brand.name like %:keyword% or " +
-           "p.category.name like %:keyword% or " +
-           "p.categorySub.name like %:keyword%")
-    Page<Product> searchProducts(@Param("keyword") String keyword, Pageable pageable);
-
-    // 키워드 분리 검색: 여러 키워드로 검색 (AND 조건)
-    @EntityGraph(attributePaths = {"category", "categorySub", "brand", "images"})
-    @Query("select p from Product p where " +
-           "(:keyword1 = '' or p.name like %:keyword1% or p.description like %:keyword1% or p.brand.name like %:keyword1% or p.category.name like %:keyword1% or p.categorySub.name like %:keyword1%) and " +
-           "(:keyword2 = '' or p.name like %:keyword2% or p.description like %:keyword2% or p.brand.name like %:keyword2% or p.category.name like %:keyword2% or p.categorySub.name like %:keyword2%) and " +
-           "(:keyword3 = '' or p.name like %:keyword3% or p.description like %:keyword3% or p.brand.name like %:keyword3% or p.category.name like %:keyword3% or p.categorySub.name like %:keyword3%) and " +
-           "(:keyword4 = '' or p.name like %:keyword4% or p.description like %:keyword4% or p.brand.name like %:keyword4% or p.category.name like %:keyword4% or p.categorySub.name like %:keyword4%) and " +
-           "(:keyword5 = '' or p.name like %:keyword5% or p.description like %:keyword5% or p.brand.name like %:keyword5% or p.category.name like %:keyword5% or p.categorySub.name like %:keyword5%)")
-    Page<Product> searchProductsWithMultipleKeywords(
-        @Param("keyword1") String keyword1,
-        @Param("keyword2") String keyword2,
-        @Param("keyword3") String keyword3,
-        @Param("keyword4") String keyword4,
-        @Param("keyword5") String keyword5,
+    // 키셋 페이징: 평점 높은 상품 정렬 키 - 커서(평점, ID) 다음부터 (평점 같으면 ID 내림차순)
+    @Query("select new com.refitbackend.dto.product.ProductKeyDTO(p.id, p.rating, p.createdAt) " +
+           "from Product p where p.rating >= :minRating and p.rating is not null " +
+           "and (:mainCategoryId is null or p.category.id = :mainCategoryId) " +
+           "and (:subCategoryId is null or p.categorySub.id = :subCategoryId) " +
+           "and (:cursorId is null or p.rating < :cursorRating " +
+           "or (p.rating = :cursorRating and p.id < :cursorId)) " +
+           "order by p.rating desc, p.id desc")
+    List<ProductKeyDTO> findHighRatedKeysAfter(
+        @Param("minRating") Double minRating,
+        @Param("mainCategoryId") Long mainCategoryId,
+        @Param("subCategoryId") Long subCategoryId,
+        @Param("cursorRating") Double cursorRating,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
+    );
+
+    // 키셋 페이징: 브랜드별 상품 정렬 키 - 커서(ID) 다음부터
+    @Query("select new com.refitbackend.dto.product.ProductKeyDTO(p.id, p.rating, p.createdAt) " +
+           "from Product p where p.brand.id = :brandId " +
+           "and (:mainCategoryId is null or p.category.id = :mainCategoryId) " +
+           "and (:subCategoryId is null or p.categorySub.id = :subCategoryId) " +
+           "and (:cursorId is null or p.id < :cursorId) " +
+           "order by p.id desc")
+    List<ProductKeyDTO> findKeysByBrandIdAfter(
+        @Param("brandId") Long brandId,
+        @Param("mainCategoryId") Long mainCategoryId,
+        @Param("subCategoryId") Long subCategoryId,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
+    );
+
+    // 키셋 페이징: 최신 상품 정렬 키 (ACTIVE) - 커서(등록일, ID) 다음부터
+    // 등록일이 없는 상품은 맨 뒤 (MariaDB 내림차순 정렬에서 NULL이 마지막)
+    @Query("select new com.refitbackend.dto.product.ProductKeyDTO(p.id, p.rating, p.createdAt) " +
+           "from Product p where p.status = 'ACTIVE' " +
+           "and (:mainCategoryId is null or p.category.id = :mainCategoryId) " +
+           "and (:subCategoryId is null or p.categorySub.id = :subCategoryId) " +
+           "and (:cursorId is null " +
+           "or (:cursorCreatedAt is not null and (p.createdAt < :cursorCreatedAt or p.createdAt is null " +
+           "or (p.createdAt = :cursorCreatedAt and p.id < :cursorId))) " +
+           "or (:cursorCreatedAt is null and p.createdAt is null and p.id < :cursorId)) " +
+           "order by p.createdAt desc, p.id desc")
+    List<ProductKeyDTO> findNewKeysAfter(
+        @Param("mainCategoryId") Long mainCategoryId,
+        @Param("subCategoryId") Long subCategoryId,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
+    );
+
+    // 키셋 페이징: 가성비 + 고평점 상품 정렬 키 - 커서(평점, ID) 다음부터
+    @Query("select new com.refitbackend.dto.product.ProductKeyDTO(p.id, p.rating, p.createdAt) " +
+           "from Product p where p.basePrice <= :maxPrice and p.rating >= :minRating " +
+           "and (:mainCategoryId is null or p.category.id = :mainCategoryId) " +
+           "and (:subCategoryId is null or p.categorySub.id = :subCategoryId) " +
+           "and (:cursorId is null or p.rating < :cursorRating " +
+           "or (p.rating = :cursorRating and p.id < :cursorId)) " +
+           "order by p.rating desc, p.id desc")
+    List<ProductKeyDTO> findAffordableHighRatedKeysAfter(
+        @Param("maxPrice") Integer maxPrice,
+        @Param("minRating") Double minRating,
+        @Param("mainCategoryId") Long mainCategoryId,
+        @Param("subCategoryId") Long subCategoryId,
+        @Param("cursorRating") Double cursorRating,
+        @Param("cursorId") Long cursorId,
         Pageable pageable
     );
 
     // 브랜드별 검색
-    @EntityGraph(attributePaths = {"category", "categorySub", "brand", "images"})
-    @Query("select p from Product p where p.brand.name like %:brandName%")
-    Page<Product> findByBrandNameContaining(@Param("brandName") String brandName, Pageable pageable);
+    @Query("select p.id from Product p where p.brand.name like %:brandName%")
+    Page<Long> findIdsByBrandNameContaining(@Param("brandName") String brandName, Pageable pageable);
 
     // 카테고리별 검색
-    @EntityGraph(attributePaths = {"category", "categorySub", "brand", "images"})
-    @Query("select p from Product p where p.category.name like %:categoryName%")
-    Page<Product> findByCategoryNameContaining(@Param("categoryName") String categoryName, Pageable pageable);
+    @Query("select p.id from Product p where p.category.name like %:categoryName%")
+    Page<Long> findIdsByCategoryNameContaining(@Param("categoryName") String categoryName, Pageable pageable);
+
+    // 페이지 상품 일괄 조회: 연관 엔티티(다대일)만 함께 조회 - 컬렉션은 넣지 않음
+    @EntityGraph(attributePaths = {"category", "categorySub", "brand"})
+    @Query("select p from Product p where p.id in :ids")
+    List<Product> findWithAssociationsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * ID 페이지를 상품 페이지로 변환 (ID 순서와 전체 개수 유지)
+     */
+    default Page<Product> fetchPage(Page<Long> idPage) {
+        if (idPage.isEmpty()) {
+            return new PageImpl<>(List.of(), idPage.getPageable(), idPage.getTotalElements());
+        }
+        Map<Long, Product> productMap = findWithAssociationsByIdIn(idPage.getContent()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<Product> products = idPage.getContent().stream()
+                .map(productMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(products, idPage.getPageable(), idPage.getTotalElements());
+    }
 
     //?
     List<Product> findByIdIn(List<Long> ids);
+
+    /**
+     * 리뷰 집계 증감 - 평균을 다시 계산하지 않고 UPDATE 한 번으로 반영 (동시 리뷰 작성에도 증감이 유실되지 않음)
+     * rating은 반드시 첫 번째로 대입 (MariaDB는 SET을 왼쪽부터 적용해서 뒤쪽 대입은 바뀐 값을 읽음)
+     * 집계가 비어 있거나 (리뷰 수 0) 음수가 되는 경우는 적용하지 않음 -> 0을 반환하면 recomputeReviewAggregate로 다시 계산
+     * @param addedStar 추가된 리뷰의 별점 (없으면 0)
+     * @param removedStar 제거된 리뷰의 별점 (없으면 0)
+     * @return 반영된 행 수
+     */
+    @Modifying
+    @Query("update Product p set " +
+           "p.rating = case when p.reviewCount + :countDelta > 0 " +
+           "then (p.ratingSum + :sumDelta) / (p.reviewCount + :countDelta) else null end, " +
+           "p.ratingSum = case when p.reviewCount + :countDelta > 0 then p.ratingSum + :sumDelta else 0 end, " +
+           "p.reviewCount = p.reviewCount + :countDelta, " +
+           "p.rating1Count = p.rating1Count + case when :addedStar = 1 then 1 else 0 end - case when :removedStar = 1 then 1 else 0 end, " +
+           "p.rating2Count = p.rating2Count + case when :addedStar = 2 then 1 else 0 end - case when :removedStar = 2 then 1 else 0 end, " +
+           "p.rating3Count = p.rating3Count + case when :addedStar = 3 then 1 else 0 end - case when :removedStar = 3 then 1 else 0 end, " +
+           "p.rating4Count = p.rating4Count + case when :addedStar = 4 then 1 else 0 end - case when :removedStar = 4 then 1 else 0 end, " +
+           "p.rating5Count = p.rating5Count + case when :addedStar = 5 then 1 else 0 end - case when :removedStar = 5 then 1 else 0 end " +
+           "where p.id = :productId and p.reviewCount > 0 and p.reviewCount + :countDelta >= 0")
+    int applyReviewDelta(@Param("productId") Long productId,
+                         @Param("countDelta") int countDelta,
+                         @Param("sumDelta") double sumDelta,
+                         @Param("addedStar") int addedStar,
+                         @Param("removedStar") int removedStar);
+
+    /**
+     * 한 상품의 리뷰 집계를 리뷰 테이블에서 다시 계산 (UPDATE 한 번, 별점 구간은 Product.starOf와 같음)
+     */
+    @Modifying
+    @Query("update Product p set " +
+           "p.rating = (select avg(r.rating) from Review r where r.product.id = p.id), " +
+           "p.ratingSum = coalesce((select sum(r.rating) from Review r where r.product.id = p.id), 0), " +
+           "p.reviewCount = (select count(r) from Review r where r.product.id = p.id), " +
+           "p.rating1Count = (select count(r) from Review r where r.product.id = p.id and r.rating < 1.5), " +
+           "p.rating2Count = (select count(r) from Review r where r.product.id = p.id and r.rating >= 1.5 and r.rating < 2.5), " +
+           "p.rating3Count = (select count(r) from Review r where r.product.id = p.id and r.rating >= 2.5 and r.rating < 3.5), " +
+           "p.rating4Count = (select count(r) from Review r where r.product.id = p.id and r.rating >= 3.5 and r.rating < 4.5), " +
+           "p.rating5Count = (select count(r) from Review r where r.product.id = p.id and r.rating >= 4.5) " +
+           "where p.id = :productId")
+    int recomputeReviewAggregate(@Param("productId") Long productId);
+
+    // 평점 (리뷰가 없으면 null)
+    @Query("select p.rating from Product p where p.id = :productId")
+    Optional<Double> findRatingById(@Param("productId") Long productId);
+
+    // 리뷰 수
+    @Query("select p.reviewCount from Product p where p.id = :productId")
+    Optional<Integer> findReviewCountById(@Param("productId") Long productId);
+
+    // 검색 인덱스 구축용: 검색 대상 필드만 조회
+    @Query("select new com.refitbackend.dto.product.ProductSearchDocumentDTO(" +
+           "p.id, p.name, p.description, b.id, b.name, c.id, c.name, cs.id, cs.name, p.basePrice, p.rating) " +
+           "from Product p left join p.brand b left join p.category c left join p.categorySub cs")
+    List<ProductSearchDocumentDTO> findAllSearchDocuments();
+
+    // 검색 인덱스 갱신용: 단건 조회
+    @Query("select new com.refitbackend.dto.product.ProductSearchDocumentDTO(" +
+           "p.id, p.name, p.description, b.id, b.name, c.id, c.name, cs.id, cs.name, p.basePrice, p.rating) " +
+           "from Product p left join p.brand b left join p.category c left join p.categorySub cs " +
+           "where p.id = :id")
+    Optional<ProductSearchDocumentDTO> findSearchDocumentById(@Param("id") Long id);
+
+    // 홈 화면 진열대 갱신용: 진열대 조건에 쓰이는 필드만 조회
+    @Query("select new com.refitbackend.dto.product.ProductShelfStateDTO(" +
+           "p.id, b.id, c.id, cs.id, p.status, p.basePrice, p.rating) " +
+           "from Product p left join p.brand b left join p.category c left join p.categorySub cs " +
+           "where p.id in :ids")
+    List<ProductShelfStateDTO> findShelfStatesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 검색 결과 표시용: 여러 건 조회 (이미지가 없는 상품의 기본 이미지)
+    @Query("select new com.refitbackend.dto.product.ProductSearchDocumentDTO(" +
+           "p.id, p.name, p.description, b.id, b.name, c.id, c.name, cs.id, cs.name, p.basePrice, p.rating) " +
+           "from Product p left join p.brand b left join p.category c left join p.categorySub cs " +
+           "where p.id in :ids")
+    List<ProductSearchDocumentDTO> findSearchDocumentsByIdIn(@Param("ids") Collection<Long> ids);
 }
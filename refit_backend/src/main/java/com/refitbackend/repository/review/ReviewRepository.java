@@ -1,6 +1,7 @@
 package com.refitbackend.repository.review;
 
 import com.refitbackend.domain.review.Review;
+import com.refitbackend.dto.review.ReviewAggregateDTO;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -37,6 +38,19 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT AVG(r.rating) FROM Review r WHERE r.product.id = :productId")
     Double getAverageRatingByProductId(@Param("productId") Long productId);
 
+    // 상품별 리뷰 집계 - 별점은 반올림 기준 (Product.starOf와 같은 구간)
+    String AGGREGATE_SELECT = "SELECT new com.refitbackend.dto.review.ReviewAggregateDTO(r.product.id, COUNT(r), SUM(r.rating), " +
+            "SUM(CASE WHEN r.rating < 1.5 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.rating >= 1.5 AND r.rating < 2.5 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.rating >= 2.5 AND r.rating < 3.5 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.rating >= 3.5 AND r.rating < 4.5 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.rating >= 4.5 THEN 1 ELSE 0 END)) " +
+            "FROM Review r ";
+
+    // 한 상품의 리뷰 집계 (리뷰가 없으면 empty)
+    @Query(AGGREGATE_SELECT + "WHERE r.product.id = :productId GROUP BY r.product.id")
+    Optional<ReviewAggregateDTO> findAggregateByProductId(@Param("productId") Long productId);
+
     //신체기반 상품 추천 로직
     
     @Query(value = """
@@ -40,6 +40,12 @@ public class JWTCheckFilter extends OncePerRequestFilter {
         if (path.startsWith("/api/products/")) {
             return true;
         }
+        if (path.startsWith("/api/v2/products/")) {
+            return true;
+        }
+        if (path.startsWith("/api/images/")) {
+            return true;
+        }
         // 게시판 조회는 인증 없이 허용, 작성/수정/삭제는 인증 필요
         if (path.startsWith("/api/boards/") && request.getMethod().equals("GET")) {
             return true;
@@ -53,6 +59,9 @@ public class JWTCheckFilter extends OncePerRequestFilter {
         if (path.startsWith("/thumbs")) {
             return true; 
         }
+        if (path.startsWith("/img/")) {
+            return true;
+        }
         if (path.startsWith("/images")) {
             return true; 
         }
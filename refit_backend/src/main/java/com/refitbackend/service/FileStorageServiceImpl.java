@@ -1,27 +1,64 @@
 package com.refitbackend.service;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.refitbackend.repository.file.StoredFileRepository;
+import com.refitbackend.service.image.ImageDeletedEvent;
+import com.refitbackend.service.image.ImageStoredEvent;
+import com.refitbackend.service.storage.StorageBackend;
+
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.*;
-
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
 import java.util.UUID;
 
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드 파일 저장
+ * 실제 파일은 StorageBackend(로컬 디스크 또는 S3 호환 저장소)에 저장하고, 반환하는 URL 형식은 저장소와 관계없이 같음
+ */
+@Slf4j
 @Service
 public class FileStorageServiceImpl implements FileStorageService {
 
-    private final Path baseStorageLocation;
+    private final StorageBackend storageBackend;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StoredFileRepository storedFileRepository;
 
-    public FileStorageServiceImpl() {
-        // 기본 저장 위치: build/resources/main/static
-        this.baseStorageLocation = Paths.get("build/resources/main/static").toAbsolutePath().normalize();
-        try {
-            Files.createDirectories(this.baseStorageLocation);
-        } catch (Exception e) {
-            throw new RuntimeException("Could not create base upload directory!", e);
-        }
+    // 파일 삭제 확인용 별도 트랜잭션
+    private final TransactionTemplate cleanupTransaction;
+
+    // content: 내용(SHA-256) 기준 저장 - 같은 폴더에 같은 내용이 올라오면 파일 하나를 참조 수로 공유
+    // uuid: 업로드마다 새 UUID 파일
+    private final boolean contentAddressed;
+
+    public FileStorageServiceImpl(StorageBackend storageBackend,
+                                  ApplicationEventPublisher eventPublisher,
+                                  StoredFileRepository storedFileRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${file.storage.mode:uuid}") String mode) {
+        this.storageBackend = storageBackend;
+        this.eventPublisher = eventPublisher;
+        this.storedFileRepository = storedFileRepository;
+        this.cleanupTransaction = new TransactionTemplate(transactionManager);
+        this.cleanupTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.contentAddressed = "content".equalsIgnoreCase(mode);
     }
 
     @Override
@@ -37,38 +74,157 @@ public class FileStorageServiceImpl implements FileStorageService {
         int dotIndex = originalFileName.lastIndexOf('.');
         if (dotIndex > 0) extension = originalFileName.substring(dotIndex);
 
+        if (contentAddressed) {
+            if (originalFileName.contains("..")) {
+                throw new RuntimeException("Invalid path sequence " + originalFileName);
+            }
+            return storeByContent(file, subDirectory, extension.toLowerCase());
+        }
+
         String newFileName = UUID.randomUUID().toString() + extension;
 
         try {
             if (originalFileName.contains("..")) {
                 throw new RuntimeException("Invalid path sequence " + originalFileName);
             }
-            
-            // 서브 디렉토리 생성
-            Path targetDirectory = this.baseStorageLocation.resolve(subDirectory);
-            Files.createDirectories(targetDirectory);
-            
-            Path targetLocation = targetDirectory.resolve(newFileName);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
-            
+
+            // 업로드 스트림을 그대로 저장소에 전송
+            String key = subDirectory + "/" + newFileName;
+            try (InputStream in = file.getInputStream()) {
+                storageBackend.store(key, in, file.getSize(), file.getContentType());
+            }
+
             // 절대 경로 반환 (웹 접근용)
             // uploads 폴더의 경우 파일명만 반환 (프론트엔드에서 /uploads/ 경로를 추가함)
-            if ("uploads".equals(subDirectory)) {
-                return newFileName;
-            }
-            return "/" + subDirectory + "/" + newFileName;
+            String fileUrl = toUrl(subDirectory, newFileName);
+
+            // 이미지면 축소본 생성 (비동기, 업로드 응답은 기다리지 않음)
+            publishStored(fileUrl, key);
+            return fileUrl;
         } catch (IOException e) {
             throw new RuntimeException("Could not store file " + newFileName, e);
         }
     }
 
+    /**
+     * 참조 제거 - 실제 파일은 호출 측 트랜잭션이 커밋된 뒤 더 이상 참조가 없을 때만 삭제
+     * (롤백되면 참조 수도 파일도 그대로)
+     */
     @Override
     public void deleteFile(String fileUrl) {
+        String key = toKey(fileUrl);
+        if (storedFileRepository.removeReference(key) == 1 && storedFileRepository.deleteIfUnreferenced(key) == 0) {
+            // 다른 업로드가 아직 같은 파일을 사용
+            return;
+        }
+        afterCommit(() -> deleteIfUnreferenced(fileUrl, key));
+    }
+
+    /**
+     * 내용 주소 방식 저장
+     * 업로드 스트림을 임시 파일로 쓰면서 SHA-256 계산 -> {서브 디렉토리}/{해시 앞 2자리}/{다음 2자리}/{해시}{확장자}
+     * 참조를 먼저 추가하고 (같은 경로를 삭제 중인 트랜잭션이 있으면 끝날 때까지 대기) 파일이 없을 때만 저장
+     */
+    private String storeByContent(MultipartFile file, String subDirectory, String extension) {
+        Path temp = null;
         try {
-            Path filePath = this.baseStorageLocation.resolve(fileUrl).normalize();
-            Files.deleteIfExists(filePath);
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            temp = Files.createTempFile(storageBackend.tempDirectory(), "upload-", ".tmp");
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            String relative = sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256 + extension;
+            String key = subDirectory + "/" + relative;
+
+            storedFileRepository.addReference(key, sha256, Files.size(temp), LocalDateTime.now());
+            boolean created = !storageBackend.exists(key);
+            if (created) {
+                storageBackend.store(key, temp, file.getContentType());
+            }
+
+            // 같은 내용이 이미 있으면 축소본도 이미 있으므로 이벤트 없음
+            String fileUrl = toUrl(subDirectory, relative);
+            if (created) {
+                publishStored(fileUrl, key);
+            }
+            return fileUrl;
         } catch (IOException e) {
-            throw new RuntimeException("Could not delete file " + fileUrl, e);
+            throw new RuntimeException("Could not store file " + file.getOriginalFilename(), e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    /**
+     * 커밋 이후 실제 파일 삭제
+     * 잠금 조회로 확인하므로, 그 사이 같은 내용을 다시 올리는 트랜잭션이 있으면 그쪽이 끝난 뒤 판단
+     * (참조가 생겼으면 남기고, 먼저 지웠으면 그쪽이 파일이 없는 것을 보고 다시 저장)
+     */
+    private void deleteIfUnreferenced(String fileUrl, String key) {
+        try {
+            cleanupTransaction.executeWithoutResult(status -> {
+                if (storedFileRepository.findForUpdate(key).isPresent()) {
+                    return;
+                }
+                try {
+                    storageBackend.delete(key);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                storageBackend.localPath(key)
+                        .ifPresent(filePath -> eventPublisher.publishEvent(new ImageDeletedEvent(fileUrl, filePath)));
+            });
+        } catch (RuntimeException e) {
+            // 커밋 이후라 되돌릴 수 없음 - 파일만 남음
+            log.warn("파일 삭제 실패: {}", fileUrl, e);
+        }
+    }
+
+    /**
+     * 트랜잭션 중이면 커밋 이후, 아니면 바로 실행
+     */
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /**
+     * 축소본 생성은 로컬 디스크 저장소일 때만
+     */
+    private void publishStored(String fileUrl, String key) {
+        storageBackend.localPath(key)
+                .ifPresent(filePath -> eventPublisher.publishEvent(new ImageStoredEvent(fileUrl, filePath)));
+    }
+
+    // uploads 폴더의 경우 폴더 기준 경로만 반환 (프론트엔드에서 /uploads/ 경로를 추가함)
+    private static String toUrl(String subDirectory, String relative) {
+        return "uploads".equals(subDirectory) ? relative : "/" + subDirectory + "/" + relative;
+    }
+
+    /**
+     * storeFile이 반환한 URL -> 저장소 key ("/"로 시작하지 않으면 uploads 폴더 기준)
+     */
+    private static String toKey(String fileUrl) {
+        String key = fileUrl.startsWith("/") ? fileUrl.substring(1) : "uploads/" + fileUrl;
+        if (key.contains("..")) {
+            throw new RuntimeException("Invalid path sequence " + fileUrl);
         }
+        return key;
     }
 }
@@ -0,0 +1,22 @@
+package com.refitbackend.service.image;
+
+import java.nio.file.Path;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 업로드 파일 삭제 이벤트 - 해당 원본의 축소 이미지도 함께 삭제
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class ImageDeletedEvent {
+
+    // deleteFile에 전달된 URL
+    private final String url;
+
+    // 삭제된 원본 파일 (축소본은 같은 디렉터리에 있음)
+    private final Path path;
+}
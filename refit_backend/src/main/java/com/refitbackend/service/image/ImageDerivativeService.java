@@ -0,0 +1,222 @@
+package com.refitbackend.service.image;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.refitbackend.domain.image.ImageDerivative;
+import com.refitbackend.repository.image.ImageDerivativeRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import net.coobird.thumbnailator.tasks.UnsupportedFormatException;
+
+/**
+ * 업로드 이미지 축소본 생성
+ * 이미지가 저장되면 제한된 작업 스레드에서 고정 너비(기본 160/480/1080) JPEG 축소본을 원본 옆에 만들고 URL을 기록
+ * - 파일명: 원본이름_w너비.jpg (원본보다 큰 너비는 만들지 않음)
+ * - EXIF 회전은 반영하고 메타데이터는 남기지 않음, 투명 영역은 흰색으로
+ * - 작업 큐가 가득 차면 건너뜀 (원본은 그대로 사용 가능)
+ */
+@Slf4j
+@Service
+public class ImageDerivativeService {
+
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "bmp", "webp");
+
+    private final ImageDerivativeRepository imageDerivativeRepository;
+
+    private final List<Integer> widths;
+    private final float quality;
+    private final ThreadPoolExecutor executor;
+
+    public ImageDerivativeService(ImageDerivativeRepository imageDerivativeRepository,
+                                  @Value("${image.derivative.widths:160,480,1080}") List<Integer> widths,
+                                  @Value("${image.derivative.quality:0.8}") float quality,
+                                  @Value("${image.derivative.threads:2}") int threads,
+                                  @Value("${image.derivative.queue-capacity:200}") int queueCapacity) {
+        this.imageDerivativeRepository = imageDerivativeRepository;
+        this.widths = widths.stream().sorted().toList();
+        this.quality = quality;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-derivative-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 이미지 저장 이벤트 - 축소본 생성을 작업 큐에 넣고 바로 반환
+     */
+    @EventListener
+    public void onImageStored(ImageStoredEvent event) {
+        if (!isImage(event.getPath())) {
+            return;
+        }
+        try {
+            executor.execute(() -> generate(event.getUrl(), event.getPath()));
+        } catch (RejectedExecutionException e) {
+            log.warn("축소 이미지 작업 큐가 가득 차서 건너뜀: {}", event.getUrl());
+        }
+    }
+
+    /**
+     * 업로드 파일 삭제 이벤트 - 축소본 파일과 기록 삭제
+     */
+    @EventListener
+    public void onImageDeleted(ImageDeletedEvent event) {
+        List<ImageDerivative> derivatives = imageDerivativeRepository.findByOriginalUrlOrderByWidthAsc(event.getUrl());
+        if (derivatives.isEmpty()) {
+            return;
+        }
+        String fileName = event.getPath().getFileName().toString();
+        for (ImageDerivative derivative : derivatives) {
+            Path target = event.getPath().resolveSibling(derivativeName(fileName, derivative.getWidth()));
+            try {
+                Files.deleteIfExists(target);
+            } catch (IOException e) {
+                log.warn("축소 이미지 파일 삭제 실패: {}", target, e);
+            }
+        }
+        imageDerivativeRepository.deleteAll(derivatives);
+    }
+
+    /**
+     * 원본 URL별 축소본 URL (너비 오름차순, 축소본이 없는 원본은 빈 Map)
+     */
+    public Map<String, Map<Integer, String>> getVariants(Collection<String> originalUrls) {
+        Map<String, Map<Integer, String>> result = new LinkedHashMap<>();
+        for (String originalUrl : originalUrls) {
+            result.put(originalUrl, new LinkedHashMap<>());
+        }
+        if (originalUrls.isEmpty()) {
+            return result;
+        }
+        for (ImageDerivative derivative : imageDerivativeRepository.findByOriginalUrlInOrderByWidthAsc(originalUrls)) {
+            result.get(derivative.getOriginalUrl()).put(derivative.getWidth(), derivative.getUrl());
+        }
+        return result;
+    }
+
+    /**
+     * 요청 너비 이상인 가장 작은 축소본 URL (없으면 원본 URL)
+     */
+    public String variantUrl(String originalUrl, int width) {
+        for (ImageDerivative derivative : imageDerivativeRepository.findByOriginalUrlOrderByWidthAsc(originalUrl)) {
+            if (derivative.getWidth() >= width) {
+                return derivative.getUrl();
+            }
+        }
+        return originalUrl;
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void generate(String url, Path original) {
+        long start = System.currentTimeMillis();
+        try {
+            // 한 번만 디코딩 (Thumbnailator가 EXIF 회전을 반영해서 읽음), 이후 너비별로 축소
+            BufferedImage source;
+            try {
+                source = Thumbnails.of(original.toFile()).scale(1.0).asBufferedImage();
+            } catch (UnsupportedFormatException e) {
+                log.warn("지원하지 않는 이미지 형식이라 축소본을 만들지 않음: {}", url);
+                return;
+            }
+
+            List<ImageDerivative> derivatives = new ArrayList<>();
+            for (int width : widths) {
+                if (width >= source.getWidth()) {
+                    break;
+                }
+                Path target = original.resolveSibling(derivativeName(original.getFileName().toString(), width));
+                Thumbnails.of(source)
+                        .width(width)
+                        .addFilter(ImageDerivativeService::flatten)
+                        .outputFormat("jpg")
+                        .outputQuality(quality)
+                        .toFile(target.toFile());
+                derivatives.add(ImageDerivative.builder()
+                        .originalUrl(url)
+                        .width(width)
+                        .url(derivativeName(url, width))
+                        .byteSize(Files.size(target))
+                        .createdAt(LocalDateTime.now())
+                        .build());
+            }
+            if (!derivatives.isEmpty()) {
+                imageDerivativeRepository.saveAll(derivatives);
+            }
+            log.info("축소 이미지 생성: {} ({}px, {}개, {}ms)", url, source.getWidth(), derivatives.size(),
+                    System.currentTimeMillis() - start);
+        } catch (IOException | RuntimeException e) {
+            log.error("축소 이미지 생성 실패: {}", url, e);
+        }
+    }
+
+    /**
+     * 원본 파일명/URL -> 축소본 파일명/URL (확장자를 _w너비.jpg로 교체)
+     */
+    static String derivativeName(String name, int width) {
+        int slash = name.lastIndexOf('/');
+        int dot = name.lastIndexOf('.');
+        String base = dot > slash ? name.substring(0, dot) : name;
+        return base + "_w" + width + ".jpg";
+    }
+
+    private static boolean isImage(Path path) {
+        String fileName = path.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 && IMAGE_EXTENSIONS.contains(fileName.substring(dot + 1).toLowerCase());
+    }
+
+    /**
+     * 투명 영역을 흰색으로 채운 RGB 이미지 (JPEG는 알파 채널을 지원하지 않음)
+     */
+    static BufferedImage flatten(BufferedImage image) {
+        if (!image.getColorModel().hasAlpha()) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+}
@@ -0,0 +1,390 @@
+package com.refitbackend.service.image;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.refitbackend.service.storage.StorageBackend;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import net.coobird.thumbnailator.tasks.UnsupportedFormatException;
+
+/**
+ * 이미지 크기 변환 (요청 시 생성)
+ * /images, /thumbs와 업로드 폴더(/uploads, /reviewimages, /donation) 아래 원본을 지정한 상자(가로 x 세로) 안에 맞춰 줄인 JPEG를 만들고 디스크 캐시에 보관
+ * - 캐시 키: 원본 경로 + 원본 수정 시각/크기 + 요청 크기 (원본이 바뀌면 다른 키)
+ * - 캐시 전체 크기가 한도를 넘으면 가장 오래 사용하지 않은 파일부터 삭제 (LRU)
+ *   단, 최근 pin-ms 안에 반환한 파일은 전송 중일 수 있으므로 (sendfile은 요청 처리 이후 파일을 엶) 삭제하지 않음
+ * - 같은 변환을 동시에 여러 요청이 놓치면 한 번만 만들고 나머지는 기다림
+ * - 동시 변환 수를 제한해서 CPU 보호 (대기가 길어지면 IllegalStateException)
+ */
+@Slf4j
+@Service
+public class ImageResizeService {
+
+    // 정적 이미지 폴더 (업로드 폴더는 StorageBackend.UPLOAD_ROOTS, 로컬 디스크 저장소일 때만 변환 가능)
+    private static final Set<String> STATIC_ROOTS = Set.of("images", "thumbs");
+
+    private final StorageBackend storageBackend;
+
+    private final Path baseStorageLocation = Paths.get("build/resources/main/static").toAbsolutePath().normalize();
+
+    private final Path cacheDirectory;
+    private final long maxCacheBytes;
+    private final int maxDimension;
+    private final float quality;
+    private final long encodeWaitMillis;
+    private final long pinMillis;
+    private final Semaphore encodePermits;
+
+    // 캐시 키 -> 파일 크기와 마지막 사용 시각 (사용 순서, 가장 오래 사용하지 않은 항목이 앞)
+    private final LinkedHashMap<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long cacheBytes;
+
+    // 생성 중인 캐시 키 -> 결과 파일
+    private final Map<String, CompletableFuture<Path>> encoding = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ImageResizeService(StorageBackend storageBackend,
+                              @Value("${image.resize.cache-dir:build/image-cache}") String cacheDir,
+                              @Value("${image.resize.max-cache-bytes:536870912}") long maxCacheBytes,
+                              @Value("${image.resize.max-dimension:2000}") int maxDimension,
+                              @Value("${image.resize.quality:0.8}") float quality,
+                              @Value("${image.resize.max-concurrent:2}") int maxConcurrent,
+                              @Value("${image.resize.encode-wait-ms:10000}") long encodeWaitMillis,
+                              @Value("${image.resize.pin-ms:60000}") long pinMillis) {
+        this.storageBackend = storageBackend;
+        this.cacheDirectory = Paths.get(cacheDir).toAbsolutePath().normalize();
+        this.maxCacheBytes = maxCacheBytes;
+        this.maxDimension = maxDimension;
+        this.quality = quality;
+        this.encodeWaitMillis = encodeWaitMillis;
+        this.pinMillis = pinMillis;
+        this.encodePermits = new Semaphore(maxConcurrent);
+        try {
+            Files.createDirectories(cacheDirectory);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not create image cache directory!", e);
+        }
+    }
+
+    /**
+     * 크기 변환된 이미지 파일 (캐시에 없으면 생성)
+     * @param sourcePath 원본 웹 경로 (예: reviewimages/a.png)
+     * @param width 최대 가로 (0이면 세로만 맞춤)
+     * @param height 최대 세로 (0이면 가로만 맞춤)
+     * @return 변환된 파일 (원본이 없거나 이미지가 아니면 null)
+     * @throws IllegalArgumentException 허용하지 않는 경로나 크기
+     */
+    public Path resize(String sourcePath, int width, int height) {
+        if (width < 0 || height < 0 || (width == 0 && height == 0) || width > maxDimension || height > maxDimension) {
+            throw new IllegalArgumentException("Invalid size " + width + "x" + height);
+        }
+        Path source = resolveSource(sourcePath);
+        if (source == null) {
+            return null;
+        }
+
+        String key;
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(source, BasicFileAttributes.class);
+            key = cacheKey(source + "|" + attributes.lastModifiedTime().toMillis()
+                    + "|" + attributes.size() + "|" + width + "x" + height + "|" + quality);
+        } catch (IOException e) {
+            return null;
+        }
+
+        Path cached = lookup(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        CompletableFuture<Path> future = new CompletableFuture<>();
+        CompletableFuture<Path> inFlight = encoding.putIfAbsent(key, future);
+        if (inFlight != null) {
+            coalesced.increment();
+            return await(inFlight);
+        }
+        try {
+            Path result = encode(key, source, width, height);
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            encoding.remove(key, future);
+        }
+    }
+
+    public long getCacheBytes() {
+        synchronized (entries) {
+            return cacheBytes;
+        }
+    }
+
+    public int getCacheSize() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * 웹 경로 -> 원본 파일 (허용한 폴더 밖이면 IllegalArgumentException, 파일이 없거나 로컬 디스크에 없으면 null)
+     */
+    private Path resolveSource(String sourcePath) {
+        String relative = sourcePath.startsWith("/") ? sourcePath.substring(1) : sourcePath;
+        int slash = relative.indexOf('/');
+        String rootName = slash > 0 ? relative.substring(0, slash) : "";
+        boolean upload = StorageBackend.UPLOAD_ROOTS.contains(rootName);
+        if (!upload && !STATIC_ROOTS.contains(rootName)) {
+            throw new IllegalArgumentException("Invalid image path " + sourcePath);
+        }
+        Path root = baseStorageLocation.resolve(rootName);
+        Path source = baseStorageLocation.resolve(relative).normalize();
+        if (!source.startsWith(root)) {
+            throw new IllegalArgumentException("Invalid image path " + sourcePath);
+        }
+        if (upload) {
+            source = storageBackend.localPath(baseStorageLocation.relativize(source).toString().replace('\\', '/'))
+                    .orElse(null);
+        }
+        return source != null && Files.isRegularFile(source) ? source : null;
+    }
+
+    private Path encode(String key, Path source, int width, int height) {
+        try {
+            if (!encodePermits.tryAcquire(encodeWaitMillis, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Too many image resize requests");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for image resize", e);
+        }
+
+        long start = System.currentTimeMillis();
+        Path temp = null;
+        try {
+            // EXIF 회전을 반영해서 읽음
+            BufferedImage image;
+            try {
+                image = Thumbnails.of(source.toFile()).scale(1.0).asBufferedImage();
+            } catch (UnsupportedFormatException e) {
+                return null;
+            }
+
+            // 원본보다 크게 늘리지 않음
+            int boxWidth = width == 0 ? Integer.MAX_VALUE : width;
+            int boxHeight = height == 0 ? Integer.MAX_VALUE : height;
+            double scale = Math.min(1.0, Math.min((double) boxWidth / image.getWidth(), (double) boxHeight / image.getHeight()));
+
+            // 임시 파일에 쓴 뒤 이동 (읽는 쪽이 쓰다 만 파일을 보지 않도록)
+            temp = Files.createTempFile(cacheDirectory, key, ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                Thumbnails.of(image)
+                        .scale(scale)
+                        .addFilter(ImageDerivativeService::flatten)
+                        .outputFormat("jpg")
+                        .outputQuality(quality)
+                        .toOutputStream(out);
+            }
+            Path target = cacheDirectory.resolve(key + ".jpg");
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            temp = null;
+
+            store(key, Files.size(target), System.currentTimeMillis());
+            log.debug("이미지 크기 변환: {} -> {}x{} ({}ms)", source.getFileName(), width, height,
+                    System.currentTimeMillis() - start);
+            return target;
+        } catch (IOException e) {
+            throw new RuntimeException("Could not resize image " + source.getFileName(), e);
+        } finally {
+            encodePermits.release();
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    /**
+     * 캐시 파일 조회 - 찾으면 사용 시각을 갱신해서 pin-ms 동안 삭제 대상에서 제외
+     */
+    private Path lookup(String key) {
+        synchronized (entries) {
+            CacheEntry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            entry.lastUsed = System.currentTimeMillis();
+        }
+        Path file = cacheDirectory.resolve(key + ".jpg");
+        if (Files.exists(file)) {
+            return file;
+        }
+        // 외부에서 지워진 파일
+        synchronized (entries) {
+            CacheEntry entry = entries.remove(key);
+            if (entry != null) {
+                cacheBytes -= entry.size;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 새 캐시 파일 기록, 한도를 넘으면 오래된 파일부터 삭제
+     * 사용 순서로 정렬돼 있으므로 가장 오래된 항목이 최근에 반환됐으면 나머지도 모두 최근 항목 -> 한도를 잠시 넘더라도 중단
+     * @param lastUsed 마지막 사용 시각 (재시작 시에는 파일 수정 시각)
+     */
+    private void store(String key, long size, long lastUsed) {
+        List<String> evicted = new ArrayList<>();
+        synchronized (entries) {
+            CacheEntry previous = entries.put(key, new CacheEntry(size, lastUsed));
+            cacheBytes += size - (previous == null ? 0 : previous.size);
+            long pinnedSince = System.currentTimeMillis() - pinMillis;
+            Iterator<Map.Entry<String, CacheEntry>> iterator = entries.entrySet().iterator();
+            while (cacheBytes > maxCacheBytes && iterator.hasNext()) {
+                Map.Entry<String, CacheEntry> eldest = iterator.next();
+                if (eldest.getKey().equals(key)) {
+                    continue;
+                }
+                if (eldest.getValue().lastUsed > pinnedSince) {
+                    break;
+                }
+                cacheBytes -= eldest.getValue().size;
+                evicted.add(eldest.getKey());
+                iterator.remove();
+            }
+        }
+        for (String evictedKey : evicted) {
+            evictions.increment();
+            try {
+                Files.deleteIfExists(cacheDirectory.resolve(evictedKey + ".jpg"));
+            } catch (IOException e) {
+                log.warn("이미지 캐시 파일 삭제 실패: {}", evictedKey, e);
+            }
+        }
+    }
+
+    /**
+     * 재시작 시 기존 캐시 파일 등록 (수정 시각 순서를 사용 순서로 간주), 남은 임시 파일 삭제
+     */
+    @PostConstruct
+    private void loadExisting() {
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            List<Path> cachedFiles = files
+                    .filter(file -> {
+                        String fileName = file.getFileName().toString();
+                        if (fileName.endsWith(".tmp")) {
+                            // 변환 도중 종료된 임시 파일
+                            try {
+                                Files.deleteIfExists(file);
+                            } catch (IOException ignored) {
+                            }
+                            return false;
+                        }
+                        return fileName.endsWith(".jpg");
+                    })
+                    .sorted(Comparator.comparingLong(ImageResizeService::lastModified))
+                    .toList();
+            for (Path file : cachedFiles) {
+                String fileName = file.getFileName().toString();
+                store(fileName.substring(0, fileName.length() - ".jpg".length()), Files.size(file), lastModified(file));
+            }
+            log.info("이미지 크기 변환 캐시: {}개, {} bytes", getCacheSize(), getCacheBytes());
+        } catch (IOException e) {
+            log.warn("이미지 크기 변환 캐시 목록을 읽지 못함", e);
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static final class CacheEntry {
+        private final long size;
+        private long lastUsed;
+
+        private CacheEntry(long size, long lastUsed) {
+            this.size = size;
+            this.lastUsed = lastUsed;
+        }
+    }
+
+    private static String cacheKey(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Path await(CompletableFuture<Path> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
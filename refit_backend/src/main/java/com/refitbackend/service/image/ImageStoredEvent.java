@@ -0,0 +1,23 @@
+package com.refitbackend.service.image;
+
+import java.nio.file.Path;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 이미지 업로드 저장 완료 이벤트
+ * 축소 이미지(썸네일 등) 생성에 사용
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class ImageStoredEvent {
+
+    // storeFile이 반환한 URL (DB에 저장되는 값 그대로)
+    private final String url;
+
+    // 저장된 원본 파일
+    private final Path path;
+}
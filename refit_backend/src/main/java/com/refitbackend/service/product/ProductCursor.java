@@ -0,0 +1,81 @@
+package com.refitbackend.service.product;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 상품 목록 키셋 페이징 커서
+ * 마지막으로 보낸 상품의 정렬 값과 ID를 담은 불투명 토큰 (정렬 값이 같으면 ID 내림차순)
+ * 다음 페이지는 이 위치 뒤부터 조회하므로 페이지 깊이와 무관하게 비용이 같고,
+ * 앞쪽에 상품이 추가돼도 결과가 밀리지 않음
+ */
+public final class ProductCursor {
+
+    private static final String NULL_VALUE = "~";
+
+    private final String value;
+    private final long id;
+
+    private ProductCursor(String value, long id) {
+        this.value = value;
+        this.id = id;
+    }
+
+    public static ProductCursor ofCreatedAt(LocalDateTime createdAt, long id) {
+        return new ProductCursor(createdAt != null ? createdAt.toString() : null, id);
+    }
+
+    public static ProductCursor ofRating(Double rating, long id) {
+        return new ProductCursor(rating != null ? rating.toString() : null, id);
+    }
+
+    public static ProductCursor ofId(long id) {
+        return new ProductCursor(null, id);
+    }
+
+    /**
+     * 토큰 해석
+     * @return 커서 (토큰이 없으면 null)
+     * @throws IllegalArgumentException 형식이 잘못된 토큰
+     */
+    public static ProductCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('|');
+            String value = decoded.substring(0, separator);
+            long id = Long.parseLong(decoded.substring(separator + 1));
+            return new ProductCursor(NULL_VALUE.equals(value) ? null : value, id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + token);
+        }
+    }
+
+    public String encode() {
+        String raw = (value != null ? value : NULL_VALUE) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        try {
+            return value != null ? LocalDateTime.parse(value) : null;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + value);
+        }
+    }
+
+    public Double getRating() {
+        try {
+            return value != null ? Double.valueOf(value) : null;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.refitbackend.service.product;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.refitbackend.domain.product.ProductChangedEvent;
+import com.refitbackend.domain.product.ProductOptionChangedEvent;
+import com.refitbackend.dto.product.ProductDetailDTO;
+
+/**
+ * 상품 상세 캐시 (읽기 시 적재)
+ * - 최대 개수를 넘으면 가장 오래 사용하지 않은 항목부터 제거 (LRU), 저장 후 TTL이 지나면 만료
+ * - 같은 상품을 동시에 여러 요청이 놓치면 한 요청만 DB에서 읽고 나머지는 그 결과를 기다림
+ * - 상품(평점 포함), 옵션(재고 포함) 변경이 커밋되면 해당 상품 항목 삭제
+ * 저장된 DTO는 여러 요청이 공유하므로 호출 측에서 수정하지 않음
+ */
+@Component
+public class ProductDetailCache {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    private final LinkedHashMap<Long, Entry> entries;
+
+    // 적재 중인 상품 ID -> 적재 결과
+    private final Map<Long, CompletableFuture<ProductDetailDTO>> loading = new ConcurrentHashMap<>();
+
+    // 무효화할 때마다 증가 - 적재 중에 무효화되면 그 결과는 저장하지 않음 (변경 전 값일 수 있음)
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder totalLoadNanos = new LongAdder();
+    private final LongAccumulator maxLoadNanos = new LongAccumulator(Math::max, 0);
+
+    public ProductDetailCache(@Value("${product.detail-cache.max-entries:2000}") int maxEntries,
+                              @Value("${product.detail-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > ProductDetailCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 적재 (같은 상품의 동시 적재는 한 번만)
+     * loader가 던진 예외는 기다리던 요청에도 그대로 전달
+     */
+    public ProductDetailDTO get(Long id, Function<Long, ProductDetailDTO> loader) {
+        ProductDetailDTO cached = lookup(id);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        CompletableFuture<ProductDetailDTO> future = new CompletableFuture<>();
+        CompletableFuture<ProductDetailDTO> inFlight = loading.putIfAbsent(id, future);
+        if (inFlight != null) {
+            coalesced.increment();
+            return await(inFlight);
+        }
+
+        long startGeneration = generation.get();
+        long start = System.nanoTime();
+        try {
+            ProductDetailDTO detail = loader.apply(id);
+            recordLoad(start);
+            if (maxEntries > 0 && generation.get() == startGeneration) {
+                Entry entry = new Entry(detail, System.currentTimeMillis() + ttlMillis);
+                synchronized (entries) {
+                    entries.put(id, entry);
+                }
+            }
+            future.complete(detail);
+            return detail;
+        } catch (RuntimeException e) {
+            recordLoad(start);
+            loadFailures.increment();
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(id, future);
+        }
+    }
+
+    public void invalidate(Long id) {
+        generation.incrementAndGet();
+        invalidations.increment();
+        synchronized (entries) {
+            entries.remove(id);
+        }
+    }
+
+    /**
+     * 상품 변경 (평점 변경 포함) - 커밋 이후 삭제
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        invalidate(event.getProductId());
+    }
+
+    /**
+     * 옵션 변경 (재고 변경 포함) - 커밋 이후 삭제
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductOptionChanged(ProductOptionChangedEvent event) {
+        invalidate(event.getProductId());
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 다른 요청의 적재 결과를 기다린 횟수 (DB 조회 없이 처리된 미스)
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public long getInvalidationCount() {
+        return invalidations.sum();
+    }
+
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    public long getLoadFailureCount() {
+        return loadFailures.sum();
+    }
+
+    /**
+     * 적중률 (조회가 없으면 0)
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * 평균 적재 시간 (ms)
+     */
+    public double getAverageLoadMillis() {
+        long count = loadCount.sum();
+        return count == 0 ? 0 : totalLoadNanos.sum() / 1_000_000.0 / count;
+    }
+
+    /**
+     * 최대 적재 시간 (ms)
+     */
+    public double getMaxLoadMillis() {
+        return maxLoadNanos.get() / 1_000_000.0;
+    }
+
+    private ProductDetailDTO lookup(Long id) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt < now) {
+                entries.remove(id);
+                return null;
+            }
+            return entry.detail;
+        }
+    }
+
+    private void recordLoad(long startNanos) {
+        long nanos = System.nanoTime() - startNanos;
+        loadCount.increment();
+        totalLoadNanos.add(nanos);
+        maxLoadNanos.accumulate(nanos);
+    }
+
+    private static ProductDetailDTO await(CompletableFuture<ProductDetailDTO> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry {
+        private final ProductDetailDTO detail;
+        private final long expiresAt;
+
+        private Entry(ProductDetailDTO detail, long expiresAt) {
+            this.detail = detail;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -6,8 +6,6 @@ import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
-import com.refitbackend.domain.product.Product;
-import com.refitbackend.domain.product.ProductImage;
 import com.refitbackend.dto.product.ProductImageDTO;
 import com.refitbackend.repository.product.ProductImageRepository;
 
@@ -22,10 +20,8 @@ public class ProductImageServiceImpl implements ProductImageService {
 
     @Override
     public List<ProductImageDTO> getByProductId(Long productId) {
-        // N+1 문제 해결을 위해 fetch join 사용
-        return productImageRepository.findByProductIdWithFetch(productId).stream() 
-                .map(this::entityToDTO)
-                .toList();
+        // 카드 컬럼만 DTO로 조회 (리뷰 엔티티를 읽지 않음)
+        return productImageRepository.findCardsByProductId(productId);
     }
 
     @Override
@@ -34,34 +30,12 @@ public class ProductImageServiceImpl implements ProductImageService {
             return Map.of();
         }
         
-        // N+1 문제 해결을 위해 fetch join 사용
-        List<ProductImage> images = productImageRepository.findByProductIdsWithFetch(productIds);
+        // 한 번의 쿼리로 카드 컬럼만 조회
+        List<ProductImageDTO> images = productImageRepository.findCardsByProductIds(productIds);
         
         // 상품 ID별로 그룹화
         return images.stream()
-                .collect(Collectors.groupingBy(
-                    image -> image.getProduct().getId(),
-                    Collectors.mapping(this::entityToDTO, Collectors.toList())
-                ));
+                .collect(Collectors.groupingBy(ProductImageDTO::getProductId));
     }
 
-private ProductImageDTO entityToDTO(ProductImage productImage) {
-    Product product = productImage.getProduct();
-
-    return ProductImageDTO.builder()
-            .id(productImage.getId())
-            .url(productImage.getUrl())
-            .urlThumbnail(productImage.getUrlThumbnail())
-            .altText(productImage.getAltText())
-            .isThumbnail(productImage.getIsThumbnail())
-            .imageOrder(productImage.getImageOrder())
-            .productId(product != null ? product.getId() : null)
-            .productName(product != null ? product.getName() : null)
-            .productRating(product != null ? product.getRating() : null)
-            .productBasePrice(product != null ? product.getBasePrice() : null)
-            .brandName(product != null && product.getBrand() != null ? product.getBrand().getName() : null)
-            .reviewCount(product != null ? product.getReviews().size() : 0)  // 이제 fetch join으로 미리 로드됨
-            .build();
 }
-
-}
\ No newline at end of file
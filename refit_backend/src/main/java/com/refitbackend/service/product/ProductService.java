@@ -7,6 +7,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.refitbackend.dto.product.ProductDetailDTO;
+import com.refitbackend.dto.product.ProductFeedDTO;
 import com.refitbackend.dto.product.ProductImageDTO;
 
 @Transactional
@@ -31,6 +32,21 @@ public interface ProductService {
     List<List<ProductImageDTO>> getAffordableHighRatedProductsImages(Integer maxPrice, Double minRating, Long mainCategoryId,
     Long subCategoryId, Pageable pageable);
 
+    // 평점 높은 상품 (키셋 페이징, 커서가 없으면 첫 페이지)
+    ProductFeedDTO getHighRatedProductsFeed(Double minRating, Long mainCategoryId,
+    Long subCategoryId, String cursor, int size);
+
+    // 브랜드별 상품 (키셋 페이징)
+    ProductFeedDTO getProductsFeedByBrandId(Long brandId, Long mainCategoryId,
+    Long subCategoryId, String cursor, int size);
+
+    // 최신 상품 (키셋 페이징)
+    ProductFeedDTO getNewProductsFeed(Long mainCategoryId, Long subCategoryId, String cursor, int size);
+
+    // 가성비 + 평점 조건 상품 (키셋 페이징)
+    ProductFeedDTO getAffordableHighRatedProductsFeed(Integer maxPrice, Double minRating, Long mainCategoryId,
+    Long subCategoryId, String cursor, int size);
+
     // 서브 카테고리별 상품 (페이징)
     List<ProductImageDTO> getProductsByCategorySubId(Long subCategoryId, Pageable pageable);
 
@@ -41,7 +57,7 @@ public interface ProductService {
     // 상품 평점 업데이트
     void updateProductRating(Long productId);
     
-    // 모든 상품 평점 업데이트
+    // 모든 상품 평점 업데이트 (백그라운드 배치 작업 시작)
     void updateAllProductRatings();
     
     //추천 
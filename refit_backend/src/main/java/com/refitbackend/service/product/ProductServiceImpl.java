@@ -2,11 +2,12 @@ package com.refitbackend.service.product;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -14,7 +15,9 @@ import com.refitbackend.domain.member.Member;
 import com.refitbackend.domain.member.MemberBodyInfo;
 import com.refitbackend.domain.product.Product;
 import com.refitbackend.dto.product.ProductDetailDTO;
+import com.refitbackend.dto.product.ProductFeedDTO;
 import com.refitbackend.dto.product.ProductImageDTO;
+import com.refitbackend.dto.product.ProductKeyDTO;
 import com.refitbackend.dto.product.ProductOptionDTO;
 import com.refitbackend.repository.member.MemberBodyInfoRepository;
 import com.refitbackend.repository.member.MemberRepository;
@@ -32,9 +35,17 @@ public class ProductServiceImpl implements ProductService {
     private final ReviewRepository reviewRepository; 
     private final MemberRepository memberRepository;
     private final MemberBodyInfoRepository memberBodyInfoRepository;
+    private final ProductShelfService productShelfService;
+    private final ProductDetailCache productDetailCache;
+    private final RatingRecomputeJob ratingRecomputeJob;
 
+    // 상품 상세 (캐시에 없을 때만 DB 조회, 같은 상품 동시 조회는 한 번만)
     @Override
     public ProductDetailDTO get(Long id) {
+        return productDetailCache.get(id, this::loadDetail);
+    }
+
+    private ProductDetailDTO loadDetail(Long id) {
         Product product = productRepository.selectOne(id)
                 .orElseThrow(() -> new RuntimeException("상품 로딩 실패..."));
 
@@ -47,50 +58,16 @@ public class ProductServiceImpl implements ProductService {
 @Override
 public List<List<ProductImageDTO>> getHighRatedProductsImagesOnly(Double minRating,  Long mainCategoryId,
 Long subCategoryId, Pageable pageable) {
-    Page<Product> productsPage = productRepository.findByRatingGreaterThanEqualOrderByRatingDesc(minRating, mainCategoryId, subCategoryId, pageable);
-    List<Product> products = productsPage.getContent();
-    
-    if (products.isEmpty()) {
-        return List.of();
-    }
-    
-    // 상품 ID 목록 추출
-    List<Long> productIds = products.stream()
-            .map(Product::getId)
-            .collect(Collectors.toList());
-    
-    // 한 번에 모든 이미지 조회
-    Map<Long, List<ProductImageDTO>> imagesMap = productImageService.getByProductIds(productIds);
-    
-    // 상품 순서대로 이미지 반환
-    return products.stream()
-            .map(product -> imagesMap.getOrDefault(product.getId(), List.of()))
-            .collect(Collectors.toList());
+    Page<Long> productIds = productRepository.findIdsByRatingGreaterThanEqual(minRating, mainCategoryId, subCategoryId, pageable);
+    return imagesPerProduct(productIds.getContent());
 }
 
 // 브랜드별 상품 (페이징 적용)
 @Override
 public List<List<ProductImageDTO>> getProductsImagesByBrandId(Long brandId, Long mainCategoryId,
 Long subCategoryId, Pageable pageable) {
-    Page<Product> productsPage = productRepository.findByBrandId(brandId, mainCategoryId, subCategoryId,pageable);
-    List<Product> products = productsPage.getContent();
-    
-    if (products.isEmpty()) {
-        return List.of();
-    }
-    
-    // 상품 ID 목록 추출
-    List<Long> productIds = products.stream()
-            .map(Product::getId)
-            .collect(Collectors.toList());
-    
-    // 한 번에 모든 이미지 조회
-    Map<Long, List<ProductImageDTO>> imagesMap = productImageService.getByProductIds(productIds);
-    
-    // 상품 순서대로 이미지 반환
-    return products.stream()
-            .map(product -> imagesMap.getOrDefault(product.getId(), List.of()))
-            .collect(Collectors.toList());
+    Page<Long> productIds = productRepository.findIdsByBrandId(brandId, mainCategoryId, subCategoryId, pageable);
+    return imagesPerProduct(productIds.getContent());
 }
 
 
@@ -98,97 +75,133 @@ Long subCategoryId, Pageable pageable) {
 @Override
 public List<List<ProductImageDTO>> getNewProductsImages(Long mainCategoryId,
 Long subCategoryId, Pageable pageable) {
-    Page<Product> productsPage = productRepository.findByStatusActiveOrderByCreatedAtDesc(mainCategoryId, subCategoryId, pageable);
-    List<Product> products = productsPage.getContent();
-    
-    if (products.isEmpty()) {
-        return List.of();
-    }
-    
-    // 상품 ID 목록 추출
-    List<Long> productIds = products.stream()
-            .map(Product::getId)
-            .collect(Collectors.toList());
-    
-    // 한 번에 모든 이미지 조회
-    Map<Long, List<ProductImageDTO>> imagesMap = productImageService.getByProductIds(productIds);
-    
-    // 상품 순서대로 이미지 반환
-    return products.stream()
-            .map(product -> imagesMap.getOrDefault(product.getId(), List.of()))
-            .collect(Collectors.toList());
+    Page<Long> productIds = productRepository.findIdsByStatusActive(mainCategoryId, subCategoryId, pageable);
+    return imagesPerProduct(productIds.getContent());
 }
 
 // 가성비 상품 (페이징 적용)
 @Override
 public List<List<ProductImageDTO>> getAffordableHighRatedProductsImages(Integer maxPrice, Double minRating, Long mainCategoryId,
 Long subCategoryId, Pageable pageable) {
-    Page<Product> productsPage = productRepository.findAllAffordableHighRated(maxPrice, minRating, mainCategoryId, subCategoryId, pageable);
-    List<Product> products = productsPage.getContent();
-    
-    if (products.isEmpty()) {
-        return List.of();
+    Page<Long> productIds = productRepository.findAffordableHighRatedIds(maxPrice, minRating, mainCategoryId, subCategoryId, pageable);
+    return imagesPerProduct(productIds.getContent());
+}
+
+// 평점 높은 상품 (키셋 페이징, 홈 화면 조건이면 진열대 스냅샷에서)
+@Override
+public ProductFeedDTO getHighRatedProductsFeed(Double minRating, Long mainCategoryId,
+Long subCategoryId, String cursor, int size) {
+    ProductCursor after = ProductCursor.decode(cursor);
+    ProductFeedDTO shelf = productShelfService.find(ProductShelfService.Type.HIGH_RATED, null, null, minRating,
+            mainCategoryId, subCategoryId, after, size);
+    if (shelf != null) {
+        return shelf;
     }
-    
-    // 상품 ID 목록 추출
-    List<Long> productIds = products.stream()
-            .map(Product::getId)
-            .collect(Collectors.toList());
-    
-    // 한 번에 모든 이미지 조회
-    Map<Long, List<ProductImageDTO>> imagesMap = productImageService.getByProductIds(productIds);
-    
-    // 상품 순서대로 이미지 반환
-    return products.stream()
-            .map(product -> imagesMap.getOrDefault(product.getId(), List.of()))
+    List<ProductKeyDTO> keys = productRepository.findHighRatedKeysAfter(minRating, mainCategoryId, subCategoryId,
+            after != null ? after.getRating() : null, after != null ? after.getId() : null, PageRequest.of(0, size + 1));
+    return toFeed(keys, size, key -> ProductCursor.ofRating(key.getRating(), key.getId()));
+}
+
+// 브랜드별 상품 (키셋 페이징)
+@Override
+public ProductFeedDTO getProductsFeedByBrandId(Long brandId, Long mainCategoryId,
+Long subCategoryId, String cursor, int size) {
+    ProductCursor after = ProductCursor.decode(cursor);
+    ProductFeedDTO shelf = productShelfService.find(ProductShelfService.Type.BRAND, brandId, null, null,
+            mainCategoryId, subCategoryId, after, size);
+    if (shelf != null) {
+        return shelf;
+    }
+    List<ProductKeyDTO> keys = productRepository.findKeysByBrandIdAfter(brandId, mainCategoryId, subCategoryId,
+            after != null ? after.getId() : null, PageRequest.of(0, size + 1));
+    return toFeed(keys, size, key -> ProductCursor.ofId(key.getId()));
+}
+
+// 최신 상품 (키셋 페이징)
+@Override
+public ProductFeedDTO getNewProductsFeed(Long mainCategoryId, Long subCategoryId, String cursor, int size) {
+    ProductCursor after = ProductCursor.decode(cursor);
+    ProductFeedDTO shelf = productShelfService.find(ProductShelfService.Type.NEW, null, null, null,
+            mainCategoryId, subCategoryId, after, size);
+    if (shelf != null) {
+        return shelf;
+    }
+    List<ProductKeyDTO> keys = productRepository.findNewKeysAfter(mainCategoryId, subCategoryId,
+            after != null ? after.getCreatedAt() : null, after != null ? after.getId() : null, PageRequest.of(0, size + 1));
+    return toFeed(keys, size, key -> ProductCursor.ofCreatedAt(key.getCreatedAt(), key.getId()));
+}
+
+// 가성비 상품 (키셋 페이징)
+@Override
+public ProductFeedDTO getAffordableHighRatedProductsFeed(Integer maxPrice, Double minRating, Long mainCategoryId,
+Long subCategoryId, String cursor, int size) {
+    ProductCursor after = ProductCursor.decode(cursor);
+    ProductFeedDTO shelf = productShelfService.find(ProductShelfService.Type.AFFORDABLE, null, maxPrice, minRating,
+            mainCategoryId, subCategoryId, after, size);
+    if (shelf != null) {
+        return shelf;
+    }
+    List<ProductKeyDTO> keys = productRepository.findAffordableHighRatedKeysAfter(maxPrice, minRating, mainCategoryId, subCategoryId,
+            after != null ? after.getRating() : null, after != null ? after.getId() : null, PageRequest.of(0, size + 1));
+    return toFeed(keys, size, key -> ProductCursor.ofRating(key.getRating(), key.getId()));
+}
+
+/**
+ * 키셋 페이징 결과 조립
+ * @param keys 정렬된 상품 정렬 키 (다음 페이지 확인용으로 size + 1개까지)
+ * @param cursorOf 마지막 상품의 정렬 키로 다음 페이지 커서 생성
+ */
+private ProductFeedDTO toFeed(List<ProductKeyDTO> keys, int size, Function<ProductKeyDTO, ProductCursor> cursorOf) {
+    boolean hasNext = keys.size() > size;
+    List<ProductKeyDTO> pageKeys = hasNext ? keys.subList(0, size) : keys;
+    if (pageKeys.isEmpty()) {
+        return new ProductFeedDTO(List.of(), null);
+    }
+
+    List<Long> productIds = pageKeys.stream()
+            .map(ProductKeyDTO::getId)
             .collect(Collectors.toList());
+    String nextCursor = hasNext ? cursorOf.apply(pageKeys.get(pageKeys.size() - 1)).encode() : null;
+    return new ProductFeedDTO(imagesPerProduct(productIds), nextCursor);
 }
 
 // 서브 카테고리 (페이징 적용)
 @Override
 public List<ProductImageDTO> getProductsByCategorySubId(Long subCategoryId, Pageable pageable) {
-    Page<Product> productsPage = productRepository.findByCategorySubId(subCategoryId, pageable);
-    List<Product> products = productsPage.getContent();
-    
-    if (products.isEmpty()) {
-        return List.of();
-    }
-    
-    // 상품 ID 목록 추출
-    List<Long> productIds = products.stream()
-            .map(Product::getId)
-            .collect(Collectors.toList());
-    
-    // 한 번에 모든 이미지 조회
-    Map<Long, List<ProductImageDTO>> imagesMap = productImageService.getByProductIds(productIds);
-    
-    // 모든 이미지를 하나의 리스트로 평탄화
-    return products.stream()
-            .flatMap(product -> imagesMap.getOrDefault(product.getId(), List.of()).stream())
-            .collect(Collectors.toList());
+    Page<Long> productIds = productRepository.findIdsByCategorySubId(subCategoryId, pageable);
+    return flatImages(productIds.getContent());
 }
 
 // 메인 카테고리 (페이징 적용)
 @Override
 public List<ProductImageDTO> getProductsByMainCategoryId(Long mainCategoryId, Pageable pageable) {
-    Page<Product> productsPage = productRepository.findByCategoryId(mainCategoryId, pageable);
-    List<Product> products = productsPage.getContent();
-    
-    if (products.isEmpty()) {
+    Page<Long> productIds = productRepository.findIdsByCategoryId(mainCategoryId, pageable);
+    return flatImages(productIds.getContent());
+}
+
+/**
+ * 상품 순서대로 상품별 이미지 리스트 (카드 DTO만 조회, 상품 엔티티는 읽지 않음)
+ */
+private List<List<ProductImageDTO>> imagesPerProduct(List<Long> productIds) {
+    if (productIds.isEmpty()) {
         return List.of();
     }
     
-    // 상품 ID 목록 추출
-    List<Long> productIds = products.stream()
-            .map(Product::getId)
-            .collect(Collectors.toList());
-    
     // 한 번에 모든 이미지 조회
     Map<Long, List<ProductImageDTO>> imagesMap = productImageService.getByProductIds(productIds);
     
-    // 모든 이미지를 하나의 리스트로 평탄화
-    return products.stream()
-            .flatMap(product -> imagesMap.getOrDefault(product.getId(), List.of()).stream())
+    // 상품 순서대로 이미지 반환
+    return productIds.stream()
+            .map(productId -> imagesMap.getOrDefault(productId, List.of()))
+            .collect(Collectors.toList());
+}
+
+/**
+ * 상품 순서대로 모든 이미지를 하나의 리스트로 평탄화
+ */
+private List<ProductImageDTO> flatImages(List<Long> productIds) {
+    return imagesPerProduct(productIds).stream()
+            .flatMap(List::stream)
             .collect(Collectors.toList());
 }
 
@@ -216,6 +229,8 @@ public List<ProductImageDTO> getProductsByMainCategoryId(Long mainCategoryId, Pa
             .categoryId(product.getCategory() != null ? product.getCategory().getId() : null)
             .categoryName(product.getCategory() != null ? product.getCategory().getName() : null)
             .rating(product.getRating())
+            .reviewCount(product.getReviewCount())
+            .ratingHistogram(product.getRatingHistogram())
             .options(options)
             .images(images)
             .createdAt(product.getCreatedAt())
@@ -223,30 +238,29 @@ public List<ProductImageDTO> getProductsByMainCategoryId(Long mainCategoryId, Pa
             .build();
     }
 
+    /**
+     * 리뷰 테이블에서 상품의 리뷰 집계를 다시 계산 (평소에는 리뷰 작성/수정/삭제 시 증감으로 유지)
+     */
     @Override
     public void updateProductRating(Long productId) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다. ID: " + productId));
         
-        // 해당 상품의 리뷰 평점 평균 계산
-        Double averageRating = reviewRepository.getAverageRatingByProductId(productId);
-        
-        // 평점 업데이트 (리뷰가 없으면 null로 설정)
-        product.setRating(averageRating);
+        reviewRepository.findAggregateByProductId(productId)
+                .ifPresentOrElse(
+                        aggregate -> product.applyReviewAggregate(aggregate.getReviewCount().intValue(),
+                                aggregate.getRatingSum(), aggregate.getHistogram()),
+                        () -> product.applyReviewAggregate(0, 0, new int[5]));
         productRepository.save(product);
     }
 
+    /**
+     * 모든 상품의 리뷰 집계 재계산 - 구간 단위 병렬 배치 작업으로 백그라운드 실행 (진행 상황은 RatingRecomputeJob)
+     * @throws IllegalStateException 이미 실행 중
+     */
     @Override
     public void updateAllProductRatings() {
-        // 모든 상품의 평점을 업데이트
-        List<Product> products = productRepository.findAll();
-        
-        for (Product product : products) {
-            Double averageRating = reviewRepository.getAverageRatingByProductId(product.getId());
-            product.setRating(averageRating);
-        }
-        
-        productRepository.saveAll(products);
+        ratingRecomputeJob.start(false);
     }
 
     @Override
@@ -268,23 +282,10 @@ public Page<ProductImageDTO> getRecommendedProducts(String memberId, Pageable pa
         return Page.empty(pageable); // 빈 페이지 반환
     }
 
-    // 3. 상품 조회
-    List<Product> products = productRepository.findByIdIn(productIdList);
-
-    // 4. ID 순서 보존 (정렬)
-    Map<Long, Product> productMap = products.stream()
-        .collect(Collectors.toMap(Product::getId, p -> p));
-
-    // 5. 한 번에 모든 이미지 조회 (N+1 문제 해결)
-    Map<Long, List<ProductImageDTO>> imagesMap = productImageService.getByProductIds(productIdList);
-
-    List<ProductImageDTO> dtoList = productIdList.stream()
-        .map(productMap::get)
-        .filter(Objects::nonNull)
-        .flatMap(product -> imagesMap.getOrDefault(product.getId(), List.of()).stream())
-        .collect(Collectors.toList());
+    // 3. 추천 순서대로 이미지 조회 (카드 DTO만 조회)
+    List<ProductImageDTO> dtoList = flatImages(productIdList);
 
-    // 6. PageImpl 생성
+    // 4. PageImpl 생성
     return new PageImpl<>(dtoList, pageable, recommendedProductIds.getTotalElements());
 }
 
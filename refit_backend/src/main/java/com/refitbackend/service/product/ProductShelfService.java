@@ -0,0 +1,403 @@
+package com.refitbackend.service.product;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.refitbackend.domain.product.Brand;
+import com.refitbackend.domain.product.Category;
+import com.refitbackend.domain.product.CategorySub;
+import com.refitbackend.domain.product.ProductChangedEvent;
+import com.refitbackend.dto.product.ProductFeedDTO;
+import com.refitbackend.dto.product.ProductImageDTO;
+import com.refitbackend.dto.product.ProductKeyDTO;
+import com.refitbackend.dto.product.ProductShelfStateDTO;
+import com.refitbackend.repository.product.BrandRepository;
+import com.refitbackend.repository.product.CategoryRepository;
+import com.refitbackend.repository.product.CategorySubRepository;
+import com.refitbackend.repository.product.ProductRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 홈 화면 상품 목록 (진열대)
+ * 평점 높은 상품, 최신 상품, 가성비 상품은 카테고리/서브 카테고리 조합마다, 브랜드별 상품은 브랜드마다
+ * 앞쪽 depth개를 미리 조회해서 불변 스냅샷으로 보관하고, 홈 화면 조건과 같은 요청은 메모리에서 응답
+ * - 주기적으로 전체 재구축
+ * - 상품 변경 이벤트는 잠시 모았다가, 진열대 포함 여부가 바뀔 수 있는 변경만 해당 상품의 카테고리/서브 카테고리/브랜드 진열대를 재구축
+ *   (생성, 삭제, 상태/가격/분류 변경, 평점이 진열대 기준을 넘나드는 경우 - 나머지 리뷰 증감은 주기적 재구축 때 반영)
+ * 스냅샷 범위를 벗어난 페이지나 다른 조건은 null을 반환하고 DB에서 조회
+ */
+@Slf4j
+@Component
+public class ProductShelfService {
+
+    /**
+     * 진열대 종류 (정렬 기준에 맞는 커서 생성)
+     */
+    public enum Type {
+        HIGH_RATED(key -> ProductCursor.ofRating(key.getRating(), key.getId())),
+        NEW(key -> ProductCursor.ofCreatedAt(key.getCreatedAt(), key.getId())),
+        AFFORDABLE(key -> ProductCursor.ofRating(key.getRating(), key.getId())),
+        BRAND(key -> ProductCursor.ofId(key.getId()));
+
+        private final Function<ProductKeyDTO, ProductCursor> cursorOf;
+
+        Type(Function<ProductKeyDTO, ProductCursor> cursorOf) {
+            this.cursorOf = cursorOf;
+        }
+    }
+
+    private final ProductRepository productRepository;
+    private final ProductImageService productImageService;
+    private final CategoryRepository categoryRepository;
+    private final CategorySubRepository categorySubRepository;
+    private final BrandRepository brandRepository;
+
+    private final int depth;
+    private final Double highRatedMinRating;
+    private final Integer affordableMaxPrice;
+    private final Double affordableMinRating;
+
+    // 아직 반영하지 않은 상품 변경 (상품 ID -> 변경 종류)
+    private final Map<Long, ProductChangedEvent.Type> pendingChanges = new ConcurrentHashMap<>();
+
+    // 마지막으로 확인한 상품 상태 (변경 전후 비교용, 변경된 상품만 보관)
+    private final Map<Long, ProductShelfStateDTO> lastStates = new ConcurrentHashMap<>();
+
+    private volatile Map<ShelfKey, Shelf> shelves = Map.of();
+
+    public ProductShelfService(ProductRepository productRepository,
+                               ProductImageService productImageService,
+                               CategoryRepository categoryRepository,
+                               CategorySubRepository categorySubRepository,
+                               BrandRepository brandRepository,
+                               @Value("${product.shelf.depth:30}") int depth,
+                               @Value("${product.shelf.high-rated.min-rating:4.5}") Double highRatedMinRating,
+                               @Value("${product.shelf.affordable.max-price:35000}") Integer affordableMaxPrice,
+                               @Value("${product.shelf.affordable.min-rating:4.0}") Double affordableMinRating) {
+        this.productRepository = productRepository;
+        this.productImageService = productImageService;
+        this.categoryRepository = categoryRepository;
+        this.categorySubRepository = categorySubRepository;
+        this.brandRepository = brandRepository;
+        this.depth = depth;
+        this.highRatedMinRating = highRatedMinRating;
+        this.affordableMaxPrice = affordableMaxPrice;
+        this.affordableMinRating = affordableMinRating;
+    }
+
+    /**
+     * 진열대에서 한 페이지 조회
+     * @param brandId BRAND 진열대만 사용
+     * @param maxPrice AFFORDABLE 진열대만 사용
+     * @param minRating HIGH_RATED, AFFORDABLE 진열대만 사용
+     * @param after 이전 페이지 커서 (첫 페이지면 null)
+     * @return 페이지 (해당 진열대가 없거나 스냅샷 범위를 벗어나면 null)
+     */
+    public ProductFeedDTO find(Type type, Long brandId, Integer maxPrice, Double minRating,
+                               Long mainCategoryId, Long subCategoryId, ProductCursor after, int size) {
+        Shelf shelf = shelves.get(new ShelfKey(type, brandId, maxPrice, minRating, mainCategoryId, subCategoryId));
+        if (shelf == null || size <= 0) {
+            return null;
+        }
+
+        int from = 0;
+        if (after != null) {
+            from = shelf.indexOf(after.getId()) + 1;
+            if (from == 0) {
+                return null;
+            }
+        }
+        int to = from + size;
+        if (to > shelf.keys.size()) {
+            if (!shelf.complete) {
+                return null;
+            }
+            to = shelf.keys.size();
+        }
+
+        boolean hasNext = to < shelf.keys.size() || !shelf.complete;
+        String nextCursor = hasNext && to > from ? type.cursorOf.apply(shelf.keys.get(to - 1)).encode() : null;
+        return new ProductFeedDTO(shelf.images.subList(from, to), nextCursor);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 주기적 전체 재구축
+     */
+    @Scheduled(initialDelayString = "${product.shelf.refresh-interval:300000}",
+            fixedDelayString = "${product.shelf.refresh-interval:300000}")
+    public void refresh() {
+        pendingChanges.clear();
+        rebuild();
+    }
+
+    /**
+     * 모인 상품 변경 반영 - 진열대에 영향을 주는 변경이 있으면 해당 범위만 재구축 (변경이 몰려도 한 번만)
+     */
+    @Scheduled(fixedDelayString = "${product.shelf.change-delay:5000}")
+    public void refreshIfChanged() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        Map<Long, ProductChangedEvent.Type> changes = new HashMap<>();
+        for (Iterator<Map.Entry<Long, ProductChangedEvent.Type>> it = pendingChanges.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Long, ProductChangedEvent.Type> change = it.next();
+            changes.put(change.getKey(), change.getValue());
+            it.remove();
+        }
+
+        try {
+            Map<Long, ProductShelfStateDTO> states = new HashMap<>();
+            for (ProductShelfStateDTO state : productRepository.findShelfStatesByIdIn(changes.keySet())) {
+                states.put(state.getId(), state);
+            }
+            Set<Scope> scopes = new HashSet<>();
+            changes.forEach((productId, type) -> collectScopes(productId, type, states.get(productId), scopes));
+            if (!scopes.isEmpty()) {
+                rebuild(scopes);
+            }
+        } catch (RuntimeException e) {
+            // 놓친 변경은 다음 전체 재구축 때 반영
+            log.error("홈 화면 진열대 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 상품 생성/수정/삭제 (리뷰 집계 변경 포함) - 커밋 이후 다음 확인 때 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        // 같은 상품이 여러 번 바뀌면 생성/삭제를 우선
+        pendingChanges.merge(event.getProductId(), event.getType(),
+                (previous, current) -> current == ProductChangedEvent.Type.UPDATED ? previous : current);
+    }
+
+    /**
+     * 상품 변경 하나가 영향을 주는 진열대 범위 수집
+     * @param current 현재 상태 (삭제됐으면 null)
+     */
+    private void collectScopes(Long productId, ProductChangedEvent.Type type, ProductShelfStateDTO current,
+                               Set<Scope> scopes) {
+        ProductShelfStateDTO previous = current == null ? lastStates.remove(productId) : lastStates.put(productId, current);
+        if (current == null) {
+            // 삭제 - 이전 상태를 모르면 이 상품이 들어 있는 진열대만
+            if (previous != null) {
+                scopes.addAll(scopesOf(previous));
+            } else {
+                scopes.addAll(scopesShowing(productId));
+            }
+            return;
+        }
+        if (type == ProductChangedEvent.Type.CREATED) {
+            scopes.addAll(scopesOf(current));
+            return;
+        }
+        if (previous == null) {
+            // 시작 이후 처음 바뀐 상품 - 진열대에 있거나 평점 진열대 기준을 만족할 때만
+            Set<Scope> showing = scopesShowing(productId);
+            if (!showing.isEmpty() || meetsRatingShelves(current)) {
+                scopes.addAll(showing);
+                scopes.addAll(scopesOf(current));
+            }
+            return;
+        }
+        if (affectsShelves(previous, current)) {
+            scopes.addAll(scopesOf(previous));
+            scopes.addAll(scopesOf(current));
+        }
+    }
+
+    /**
+     * 진열대 포함 여부가 바뀔 수 있는 변경인지 (상태, 가격, 분류, 평점 기준 통과 여부)
+     * 기준을 넘나들지 않는 평점 변경은 순서만 바뀌므로 주기적 재구축에 맡김
+     */
+    private boolean affectsShelves(ProductShelfStateDTO previous, ProductShelfStateDTO current) {
+        return previous.getStatus() != current.getStatus()
+                || !Objects.equals(previous.getBasePrice(), current.getBasePrice())
+                || !Objects.equals(previous.getBrandId(), current.getBrandId())
+                || !Objects.equals(previous.getMainCategoryId(), current.getMainCategoryId())
+                || !Objects.equals(previous.getSubCategoryId(), current.getSubCategoryId())
+                || atLeast(previous.getRating(), highRatedMinRating) != atLeast(current.getRating(), highRatedMinRating)
+                || atLeast(previous.getRating(), affordableMinRating) != atLeast(current.getRating(), affordableMinRating);
+    }
+
+    private boolean meetsRatingShelves(ProductShelfStateDTO state) {
+        return atLeast(state.getRating(), highRatedMinRating)
+                || (state.getBasePrice() != null && state.getBasePrice() <= affordableMaxPrice
+                        && atLeast(state.getRating(), affordableMinRating));
+    }
+
+    private static boolean atLeast(Double rating, Double minRating) {
+        return rating != null && rating >= minRating;
+    }
+
+    /**
+     * 상품이 속할 수 있는 진열대 범위 - 전체, 메인 카테고리, 서브 카테고리, 브랜드
+     */
+    private static Set<Scope> scopesOf(ProductShelfStateDTO state) {
+        Set<Scope> scopes = new HashSet<>();
+        scopes.add(Scope.ofCategory(null, null));
+        if (state.getMainCategoryId() != null) {
+            scopes.add(Scope.ofCategory(state.getMainCategoryId(), null));
+            if (state.getSubCategoryId() != null) {
+                scopes.add(Scope.ofCategory(state.getMainCategoryId(), state.getSubCategoryId()));
+            }
+        }
+        if (state.getBrandId() != null) {
+            scopes.add(Scope.ofBrand(state.getBrandId()));
+        }
+        return scopes;
+    }
+
+    /**
+     * 지금 스냅샷에서 이 상품이 들어 있는 진열대 범위
+     */
+    private Set<Scope> scopesShowing(Long productId) {
+        Set<Scope> scopes = new HashSet<>();
+        shelves.forEach((key, shelf) -> {
+            if (shelf.indexOf(productId) >= 0) {
+                scopes.add(key.type() == Type.BRAND
+                        ? Scope.ofBrand(key.brandId())
+                        : Scope.ofCategory(key.mainCategoryId(), key.subCategoryId()));
+            }
+        });
+        return scopes;
+    }
+
+    /**
+     * 전체 재구축 - 새 스냅샷을 만든 뒤 교체
+     */
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            List<Long[]> categoryFilters = new ArrayList<>();
+            categoryFilters.add(new Long[] { null, null });
+            for (Category category : categoryRepository.findAll()) {
+                categoryFilters.add(new Long[] { category.getId(), null });
+            }
+            for (CategorySub categorySub : categorySubRepository.findAll()) {
+                if (categorySub.getCategory() != null) {
+                    categoryFilters.add(new Long[] { categorySub.getCategory().getId(), categorySub.getId() });
+                }
+            }
+
+            Map<ShelfKey, Shelf> newShelves = new HashMap<>();
+            for (Long[] filter : categoryFilters) {
+                loadCategoryShelves(newShelves, filter[0], filter[1]);
+            }
+            for (Brand brand : brandRepository.findAll()) {
+                loadBrandShelf(newShelves, brand.getId());
+            }
+
+            shelves = Map.copyOf(newShelves);
+            log.info("홈 화면 진열대 재구축 완료: {}개, {}ms", newShelves.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            // 기존 스냅샷은 그대로 두고 다음 주기에 다시 시도
+            log.error("홈 화면 진열대 재구축 실패", e);
+        }
+    }
+
+    /**
+     * 일부 범위만 재구축 - 나머지 진열대는 기존 스냅샷 유지
+     */
+    private synchronized void rebuild(Set<Scope> scopes) {
+        long start = System.currentTimeMillis();
+        Map<ShelfKey, Shelf> newShelves = new HashMap<>(shelves);
+        for (Scope scope : scopes) {
+            if (scope.brandId() != null) {
+                loadBrandShelf(newShelves, scope.brandId());
+            } else {
+                loadCategoryShelves(newShelves, scope.mainCategoryId(), scope.subCategoryId());
+            }
+        }
+        shelves = Map.copyOf(newShelves);
+        log.debug("홈 화면 진열대 부분 재구축 완료: 범위 {}개, {}ms", scopes.size(), System.currentTimeMillis() - start);
+    }
+
+    private void loadCategoryShelves(Map<ShelfKey, Shelf> target, Long mainCategoryId, Long subCategoryId) {
+        PageRequest limit = PageRequest.of(0, depth + 1);
+        target.put(new ShelfKey(Type.HIGH_RATED, null, null, highRatedMinRating, mainCategoryId, subCategoryId),
+                load(productRepository.findHighRatedKeysAfter(highRatedMinRating, mainCategoryId, subCategoryId,
+                        null, null, limit)));
+        target.put(new ShelfKey(Type.NEW, null, null, null, mainCategoryId, subCategoryId),
+                load(productRepository.findNewKeysAfter(mainCategoryId, subCategoryId, null, null, limit)));
+        target.put(new ShelfKey(Type.AFFORDABLE, null, affordableMaxPrice, affordableMinRating, mainCategoryId, subCategoryId),
+                load(productRepository.findAffordableHighRatedKeysAfter(affordableMaxPrice, affordableMinRating,
+                        mainCategoryId, subCategoryId, null, null, limit)));
+    }
+
+    private void loadBrandShelf(Map<ShelfKey, Shelf> target, Long brandId) {
+        target.put(new ShelfKey(Type.BRAND, brandId, null, null, null, null),
+                load(productRepository.findKeysByBrandIdAfter(brandId, null, null, null, PageRequest.of(0, depth + 1))));
+    }
+
+    /**
+     * 정렬 키 depth + 1개 -> 앞쪽 depth개의 스냅샷
+     */
+    private Shelf load(List<ProductKeyDTO> keys) {
+        boolean complete = keys.size() <= depth;
+        List<ProductKeyDTO> shelfKeys = List.copyOf(complete ? keys : keys.subList(0, depth));
+
+        List<Long> productIds = shelfKeys.stream().map(ProductKeyDTO::getId).toList();
+        Map<Long, List<ProductImageDTO>> imagesMap = productImageService.getByProductIds(productIds);
+        List<List<ProductImageDTO>> images = productIds.stream()
+                .map(productId -> List.copyOf(imagesMap.getOrDefault(productId, List.of())))
+                .toList();
+        return new Shelf(shelfKeys, images, complete);
+    }
+
+    private record ShelfKey(Type type, Long brandId, Integer maxPrice, Double minRating,
+                            Long mainCategoryId, Long subCategoryId) {
+    }
+
+    /**
+     * 재구축 범위 - 카테고리 조합 (HIGH_RATED, NEW, AFFORDABLE) 또는 브랜드 (BRAND)
+     */
+    private record Scope(Long mainCategoryId, Long subCategoryId, Long brandId) {
+
+        private static Scope ofCategory(Long mainCategoryId, Long subCategoryId) {
+            return new Scope(mainCategoryId, subCategoryId, null);
+        }
+
+        private static Scope ofBrand(Long brandId) {
+            return new Scope(null, null, brandId);
+        }
+    }
+
+    /**
+     * 진열대 스냅샷 (불변)
+     * @param complete 조건에 맞는 상품이 depth개 이하라서 전부 담겨 있으면 true
+     */
+    private record Shelf(List<ProductKeyDTO> keys, List<List<ProductImageDTO>> images, boolean complete) {
+
+        private int indexOf(long productId) {
+            for (int i = 0; i < keys.size(); i++) {
+                if (Objects.equals(keys.get(i).getId(), productId)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,371 @@
+package com.refitbackend.service.product;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.refitbackend.domain.batch.JobCheckpoint;
+import com.refitbackend.dto.product.RatingRecomputeStatusDTO;
+import com.refitbackend.dto.review.ReviewAggregateDTO;
+import com.refitbackend.repository.batch.JobCheckpointRepository;
+import com.refitbackend.service.product.search.ProductSearchIndex;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 리뷰 집계(평점, 리뷰 수, 별점 분포) 전체 재계산 작업
+ * 상품 ID를 chunkSize 단위 구간으로 나눠서 제한된 스레드 풀에서 병렬 처리
+ * - 구간마다 짧은 트랜잭션 하나: 상품 행 잠금 -> GROUP BY 집계 한 번 -> 값이 달라진 상품만 JDBC 배치 UPDATE
+ * - 앞에서부터 연속으로 끝난 구간까지 체크포인트로 저장해서 실패/재시작 후 이어서 실행
+ * 상품 행을 먼저 잠그므로 재계산 중에 들어온 리뷰 증감도 유실되지 않음
+ */
+@Slf4j
+@Component
+public class RatingRecomputeJob {
+
+    public static final String JOB_NAME = "rating-recompute";
+
+    public enum Status {
+        IDLE, RUNNING, COMPLETED, FAILED, CANCELLED
+    }
+
+    private static final String LOCK_SQL =
+            "SELECT id, rating_sum, review_count, rating1_count, rating2_count, rating3_count, rating4_count, rating5_count, rating " +
+            "FROM products WHERE id BETWEEN ? AND ? ORDER BY id FOR UPDATE";
+
+    // 별점 구간은 Product.starOf와 같음 (반올림)
+    private static final String AGGREGATE_SQL =
+            "SELECT product_id, COUNT(*), SUM(rating), " +
+            "SUM(CASE WHEN rating < 1.5 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN rating >= 1.5 AND rating < 2.5 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN rating >= 2.5 AND rating < 3.5 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN rating >= 3.5 AND rating < 4.5 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN rating >= 4.5 THEN 1 ELSE 0 END) " +
+            "FROM reviews WHERE product_id BETWEEN ? AND ? GROUP BY product_id";
+
+    private static final String UPDATE_SQL =
+            "UPDATE products SET rating = ?, rating_sum = ?, review_count = ?, " +
+            "rating1_count = ?, rating2_count = ?, rating3_count = ?, rating4_count = ?, rating5_count = ? WHERE id = ?";
+
+    private static final int[] UPDATE_TYPES = { Types.DOUBLE, Types.DOUBLE, Types.INTEGER,
+            Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.BIGINT };
+
+    private static final ReviewAggregateDTO NO_REVIEWS = new ReviewAggregateDTO(null, 0L, 0.0, 0L, 0L, 0L, 0L, 0L);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JobCheckpointRepository checkpointRepository;
+    // search.backend=index일 때만 존재
+    private final ObjectProvider<ProductSearchIndex> productSearchIndex;
+    private final ProductShelfService productShelfService;
+    private final ProductDetailCache productDetailCache;
+    private final Executor executor;
+
+    private final int chunkSize;
+    private final int parallelism;
+
+    private volatile Status status = Status.IDLE;
+    private volatile boolean cancelRequested;
+    private volatile long fromId;
+    private volatile long toId;
+    private volatile long checkpointId;
+    private volatile int totalChunks;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile long startNanos;
+    private volatile long elapsedMillis;
+    private volatile String error;
+    private final AtomicInteger completedChunks = new AtomicInteger();
+    private final AtomicLong scannedProducts = new AtomicLong();
+    private final AtomicLong updatedProducts = new AtomicLong();
+
+    // 끝났지만 앞 구간이 아직 안 끝나서 체크포인트에 반영하지 못한 구간 (시작 ID -> 끝 ID)
+    private final TreeMap<Long, Long> pendingChunks = new TreeMap<>();
+    private long nextChunkStart;
+
+    public RatingRecomputeJob(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              JobCheckpointRepository checkpointRepository,
+                              ObjectProvider<ProductSearchIndex> productSearchIndex,
+                              ProductShelfService productShelfService,
+                              ProductDetailCache productDetailCache,
+                              @Qualifier("ratingRecomputeExecutor") Executor executor,
+                              @Value("${product.rating-recompute.chunk-size:5000}") int chunkSize,
+                              @Value("${product.rating-recompute.parallelism:4}") int parallelism) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.checkpointRepository = checkpointRepository;
+        this.productSearchIndex = productSearchIndex;
+        this.productShelfService = productShelfService;
+        this.productDetailCache = productDetailCache;
+        this.executor = executor;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * 백그라운드로 재계산 시작
+     * @param resume true면 이전 작업이 끝나지 않은 경우 체크포인트 다음부터
+     * 호출 측 트랜잭션 밖에서 실행 (시작 체크포인트가 바로 커밋돼야 작업 스레드가 이어서 갱신 가능)
+     * @throws IllegalStateException 이미 실행 중
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public synchronized RatingRecomputeStatusDTO start(boolean resume) {
+        if (status == Status.RUNNING) {
+            throw new IllegalStateException("평점 재계산이 이미 실행 중입니다.");
+        }
+
+        long after = resume
+                ? checkpointRepository.findById(JOB_NAME)
+                        .filter(checkpoint -> !Status.COMPLETED.name().equals(checkpoint.getStatus()))
+                        .map(JobCheckpoint::getLastProcessedId)
+                        .orElse(0L)
+                : 0L;
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM products", Long.class);
+        long lastId = maxId != null ? maxId : 0L;
+
+        fromId = after + 1;
+        toId = lastId;
+        checkpointId = after;
+        totalChunks = lastId > after ? (int) ((lastId - after + chunkSize - 1) / chunkSize) : 0;
+        completedChunks.set(0);
+        scannedProducts.set(0);
+        updatedProducts.set(0);
+        startedAt = LocalDateTime.now();
+        finishedAt = null;
+        startNanos = System.nanoTime();
+        elapsedMillis = 0;
+        error = null;
+        cancelRequested = false;
+        synchronized (pendingChunks) {
+            pendingChunks.clear();
+            nextChunkStart = after + 1;
+        }
+        saveCheckpoint(after, Status.RUNNING);
+        status = Status.RUNNING;
+
+        log.info("평점 재계산 시작: 상품 ID {} ~ {}, {}개 구간, 스레드 {}개", fromId, toId, totalChunks, parallelism);
+        executor.execute(this::run);
+        return getStatus();
+    }
+
+    /**
+     * 중단 요청 - 실행 중인 구간은 끝까지 처리하고 멈춤 (resume으로 이어서 실행 가능)
+     */
+    public void cancel() {
+        if (status == Status.RUNNING) {
+            cancelRequested = true;
+        }
+    }
+
+    public RatingRecomputeStatusDTO getStatus() {
+        Status current = status;
+        return RatingRecomputeStatusDTO.builder()
+                .status(current.name())
+                .fromId(fromId)
+                .toId(toId)
+                .checkpointId(checkpointId)
+                .totalChunks(totalChunks)
+                .completedChunks(completedChunks.get())
+                .scannedProducts(scannedProducts.get())
+                .updatedProducts(updatedProducts.get())
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .elapsedMillis(current == Status.RUNNING
+                        ? (System.nanoTime() - startNanos) / 1_000_000 : elapsedMillis)
+                .error(error)
+                .build();
+    }
+
+    /**
+     * 조정 스레드 - 구간을 작업 풀에 넣고 모두 끝날 때까지 대기
+     */
+    private void run() {
+        // 대기 중인 구간 수 제한 (구간을 한꺼번에 큐에 쌓지 않음)
+        int maxInFlight = parallelism * 2;
+        Semaphore slots = new Semaphore(maxInFlight);
+        try {
+            for (long start = fromId; start <= toId && !stopped(); start += chunkSize) {
+                slots.acquire();
+                if (stopped()) {
+                    slots.release();
+                    break;
+                }
+                long chunkStart = start;
+                long chunkEnd = Math.min(start + chunkSize - 1, toId);
+                executor.execute(() -> {
+                    try {
+                        processChunk(chunkStart, chunkEnd);
+                        completedChunks.incrementAndGet();
+                        advanceCheckpoint(chunkStart, chunkEnd);
+                    } catch (RuntimeException e) {
+                        log.error("평점 재계산 구간 실패: 상품 ID {} ~ {}", chunkStart, chunkEnd, e);
+                        if (error == null) {
+                            error = e.getMessage();
+                        }
+                    } finally {
+                        slots.release();
+                    }
+                });
+            }
+            // 모든 슬롯이 돌아오면 실행 중인 구간이 없음
+            slots.acquire(maxInFlight);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            error = "중단됨";
+        } catch (RuntimeException e) {
+            log.error("평점 재계산 실패", e);
+            error = e.getMessage();
+        }
+        finish();
+    }
+
+    /**
+     * 한 구간 처리 (트랜잭션 하나)
+     */
+    private void processChunk(long start, long end) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            // 상품 행을 먼저 잠가서 재계산 중인 구간의 리뷰 증감은 이 트랜잭션이 끝난 뒤에 적용되게 함
+            Map<Long, ReviewAggregateDTO> current = new HashMap<>();
+            Map<Long, Double> currentRatings = new HashMap<>();
+            jdbcTemplate.query(LOCK_SQL, rs -> {
+                long productId = rs.getLong(1);
+                current.put(productId, new ReviewAggregateDTO(productId, rs.getLong(3), rs.getDouble(2),
+                        rs.getLong(4), rs.getLong(5), rs.getLong(6), rs.getLong(7), rs.getLong(8)));
+                currentRatings.put(productId, rs.getObject(9) != null ? rs.getDouble(9) : null);
+            }, start, end);
+            if (current.isEmpty()) {
+                return;
+            }
+
+            Map<Long, ReviewAggregateDTO> actual = new HashMap<>();
+            jdbcTemplate.query(AGGREGATE_SQL, rs -> {
+                long productId = rs.getLong(1);
+                actual.put(productId, new ReviewAggregateDTO(productId, rs.getLong(2), rs.getDouble(3),
+                        rs.getLong(4), rs.getLong(5), rs.getLong(6), rs.getLong(7), rs.getLong(8)));
+            }, start, end);
+
+            List<Object[]> updates = new ArrayList<>();
+            for (Map.Entry<Long, ReviewAggregateDTO> entry : current.entrySet()) {
+                ReviewAggregateDTO aggregate = actual.getOrDefault(entry.getKey(), NO_REVIEWS);
+                if (!sameAggregate(entry.getValue(), aggregate)
+                        || !sameRating(currentRatings.get(entry.getKey()), ratingOf(aggregate))) {
+                    updates.add(updateArgs(entry.getKey(), aggregate));
+                }
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, updates, UPDATE_TYPES);
+            }
+            scannedProducts.addAndGet(current.size());
+            updatedProducts.addAndGet(updates.size());
+        });
+    }
+
+    /**
+     * 구간 완료 - 앞에서부터 연속으로 끝난 구간까지 체크포인트 이동
+     */
+    private void advanceCheckpoint(long start, long end) {
+        synchronized (pendingChunks) {
+            pendingChunks.put(start, end);
+            Long chunkEnd;
+            boolean advanced = false;
+            while ((chunkEnd = pendingChunks.remove(nextChunkStart)) != null) {
+                checkpointId = chunkEnd;
+                nextChunkStart = chunkEnd + 1;
+                advanced = true;
+            }
+            if (advanced) {
+                saveCheckpoint(checkpointId, Status.RUNNING);
+            }
+        }
+    }
+
+    private void finish() {
+        Status result = error != null ? Status.FAILED
+                : cancelRequested ? Status.CANCELLED : Status.COMPLETED;
+        try {
+            saveCheckpoint(result == Status.COMPLETED ? toId : checkpointId, result);
+            if (updatedProducts.get() > 0) {
+                // 벌크 UPDATE는 상품 변경 이벤트가 없으므로 메모리 데이터를 직접 다시 구축
+                productDetailCache.clear();
+                productShelfService.rebuild();
+                productSearchIndex.ifAvailable(ProductSearchIndex::rebuild);
+            }
+        } catch (RuntimeException e) {
+            log.error("평점 재계산 마무리 실패", e);
+            result = Status.FAILED;
+            error = e.getMessage();
+        } finally {
+            elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+            finishedAt = LocalDateTime.now();
+            status = result;
+        }
+        log.info("평점 재계산 {}: {}개 상품 확인, {}개 갱신, 체크포인트 {}, {}ms",
+                result, scannedProducts.get(), updatedProducts.get(), checkpointId, elapsedMillis);
+    }
+
+    private boolean stopped() {
+        return cancelRequested || error != null;
+    }
+
+    private void saveCheckpoint(long lastProcessedId, Status checkpointStatus) {
+        checkpointRepository.save(JobCheckpoint.builder()
+                .jobName(JOB_NAME)
+                .lastProcessedId(lastProcessedId)
+                .status(checkpointStatus.name())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private static boolean sameAggregate(ReviewAggregateDTO a, ReviewAggregateDTO b) {
+        return a.getReviewCount().equals(b.getReviewCount())
+                && Math.abs(a.getRatingSum() - b.getRatingSum()) < 1e-9
+                && a.getRating1Count().equals(b.getRating1Count())
+                && a.getRating2Count().equals(b.getRating2Count())
+                && a.getRating3Count().equals(b.getRating3Count())
+                && a.getRating4Count().equals(b.getRating4Count())
+                && a.getRating5Count().equals(b.getRating5Count());
+    }
+
+    private static boolean sameRating(Double a, Double b) {
+        return a == null ? b == null : b != null && Math.abs(a - b) < 1e-9;
+    }
+
+    private static Double ratingOf(ReviewAggregateDTO aggregate) {
+        long count = aggregate.getReviewCount();
+        return count > 0 ? aggregate.getRatingSum() / count : null;
+    }
+
+    private static Object[] updateArgs(long productId, ReviewAggregateDTO aggregate) {
+        long count = aggregate.getReviewCount();
+        return new Object[] {
+                ratingOf(aggregate),
+                count > 0 ? aggregate.getRatingSum() : 0.0,
+                (int) count,
+                aggregate.getRating1Count().intValue(),
+                aggregate.getRating2Count().intValue(),
+                aggregate.getRating3Count().intValue(),
+                aggregate.getRating4Count().intValue(),
+                aggregate.getRating5Count().intValue(),
+                productId
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.refitbackend.service.product;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시작 시 리뷰 집계 점검
+ * 집계 컬럼이 추가되기 전부터 있던 상품은 review_count 등이 0으로 시작하므로, 리뷰가 있는데 집계가 비어 있는 상품이 있으면 전체 재계산 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewAggregateBackfill {
+
+    private static final String UNSET_AGGREGATE_SQL =
+            "SELECT p.id FROM products p WHERE p.review_count = 0 " +
+            "AND EXISTS (SELECT 1 FROM reviews r WHERE r.product_id = p.id) LIMIT 1";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RatingRecomputeJob ratingRecomputeJob;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        try {
+            if (!jdbcTemplate.queryForList(UNSET_AGGREGATE_SQL, Long.class).isEmpty()) {
+                log.info("리뷰 집계가 비어 있는 상품이 있어 평점 재계산 시작");
+                ratingRecomputeJob.start(true);
+            }
+        } catch (RuntimeException e) {
+            log.warn("리뷰 집계 점검 실패", e);
+        }
+    }
+}
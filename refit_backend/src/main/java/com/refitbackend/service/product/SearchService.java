@@ -1,12 +1,23 @@
 package com.refitbackend.service.product;
 
 import com.refitbackend.dto.product.ProductImageDTO;
+import com.refitbackend.dto.product.SearchFilterDTO;
+import com.refitbackend.dto.product.SearchResultDTO;
+import com.refitbackend.dto.product.SuggestionDTO;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
 public interface SearchService {
     
+    /**
+     * 통합 검색 - 검색 결과를 한 번만 계산해서 페이지와 전체 개수를 함께 반환
+     * '-'로 시작하는 단어는 제외 단어로 처리 (예: "티셔츠 -블랙")
+     * @param filter 브랜드, 카테고리, 가격 필터 (없으면 null)
+     * @param cursor 이전 응답의 커서 (있으면 검색을 다시 하지 않음)
+     */
+    SearchResultDTO search(String keyword, SearchFilterDTO filter, Pageable pageable, String cursor);
+    
     /**
      * 통합 검색 - 상품명, 브랜드명, 설명, 카테고리에서 키워드 검색
      */
@@ -17,6 +28,11 @@ public interface SearchService {
      */
     List<ProductImageDTO> searchProductsWithKeywords(List<String> keywords, Pageable pageable);
     
+    /**
+     * 검색어 자동완성 - 접두어로 시작하는 상품명, 브랜드명, 카테고리명, 동의어를 인기순으로 반환
+     */
+    List<SuggestionDTO> suggest(String prefix, int size);
+    
     /**
      * 브랜드별 검색
      */
@@ -1,8 +1,21 @@
 package com.refitbackend.service.product;
 
-import com.refitbackend.domain.product.Product;
 import com.refitbackend.dto.product.ProductImageDTO;
+import com.refitbackend.dto.product.SearchFilterDTO;
+import com.refitbackend.dto.product.SearchResultDTO;
+import com.refitbackend.dto.product.SuggestionDTO;
 import com.refitbackend.repository.product.ProductRepository;
+import com.refitbackend.service.product.search.FuzzyTermIndex;
+import com.refitbackend.service.product.search.ProductSearchIndex;
+import com.refitbackend.service.product.search.SearchBackend;
+import com.refitbackend.service.product.search.SearchCursorStore;
+import com.refitbackend.service.product.search.SearchHits;
+import com.refitbackend.service.product.search.SearchQuery;
+import com.refitbackend.service.product.search.SearchResultCache;
+import com.refitbackend.service.product.search.SearchTelemetry;
+import com.refitbackend.service.product.search.SearchTelemetry.Stage;
+import com.refitbackend.service.product.search.SuggestIndex;
+import com.refitbackend.service.product.search.SynonymDictionary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -10,7 +23,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.Comparator;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -20,45 +32,70 @@ public class SearchServiceImpl implements SearchService {
 
     private final ProductRepository productRepository;
     private final ProductImageService productImageService;
-
-    // 키워드 동의어 매핑
-    private static final Map<String, List<String>> KEYWORD_SYNONYMS = new HashMap<>();
-    
-    static {
-        KEYWORD_SYNONYMS.put("검은색", Arrays.asList("블랙", "black", "검정", "검정색"));
-        KEYWORD_SYNONYMS.put("흰색", Arrays.asList("화이트", "white", "흰", "흰색"));
-        KEYWORD_SYNONYMS.put("빨간색", Arrays.asList("레드", "red", "빨강", "빨간"));
-        KEYWORD_SYNONYMS.put("파란색", Arrays.asList("블루", "blue", "파랑", "파란"));
-        KEYWORD_SYNONYMS.put("티셔츠", Arrays.asList("티", "t-shirt", "tshirt", "티셔트"));
-        KEYWORD_SYNONYMS.put("셔츠", Arrays.asList("shirt", "남방", "남성셔츠"));
-        KEYWORD_SYNONYMS.put("바지", Arrays.asList("팬츠", "pants", "트라우저", "trousers"));
-        KEYWORD_SYNONYMS.put("치마", Arrays.asList("skirt", "스커트"));
-        KEYWORD_SYNONYMS.put("원피스", Arrays.asList("dress", "드레스"));
-        KEYWORD_SYNONYMS.put("후드", Arrays.asList("hoodie", "후드티", "후드티셔츠"));
-        KEYWORD_SYNONYMS.put("니트", Arrays.asList("knit", "스웨터", "sweater"));
-        KEYWORD_SYNONYMS.put("코트", Arrays.asList("coat", "외투", "재킷", "jacket"));
-    }
+    private final SearchBackend searchBackend;
+    private final SearchCursorStore searchCursorStore;
+    private final SynonymDictionary synonymDictionary;
+    private final SuggestIndex suggestIndex;
+    private final SearchResultCache searchResultCache;
+    private final FuzzyTermIndex fuzzyTermIndex;
+    private final SearchTelemetry searchTelemetry;
 
     @Override
-    public List<ProductImageDTO> searchProducts(String keyword, Pageable pageable) {
-        log.info("통합 검색 실행: {}", keyword);
-        
-        if (keyword == null || keyword.trim().isEmpty()) {
-            log.info("검색어가 비어있어 빈 리스트 반환");
-            return List.of();
+    public SearchResultDTO search(String keyword, SearchFilterDTO filter, Pageable pageable, String cursor) {
+        log.info("통합 검색 실행: {}, filter={}, cursor={}", keyword, filter, cursor);
+        long startNanos = System.nanoTime();
+        
+        String trimmedKeyword = keyword == null ? "" : keyword.trim();
+        // 같은 검색어라도 필터가 다르면 다른 검색 결과
+        String cursorKey = trimmedKeyword + "|" + filter;
+        
+        // 커서에 다음 페이지 시작 위치가 있으면 page 대신 사용
+        long offset = SearchCursorStore.offsetOf(cursor, pageable.getOffset());
+        int size = pageable.getPageSize();
+        long endIndex = offset + size;
+        
+        // 커서가 유효하고 요청한 페이지까지 결과를 가지고 있으면 재사용
+        String storeKey = SearchCursorStore.keyOf(cursor);
+        SearchHits stored = searchCursorStore.find(storeKey, cursorKey);
+        SearchHits hits = stored;
+        if (stored == null || !stored.covers(endIndex)) {
+            long expansionStart = System.nanoTime();
+            List<String> keywords = splitKeywords(withoutExclusions(trimmedKeyword));
+            List<String> excluded = excludedTerms(trimmedKeyword);
+            searchTelemetry.record(Stage.EXPANSION, expansionStart);
+            
+            // 저장된 상위 결과가 모자라면 두 배로 늘려서 계산 - 깊이 스크롤해도 재계산은 가끔만 발생
+            int limit = limitOf(endIndex);
+            if (stored != null) {
+                limit = Math.max(limit, limitOf(2L * stored.getProductIds().length));
+            }
+            hits = findHits(keywords, excluded, filter, limit);
+            storeKey = hits.getTotalCount() > 0 ? searchCursorStore.save(cursorKey, hits) : null;
+        } else {
+            log.info("커서 재사용: {}개 검색 결과", hits.getTotalCount());
         }
         
-        // 키워드 분리
-        List<String> keywords = splitKeywords(keyword.trim());
-        log.info("원본 키워드: '{}'", keyword);
-        log.info("분리된 키워드: {}", keywords);
-        
-        // 키워드가 1개면 기존 방식 사용, 여러 개면 새로운 방식 사용
-        if (keywords.size() == 1) {
-            return searchProductsWithSingleKeyword(keywords.get(0), pageable);
-        } else {
-            return searchProductsWithKeywords(keywords, pageable);
+        List<ProductImageDTO> products = hydratePage(hits.getProductIds(), offset, size);
+        // 다음 페이지 요청(커서 사용)은 검색 횟수에 넣지 않음
+        if (cursor == null) {
+            searchTelemetry.recordQuery(trimmedKeyword, hits.getTotalCount(), startNanos);
         }
+        boolean hasNext = endIndex < hits.getTotalCount() && storeKey != null;
+        
+        return SearchResultDTO.builder()
+                .products(products)
+                .totalCount(hits.getTotalCount())
+                .currentPage((int) (offset / size))
+                .pageSize(size)
+                .keyword(keyword)
+                .facets(hits.getFacets())
+                .cursor(hasNext ? SearchCursorStore.positioned(storeKey, endIndex) : null)
+                .build();
+    }
+
+    @Override
+    public List<ProductImageDTO> searchProducts(String keyword, Pageable pageable) {
+        return search(keyword, null, pageable, null).getProducts();
     }
 
     /**
@@ -79,63 +116,174 @@ public class SearchServiceImpl implements SearchService {
     }
 
     /**
-     * 키워드의 동의어 목록 반환
+     * 제외 단어 - '-'로 시작하는 단어 (예: "티셔츠 -블랙"), 동의어까지 제외
      */
-    private List<String> getSynonyms(String keyword) {
-        for (Map.Entry<String, List<String>> entry : KEYWORD_SYNONYMS.entrySet()) {
-            if (keyword.equals(entry.getKey()) || entry.getKey().equals(keyword)) {
-                return entry.getValue();
+    private List<String> excludedTerms(String keyword) {
+        List<String> excluded = new ArrayList<>();
+        for (String word : keyword.split("\\s+")) {
+            if (isExclusion(word)) {
+                excluded.addAll(getSynonyms(word.substring(1)));
             }
         }
-        return List.of(keyword); // 동의어가 없으면 원본 키워드만 반환
+        return excluded;
+    }
+
+    /**
+     * 제외 단어를 뺀 검색어
+     */
+    private String withoutExclusions(String keyword) {
+        return Arrays.stream(keyword.split("\\s+"))
+                .filter(word -> !isExclusion(word))
+                .collect(Collectors.joining(" "));
+    }
+
+    private static boolean isExclusion(String word) {
+        return word.length() > 1 && word.charAt(0) == '-' && word.charAt(1) != '-';
+    }
+
+    /**
+     * 키워드의 동의어 목록 반환 (동의어가 없으면 원본 키워드만)
+     */
+    private List<String> getSynonyms(String keyword) {
+        return synonymDictionary.expand(keyword);
+    }
+
+    /**
+     * 정렬된 검색 결과(상품 ID) 계산
+     * 키워드가 1개면 단일 검색(결과가 없으면 오타 교정), 2개면 AND, 3개 이상이면 OR
+     * @param excluded 제외 단어 (하나라도 포함한 상품은 제외)
+     * @param filter 브랜드, 카테고리, 가격 필터 (없으면 null)
+     * @param limit 필요한 결과 수 (점수순 검색은 상위 limit개만 정렬)
+     */
+    private SearchHits findHits(List<String> keywords, List<String> excluded, SearchFilterDTO filter, int limit) {
+        log.info("분리된 키워드: {}, 제외 단어: {}", keywords, excluded);
+        
+        if (keywords.isEmpty()) {
+            log.info("검색어가 비어있어 빈 결과 반환");
+            return SearchHits.empty();
+        }
+        
+        // 인덱스 버전은 계산 전에 읽어야 계산 중 변경된 결과가 최신으로 저장되지 않음
+        long version = searchBackend.version();
+        String cacheKey = cacheKey(keywords, excluded, filter);
+        SearchHits hits = searchResultCache.get(cacheKey, version, limit);
+        if (hits != null) {
+            log.info("검색 결과 캐시 적중: {}", cacheKey);
+            return hits;
+        }
+        
+        hits = computeHits(keywords, excluded, filter, limit);
+        searchResultCache.put(cacheKey, version, hits);
+        return hits;
+    }
+
+    /**
+     * 검색 결과 캐시 키 - 같은 결과가 나오는 질의는 같은 키
+     * 단일 키워드는 동의어 확장을 하지 않으므로 그대로, 다중 키워드는 동의어 대표 단어로 바꾼 뒤 정렬
+     * (AND는 순서와 무관하고, OR 점수도 단어별 점수의 합이라 순서와 무관)
+     * 동의어 사전 버전을 앞에 붙여서 사전이 바뀌면 이전 결과를 쓰지 않음
+     */
+    private String cacheKey(List<String> keywords, List<String> excluded, SearchFilterDTO filter) {
+        StringBuilder key = new StringBuilder().append(synonymDictionary.version()).append('|');
+        if (keywords.size() == 1) {
+            key.append("S|").append(ProductSearchIndex.normalize(keywords.get(0)));
+        } else {
+            key.append(keywords.size() <= 2 ? "A|" : "O|");
+            key.append(keywords.stream()
+                    .map(synonymDictionary::canonical)
+                    .sorted()
+                    .collect(Collectors.joining(",")));
+        }
+        key.append("|-").append(excluded.stream()
+                .map(ProductSearchIndex::normalize)
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(",")));
+        return key.append('|').append(filter).toString();
     }
 
     /**
-     * 단일 키워드로 검색 (기존 방식 + 하이픈 처리)
+     * 키워드 수에 따라 검색 방식 선택
      */
-    private List<ProductImageDTO> searchProductsWithSingleKeyword(String keyword, Pageable pageable) {
+    private SearchHits computeHits(List<String> keywords, List<String> excluded, SearchFilterDTO filter, int limit) {
+        if (keywords.size() == 1) {
+            return findHitsWithSingleKeyword(keywords.get(0), excluded, filter);
+        }
+        // 키워드가 2개 이하인 경우 기존 AND 로직 사용
+        if (keywords.size() <= 2) {
+            return findHitsWithKeywordsAND(keywords, excluded, filter);
+        }
+        // 키워드가 3개 이상인 경우 OR 로직 사용 (더 유연한 검색)
+        return findHitsWithKeywordsOR(keywords, excluded, filter, limit);
+    }
+
+    /**
+     * 필요한 결과 수 (int 범위로 제한)
+     */
+    private static int limitOf(long endIndex) {
+        return (int) Math.min(Integer.MAX_VALUE, endIndex);
+    }
+
+    /**
+     * 단일 키워드로 검색 (동의어 확장 없음)
+     * 결과가 없으면 단어별 오타 교정 후보(와 그 동의어)를 OR로 묶어서 한 번 더 검색
+     */
+    private SearchHits findHitsWithSingleKeyword(String keyword, List<String> excluded, SearchFilterDTO filter) {
         log.info("단일 키워드 검색 시작: '{}'", keyword);
         
-        // 1. 원본 키워드로 검색
-        Page<Product> productPage = productRepository.searchProducts(keyword, pageable);
-        log.info("원본 키워드 검색 결과: {}개 상품 발견", productPage.getTotalElements());
+        // 하이픈/공백으로 나뉜 단어는 모두 포함해야 함
+        List<String> words = Arrays.stream(keyword.split("[\\s-]+"))
+                .filter(word -> !word.isEmpty())
+                .collect(Collectors.toList());
+        if (words.isEmpty()) {
+            return SearchHits.empty();
+        }
         
-        if (productPage.getTotalElements() > 0) {
-            return convertToProductImageDTO(productPage.getContent());
+        List<List<String>> groups = new ArrayList<>();
+        for (String word : words) {
+            groups.add(List.of(word));
         }
+        SearchHits hits = retrieveGroups(groups, excluded, filter);
+        log.info("원본 키워드 검색 결과: {}개 상품 발견", hits.getTotalCount());
         
-        // 2. 하이픈이 포함된 경우 하이픈 제거 후 검색
-        if (keyword.contains("-")) {
-            String cleanKeyword = keyword.replace("-", " ").trim();
-            log.info("하이픈 제거 후 검색: '{}'", cleanKeyword);
-            
-            productPage = productRepository.searchProducts(cleanKeyword, pageable);
-            log.info("하이픈 제거 검색 결과: {}개 상품 발견", productPage.getTotalElements());
-            
-            if (productPage.getTotalElements() > 0) {
-                return convertToProductImageDTO(productPage.getContent());
-            }
+        if (hits.getTotalCount() > 0) {
+            return hits;
         }
         
-        // 3. 키워드가 여러 단어로 구성된 경우 부분 매칭 시도
-        String[] words = keyword.split("\\s+");
-        if (words.length > 1) {
-            // 가장 긴 단어로 검색
-            String longestWord = Arrays.stream(words)
-                    .max(Comparator.comparing(String::length))
-                    .orElse(keyword);
-            
-            log.info("부분 매칭 검색 (가장 긴 단어): '{}'", longestWord);
-            productPage = productRepository.searchProducts(longestWord, pageable);
-            log.info("부분 매칭 검색 결과: {}개 상품 발견", productPage.getTotalElements());
-            
-            if (productPage.getTotalElements() > 0) {
-                return convertToProductImageDTO(productPage.getContent());
+        // 오타 교정 (자모 단위 편집 거리)
+        long expansionStart = System.nanoTime();
+        List<List<String>> correctedGroups = new ArrayList<>();
+        boolean corrected = false;
+        for (String word : words) {
+            Set<String> group = new LinkedHashSet<>();
+            group.add(word);
+            for (String correction : fuzzyTermIndex.correct(word)) {
+                group.addAll(getSynonyms(correction));
+                corrected = true;
             }
+            correctedGroups.add(new ArrayList<>(group));
+        }
+        searchTelemetry.record(Stage.EXPANSION, expansionStart);
+        if (!corrected) {
+            log.info("검색 실패: '{}'에 대한 결과 없음", keyword);
+            return hits;
         }
         
-        log.info("검색 실패: '{}'에 대한 결과 없음", keyword);
-        return List.of();
+        hits = retrieveGroups(correctedGroups, excluded, filter);
+        log.info("오타 교정 검색 {}: {}개 상품 발견", correctedGroups, hits.getTotalCount());
+        return hits;
+    }
+
+    /**
+     * 그룹은 AND, 그룹 안의 단어는 OR로 검색
+     */
+    private SearchHits retrieveGroups(List<List<String>> groups, List<String> excluded, SearchFilterDTO filter) {
+        long retrievalStart = System.nanoTime();
+        SearchHits hits = searchBackend.retrieve(SearchQuery.allOf(groups)
+                .excluding(excluded)
+                .filteredBy(filter));
+        searchTelemetry.record(Stage.RETRIEVAL, retrievalStart);
+        return hits;
     }
 
     @Override
@@ -146,204 +294,145 @@ public class SearchServiceImpl implements SearchService {
             return List.of();
         }
         
-        // 키워드가 2개 이하인 경우 기존 AND 로직 사용
-        if (keywords.size() <= 2) {
-            return searchProductsWithKeywordsAND(keywords, pageable);
-        }
-        
-        // 키워드가 3개 이상인 경우 OR 로직 사용 (더 유연한 검색)
-        return searchProductsWithKeywordsOR(keywords, pageable);
+        long endIndex = pageable.getOffset() + pageable.getPageSize();
+        return hydratePage(findHits(keywords, List.of(), null, limitOf(endIndex)).getProductIds(), 
+                pageable.getOffset(), pageable.getPageSize());
     }
     
     /**
      * AND 조건으로 다중 키워드 검색 (기존 로직)
+     * 키워드 그룹은 AND, 그룹 안의 동의어는 OR로 한 번에 평가
      */
-    private List<ProductImageDTO> searchProductsWithKeywordsAND(List<String> keywords, Pageable pageable) {
+    private SearchHits findHitsWithKeywordsAND(List<String> keywords, List<String> excluded, SearchFilterDTO filter) {
         log.info("AND 조건 다중 키워드 검색 실행: {}", keywords);
         
-        // 각 키워드별로 동의어를 포함한 검색 후 교집합 찾기
-        Set<Long> commonProductIds = null;
-        
-        for (String keyword : keywords) {
-            if (keyword != null && !keyword.trim().isEmpty()) {
-                // 키워드의 동의어 목록 가져오기
-                List<String> synonyms = getSynonyms(keyword.trim());
-                log.info("키워드 '{}'의 동의어: {}", keyword, synonyms);
-                
-                Set<Long> currentProductIds = new HashSet<>();
-                
-                // 각 동의어로 검색
-                for (String synonym : synonyms) {
-                    try {
-                        Page<Product> productPage = productRepository.searchProducts(synonym, Pageable.unpaged());
-                        List<Product> products = productPage.getContent();
-                        currentProductIds.addAll(products.stream()
-                                .map(Product::getId)
-                                .collect(Collectors.toSet()));
-                        log.info("동의어 '{}' 검색 결과: {}개 상품", synonym, products.size());
-                    } catch (Exception e) {
-                        log.error("동의어 '{}' 검색 중 오류: {}", synonym, e.getMessage());
-                    }
-                }
-                
-                if (commonProductIds == null) {
-                    // 첫 번째 키워드의 결과로 초기화
-                    commonProductIds = currentProductIds;
-                    log.info("첫 번째 키워드 '{}' 검색 결과: {}개 상품", keyword, currentProductIds.size());
-                } else {
-                    // 교집합 계산 (AND 조건)
-                    int beforeSize = commonProductIds.size();
-                    commonProductIds.retainAll(currentProductIds);
-                    log.info("키워드 '{}' 추가 후 교집합: {}개 -> {}개 상품", keyword, beforeSize, commonProductIds.size());
-                }
-            }
-        }
+        SearchQuery query = buildAndQuery(keywords);
         
-        // 교집합 결과로 최종 상품 조회 (페이징 적용)
-        List<ProductImageDTO> finalResults = new ArrayList<>();
-        if (commonProductIds != null && !commonProductIds.isEmpty()) {
-            // 페이징을 위해 전체 ID 목록을 페이지 단위로 분할
-            List<Long> allIds = new ArrayList<>(commonProductIds);
-            int pageSize = pageable.getPageSize();
-            int pageNumber = pageable.getPageNumber();
-            int startIndex = pageNumber * pageSize;
-            int endIndex = Math.min(startIndex + pageSize, allIds.size());
-            
-            log.info("페이징 정보: 전체 {}개, 페이지 {}, 시작 {}, 끝 {}", 
-                    allIds.size(), pageNumber, startIndex, endIndex);
-            
-            if (startIndex < allIds.size()) {
-                List<Long> pageIds = allIds.subList(startIndex, endIndex);
-                log.info("현재 페이지 상품 ID: {}", pageIds);
-                List<Product> finalProducts = productRepository.findByIdIn(pageIds);
-                finalResults = convertToProductImageDTO(finalProducts);
-            }
-        } else {
-            log.info("교집합 결과가 비어있음: commonProductIds={}", commonProductIds);
-        }
+        long retrievalStart = System.nanoTime();
+        SearchHits hits = searchBackend.retrieve(query
+                .excluding(excluded)
+                .filteredBy(filter));
+        searchTelemetry.record(Stage.RETRIEVAL, retrievalStart);
         
-        log.info("AND 조건 다중 키워드 검색 결과: {}개 상품 발견", finalResults.size());
-        return finalResults;
+        log.info("AND 조건 다중 키워드 검색 결과: {}개 상품 발견", hits.getTotalCount());
+        return hits;
     }
     
     /**
      * OR 조건으로 다중 키워드 검색 (새로운 로직)
+     * 상품명 매칭 점수(포함 +10, 일치 +5, 시작 +3) 상위 limit개만 힙으로 정렬
      */
-    private List<ProductImageDTO> searchProductsWithKeywordsOR(List<String> keywords, Pageable pageable) {
+    private SearchHits findHitsWithKeywordsOR(List<String> keywords, List<String> excluded, 
+                                              SearchFilterDTO filter, int limit) {
         log.info("OR 조건 다중 키워드 검색 실행: {}", keywords);
         
-        // 각 키워드별로 검색 결과를 수집
-        Map<Long, Integer> productScoreMap = new HashMap<>(); // 상품ID -> 매칭 점수
-        
+        // 모든 동의어를 OR로 묶어서 후보를 한 번에 조회
+        long expansionStart = System.nanoTime();
+        List<String> synonyms = new ArrayList<>();
         for (String keyword : keywords) {
             if (keyword != null && !keyword.trim().isEmpty()) {
-                // 키워드의 동의어 목록 가져오기
-                List<String> synonyms = getSynonyms(keyword.trim());
-                log.info("키워드 '{}'의 동의어: {}", keyword, synonyms);
-                
-                // 각 동의어로 검색
-                for (String synonym : synonyms) {
-                    try {
-                        Page<Product> productPage = productRepository.searchProducts(synonym, Pageable.unpaged());
-                        List<Product> products = productPage.getContent();
-                        
-                        // 매칭 점수 계산 (더 많은 키워드가 매칭될수록 높은 점수)
-                        for (Product product : products) {
-                            Long productId = product.getId();
-                            int currentScore = productScoreMap.getOrDefault(productId, 0);
-                            
-                            // 상품명에 키워드가 포함된 경우 더 높은 점수
-                            String productName = product.getName().toLowerCase();
-                            String searchKeyword = synonym.toLowerCase();
-                            
-                            if (productName.contains(searchKeyword)) {
-                                currentScore += 10; // 키워드 매칭
-                                
-                                // 정확한 매칭인 경우 추가 점수
-                                if (productName.equals(searchKeyword)) {
-                                    currentScore += 5;
-                                }
-                                
-                                // 키워드가 상품명의 시작 부분에 있는 경우 추가 점수
-                                if (productName.startsWith(searchKeyword)) {
-                                    currentScore += 3;
-                                }
-                            }
-                            
-                            productScoreMap.put(productId, currentScore);
-                        }
-                        
-                        log.info("동의어 '{}' 검색 결과: {}개 상품", synonym, products.size());
-                    } catch (Exception e) {
-                        log.error("동의어 '{}' 검색 중 오류: {}", synonym, e.getMessage());
-                    }
-                }
+                synonyms.addAll(getSynonyms(keyword.trim()));
             }
         }
+        searchTelemetry.record(Stage.EXPANSION, expansionStart);
         
-        // 점수별로 정렬
-        List<Long> sortedProductIds = productScoreMap.entrySet().stream()
-                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed())
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-        
-        log.info("OR 조건 검색 결과: {}개 상품, 점수 분포: {}", 
-                sortedProductIds.size(), productScoreMap.values().stream().distinct().sorted().collect(Collectors.toList()));
+        long scoringStart = System.nanoTime();
+        SearchHits hits = searchBackend.retrieveTopK(SearchQuery.anyOf(synonyms)
+                .excluding(excluded)
+                .filteredBy(filter), limit);
+        searchTelemetry.record(Stage.SCORING, scoringStart);
         
-        // 페이징 적용
-        List<ProductImageDTO> finalResults = new ArrayList<>();
-        if (!sortedProductIds.isEmpty()) {
-            int pageSize = pageable.getPageSize();
-            int pageNumber = pageable.getPageNumber();
-            int startIndex = pageNumber * pageSize;
-            int endIndex = Math.min(startIndex + pageSize, sortedProductIds.size());
-            
-            if (startIndex < sortedProductIds.size()) {
-                List<Long> pageIds = sortedProductIds.subList(startIndex, endIndex);
-                List<Product> finalProducts = productRepository.findByIdIn(pageIds);
-                finalResults = convertToProductImageDTO(finalProducts);
+        log.info("OR 조건 다중 키워드 검색 결과: {}개 상품 중 상위 {}개 정렬", 
+                hits.getTotalCount(), hits.getProductIds().length);
+        return hits;
+    }
+
+    /**
+     * 키워드별 동의어 그룹으로 AND 질의 생성
+     */
+    private SearchQuery buildAndQuery(List<String> keywords) {
+        long expansionStart = System.nanoTime();
+        List<List<String>> groups = new ArrayList<>();
+        for (String keyword : keywords) {
+            if (keyword != null && !keyword.trim().isEmpty()) {
+                List<String> synonyms = getSynonyms(keyword.trim());
+                log.info("키워드 '{}'의 동의어: {}", keyword, synonyms);
+                groups.add(synonyms);
             }
         }
+        searchTelemetry.record(Stage.EXPANSION, expansionStart);
+        return SearchQuery.allOf(groups);
+    }
+
+    /**
+     * 검색 결과 ID 배열에서 현재 페이지만 DB에서 조회
+     */
+    private List<ProductImageDTO> hydratePage(long[] productIds, long offset, int size) {
+        int startIndex = (int) Math.min(offset, productIds.length);
+        int endIndex = Math.min(startIndex + size, productIds.length);
         
-        log.info("OR 조건 다중 키워드 검색 결과: {}개 상품 발견", finalResults.size());
-        return finalResults;
+        List<Long> pageIds = new ArrayList<>(endIndex - startIndex);
+        for (int i = startIndex; i < endIndex; i++) {
+            pageIds.add(productIds[i]);
+        }
+        return hydrate(pageIds);
     }
 
     /**
-     * Product 리스트를 ProductImageDTO로 변환
+     * 상품 ID 목록으로 카드 이미지 조회 (ID 순서 보존, 상품 엔티티는 읽지 않음)
      */
-    private List<ProductImageDTO> convertToProductImageDTO(List<Product> products) {
-        if (products.isEmpty()) {
+    private List<ProductImageDTO> hydrate(List<Long> pageIds) {
+        if (pageIds.isEmpty()) {
             return List.of();
         }
         
-        // 상품 ID 목록 추출
-        List<Long> productIds = products.stream()
-                .map(Product::getId)
-                .collect(Collectors.toList());
-        
         // 한 번에 모든 이미지 조회
-        Map<Long, List<ProductImageDTO>> imagesMap = productImageService.getByProductIds(productIds);
-        
-        return products.stream()
-                .flatMap(product -> {
-                    List<ProductImageDTO> images = imagesMap.getOrDefault(product.getId(), List.of());
-                    if (images.isEmpty()) {
-                        // 이미지가 없는 경우 기본 이미지 생성
-                        ProductImageDTO defaultImage = ProductImageDTO.builder()
-                                .id(0L)
-                                .productId(product.getId())
-                                .url("/images/" + product.getId() + ".jpg")
-                                .urlThumbnail("/thumbs/" + product.getId() + "_thumbnail.jpg")
-                                .altText(product.getName())
-                                .imageOrder(1)
-                                .isThumbnail(true)
-                                .build();
-                        return List.of(defaultImage).stream();
-                    }
-                    return images.stream();
-                })
+        long imagesStart = System.nanoTime();
+        Map<Long, List<ProductImageDTO>> imagesMap = productImageService.getByProductIds(pageIds);
+        searchTelemetry.record(Stage.IMAGES, imagesStart);
+        
+        // 이미지가 없는 상품만 기본 이미지용 상품명 조회
+        List<Long> missingIds = pageIds.stream()
+                .filter(productId -> !imagesMap.containsKey(productId))
                 .collect(Collectors.toList());
+        Map<Long, String> names = new HashMap<>();
+        if (!missingIds.isEmpty()) {
+            long hydrationStart = System.nanoTime();
+            productRepository.findSearchDocumentsByIdIn(missingIds)
+                    .forEach(document -> names.put(document.getId(), document.getName()));
+            searchTelemetry.record(Stage.HYDRATION, hydrationStart);
+        }
+        
+        List<ProductImageDTO> result = new ArrayList<>();
+        for (Long productId : pageIds) {
+            List<ProductImageDTO> images = imagesMap.get(productId);
+            if (images != null) {
+                result.addAll(images);
+            } else if (names.containsKey(productId)) {
+                result.add(defaultImage(productId, names.get(productId)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 이미지가 없는 상품의 기본 이미지
+     */
+    private static ProductImageDTO defaultImage(Long productId, String productName) {
+        return ProductImageDTO.builder()
+                .id(0L)
+                .productId(productId)
+                .url("/images/" + productId + ".jpg")
+                .urlThumbnail("/thumbs/" + productId + "_thumbnail.jpg")
+                .altText(productName)
+                .imageOrder(1)
+                .isThumbnail(true)
+                .build();
+    }
+
+    @Override
+    public List<SuggestionDTO> suggest(String prefix, int size) {
+        return suggestIndex.suggest(prefix, size);
     }
 
     @Override
@@ -354,24 +443,18 @@ public class SearchServiceImpl implements SearchService {
             return List.of();
         }
         
-        Page<Product> productPage = productRepository.findByBrandNameContaining(brandName.trim(), pageable);
-        log.info("브랜드 검색 결과: {}개 상품 발견", productPage.getTotalElements());
+        Page<Long> productIds = productRepository.findIdsByBrandNameContaining(brandName.trim(), pageable);
+        log.info("브랜드 검색 결과: {}개 상품 발견", productIds.getTotalElements());
         
-        List<Product> products = productPage.getContent();
-        if (products.isEmpty()) {
+        if (productIds.isEmpty()) {
             return List.of();
         }
         
-        // 상품 ID 목록 추출
-        List<Long> productIds = products.stream()
-                .map(Product::getId)
-                .collect(Collectors.toList());
-        
-        // 한 번에 모든 이미지 조회
-        Map<Long, List<ProductImageDTO>> imagesMap = productImageService.getByProductIds(productIds);
+        // 한 번에 모든 이미지 조회 (카드 DTO만 조회)
+        Map<Long, List<ProductImageDTO>> imagesMap = productImageService.getByProductIds(productIds.getContent());
         
-        return products.stream()
-                .flatMap(product -> imagesMap.getOrDefault(product.getId(), List.of()).stream())
+        return productIds.getContent().stream()
+                .flatMap(productId -> imagesMap.getOrDefault(productId, List.of()).stream())
                 .collect(Collectors.toList());
     }
 
@@ -383,24 +466,18 @@ public class SearchServiceImpl implements SearchService {
             return List.of();
         }
         
-        Page<Product> productPage = productRepository.findByCategoryNameContaining(categoryName.trim(), pageable);
-        log.info("카테고리 검색 결과: {}개 상품 발견", productPage.getTotalElements());
+        Page<Long> productIds = productRepository.findIdsByCategoryNameContaining(categoryName.trim(), pageable);
+        log.info("카테고리 검색 결과: {}개 상품 발견", productIds.getTotalElements());
         
-        List<Product> products = productPage.getContent();
-        if (products.isEmpty()) {
+        if (productIds.isEmpty()) {
             return List.of();
         }
         
-        // 상품 ID 목록 추출
-        List<Long> productIds = products.stream()
-                .map(Product::getId)
-                .collect(Collectors.toList());
-        
-        // 한 번에 모든 이미지 조회
-        Map<Long, List<ProductImageDTO>> imagesMap = productImageService.getByProductIds(productIds);
+        // 한 번에 모든 이미지 조회 (카드 DTO만 조회)
+        Map<Long, List<ProductImageDTO>> imagesMap = productImageService.getByProductIds(productIds.getContent());
         
-        return products.stream()
-                .flatMap(product -> imagesMap.getOrDefault(product.getId(), List.of()).stream())
+        return productIds.getContent().stream()
+                .flatMap(productId -> imagesMap.getOrDefault(productId, List.of()).stream())
                 .collect(Collectors.toList());
     }
 
@@ -409,17 +486,9 @@ public class SearchServiceImpl implements SearchService {
         if (keyword == null || keyword.trim().isEmpty()) {
             return 0;
         }
-        
-        // 키워드 분리
-        List<String> keywords = splitKeywords(keyword.trim());
-        
-        // 키워드가 1개면 기존 방식 사용, 여러 개면 새로운 방식 사용
-        if (keywords.size() == 1) {
-            Page<Product> productPage = productRepository.searchProducts(keywords.get(0), Pageable.unpaged());
-            return productPage.getTotalElements();
-        } else {
-            return getSearchResultCountWithKeywords(keywords);
-        }
+        String trimmedKeyword = keyword.trim();
+        return findHits(splitKeywords(withoutExclusions(trimmedKeyword)), 
+                excludedTerms(trimmedKeyword), null, 0).getTotalCount();
     }
 
     @Override
@@ -428,46 +497,8 @@ public class SearchServiceImpl implements SearchService {
             return 0;
         }
         
-        // 각 키워드별로 동의어를 포함한 검색 후 교집합 찾기 (페이징 없이)
-        Set<Long> commonProductIds = null;
-        
-        for (String keyword : keywords) {
-            if (keyword != null && !keyword.trim().isEmpty()) {
-                // 키워드의 동의어 목록 가져오기
-                List<String> synonyms = getSynonyms(keyword.trim());
-                log.info("개수 계산 - 키워드 '{}'의 동의어: {}", keyword, synonyms);
-                
-                Set<Long> currentProductIds = new HashSet<>();
-                
-                // 각 동의어로 검색
-                for (String synonym : synonyms) {
-                    try {
-                        Page<Product> productPage = productRepository.searchProducts(synonym, Pageable.unpaged());
-                        List<Product> products = productPage.getContent();
-                        currentProductIds.addAll(products.stream()
-                                .map(Product::getId)
-                                .collect(Collectors.toSet()));
-                        log.info("개수 계산 - 동의어 '{}' 검색 결과: {}개 상품", synonym, products.size());
-                    } catch (Exception e) {
-                        log.error("동의어 '{}' 검색 중 오류: {}", synonym, e.getMessage());
-                    }
-                }
-                
-                if (commonProductIds == null) {
-                    // 첫 번째 키워드의 결과로 초기화
-                    commonProductIds = currentProductIds;
-                    log.info("개수 계산 - 첫 번째 키워드 '{}' 검색 결과: {}개 상품", keyword, currentProductIds.size());
-                } else {
-                    // 교집합 계산 (AND 조건)
-                    int beforeSize = commonProductIds.size();
-                    commonProductIds.retainAll(currentProductIds);
-                    log.info("개수 계산 - 키워드 '{}' 추가 후 교집합: {}개 -> {}개 상품", keyword, beforeSize, commonProductIds.size());
-                }
-            }
-        }
-        
-        long totalCount = commonProductIds != null ? commonProductIds.size() : 0;
+        long totalCount = findHits(keywords, List.of(), null, 0).getTotalCount();
         log.info("다중 키워드 검색 총 개수: {}", totalCount);
         return totalCount;
     }
-} 
\ No newline at end of file
+}
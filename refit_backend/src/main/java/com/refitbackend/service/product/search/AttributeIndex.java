@@ -0,0 +1,53 @@
+package com.refitbackend.service.product.search;
+
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * 속성값별 문서 비트맵 (브랜드, 카테고리, 가격 구간 등)
+ * 키 0은 값 없음으로 취급해서 색인하지 않음
+ */
+class AttributeIndex {
+
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+    private final TreeMap<Long, RoaringBitmap> bitmaps = new TreeMap<>();
+
+    void add(long key, int docId) {
+        if (key != 0) {
+            bitmaps.computeIfAbsent(key, k -> new RoaringBitmap()).add(docId);
+        }
+    }
+
+    void remove(long key, int docId) {
+        RoaringBitmap bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.remove(docId);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 속성값에 해당하는 문서 비트맵 (변경 금지)
+     */
+    RoaringBitmap get(long key) {
+        return bitmaps.getOrDefault(key, EMPTY);
+    }
+
+    /**
+     * 키 범위(양 끝 포함)의 비트맵 (변경 금지)
+     */
+    NavigableMap<Long, RoaringBitmap> range(long fromKey, long toKey) {
+        return bitmaps.subMap(fromKey, true, toKey, true);
+    }
+
+    void optimize() {
+        for (RoaringBitmap bitmap : bitmaps.values()) {
+            bitmap.runOptimize();
+        }
+    }
+}
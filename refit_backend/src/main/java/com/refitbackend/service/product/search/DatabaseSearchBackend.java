@@ -0,0 +1,195 @@
+package com.refitbackend.service.product.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.refitbackend.domain.product.ProductChangedEvent;
+import com.refitbackend.dto.product.SearchFacetsDTO;
+import com.refitbackend.dto.product.SearchFilterDTO;
+
+/**
+ * DB 조회 기반 검색 백엔드 공통 처리
+ * 질의(그룹 AND, 동의어 OR, 제외 단어 NOT, 필터)를 SQL WHERE 절로 변환하고
+ * 단어 하나의 매칭 조건만 구현체에서 정의
+ */
+public abstract class DatabaseSearchBackend implements SearchBackend {
+
+    private static final String FROM = " FROM products p"
+            + " LEFT JOIN brands b ON b.id = p.brand_id"
+            + " LEFT JOIN categories c ON c.id = p.category_id"
+            + " LEFT JOIN categories_sub cs ON cs.id = p.category_sub_id";
+
+    protected final JdbcTemplate jdbcTemplate;
+
+    private final AtomicLong version = new AtomicLong();
+
+    protected DatabaseSearchBackend(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 동의어 그룹(OR) 하나의 매칭 조건
+     * @param terms 정규화된 단어 목록 (비어있지 않음)
+     * @param params 조건에 쓰인 파라미터를 순서대로 추가
+     */
+    protected abstract String groupCondition(List<String> terms, List<Object> params);
+
+    @Override
+    public SearchHits retrieve(SearchQuery query) {
+        if (query.isEmpty()) {
+            return SearchHits.empty();
+        }
+        Rows rows = query(query);
+        long[] productIds = rows.productIds.stream().mapToLong(Long::longValue).toArray();
+        return new SearchHits(productIds, productIds.length, rows.buildFacets());
+    }
+
+    @Override
+    public SearchHits retrieveTopK(SearchQuery query, int k) {
+        if (query.isEmpty()) {
+            return SearchHits.empty();
+        }
+        if (k <= 0) {
+            List<Object> params = new ArrayList<>();
+            Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*)" + FROM + where(query, params),
+                    Integer.class, params.toArray());
+            return new SearchHits(new long[0], count != null ? count : 0);
+        }
+
+        String[] terms = query.getGroups().stream()
+                .flatMap(List::stream)
+                .map(ProductSearchIndex::normalize)
+                .filter(term -> !term.isEmpty())
+                .toArray(String[]::new);
+
+        Rows rows = query(query);
+        if (rows.productIds.isEmpty()) {
+            return SearchHits.empty();
+        }
+
+        // 상품명 점수는 인덱스 백엔드와 같은 방식으로 애플리케이션에서 계산
+        TopKCollector collector = new TopKCollector(Math.min(k, rows.productIds.size()));
+        for (int i = 0; i < rows.productIds.size(); i++) {
+            collector.offer(i, NameMatchScorer.score(rows.names.get(i), terms));
+        }
+        int[] top = collector.docIds();
+        long[] result = new long[top.length];
+        for (int i = 0; i < top.length; i++) {
+            result[i] = rows.productIds.get(top[i]);
+        }
+        return new SearchHits(result, rows.productIds.size(), rows.buildFacets());
+    }
+
+    /**
+     * 검색 결과 상품의 ID, 이름, 패싯 속성을 한 번에 조회하면서 패싯 집계
+     */
+    private Rows query(SearchQuery query) {
+        List<Object> params = new ArrayList<>();
+        String sql = "SELECT p.id, p.name, b.id, b.name, c.id, c.name, cs.id, cs.name, p.base_price, p.rating"
+                + FROM + where(query, params) + " ORDER BY p.id";
+        Rows rows = new Rows();
+        jdbcTemplate.query(sql, rs -> {
+            rows.productIds.add(rs.getLong(1));
+            rows.names.add(ProductSearchIndex.normalize(rs.getString(2)));
+            long brandId = rs.getLong(3);
+            long categoryId = rs.getLong(5);
+            long subCategoryId = rs.getLong(7);
+            int price = rs.getInt(9);
+            if (rs.wasNull()) {
+                price = -1;
+            }
+            double rating = rs.getDouble(10);
+            if (rs.wasNull()) {
+                rating = Double.NaN;
+            }
+            rows.brandNames.putIfAbsent(brandId, rs.getString(4));
+            rows.categoryNames.putIfAbsent(categoryId, rs.getString(6));
+            rows.subCategoryNames.putIfAbsent(subCategoryId, rs.getString(8));
+            rows.facets.add(brandId, categoryId, subCategoryId, price, rating);
+        }, params.toArray());
+        return rows;
+    }
+
+    @Override
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * 상품이 바뀌면 캐시된 검색 결과를 쓰지 않도록 버전 증가 (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    private String where(SearchQuery query, List<Object> params) {
+        StringBuilder sql = new StringBuilder(" WHERE 1 = 1");
+        for (List<String> group : query.getGroups()) {
+            List<String> terms = normalizeTerms(group);
+            if (terms.isEmpty()) {
+                sql.append(" AND 1 = 0");
+                continue;
+            }
+            sql.append(" AND (").append(groupCondition(terms, params)).append(')');
+        }
+
+        List<String> excluded = normalizeTerms(query.getExcludedTerms());
+        if (!excluded.isEmpty()) {
+            // NULL 컬럼 비교 결과가 NULL이면 NOT도 NULL이 되므로 FALSE로 변환
+            sql.append(" AND NOT COALESCE((").append(groupCondition(excluded, params)).append("), FALSE)");
+        }
+
+        SearchFilterDTO filter = query.getFilter();
+        if (filter != null) {
+            appendFilter(sql, params, "p.brand_id = ?", filter.getBrandId());
+            appendFilter(sql, params, "p.category_id = ?", filter.getMainCategoryId());
+            appendFilter(sql, params, "p.category_sub_id = ?", filter.getSubCategoryId());
+            appendFilter(sql, params, "p.base_price >= ?", filter.getMinPrice());
+            appendFilter(sql, params, "p.base_price <= ?", filter.getMaxPrice());
+            appendFilter(sql, params, "p.rating >= ?", filter.getMinRating());
+        }
+        return sql.toString();
+    }
+
+    private static void appendFilter(StringBuilder sql, List<Object> params, String condition, Object value) {
+        if (value != null) {
+            sql.append(" AND ").append(condition);
+            params.add(value);
+        }
+    }
+
+    private static List<String> normalizeTerms(List<String> terms) {
+        return terms.stream()
+                .map(ProductSearchIndex::normalize)
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * LIKE '%term%' 패턴 (와일드카드 문자 이스케이프)
+     */
+    protected static String containsPattern(String term) {
+        return "%" + term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+
+    private static final class Rows {
+        private final List<Long> productIds = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+        private final Map<Long, String> brandNames = new HashMap<>();
+        private final Map<Long, String> categoryNames = new HashMap<>();
+        private final Map<Long, String> subCategoryNames = new HashMap<>();
+        private final FacetCounter facets = new FacetCounter();
+
+        private SearchFacetsDTO buildFacets() {
+            return facets.build(brandNames, categoryNames, subCategoryNames);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.refitbackend.service.product.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 오타 교정용 삭제 색인 (SymSpell 방식)
+ * 단어를 자모로 분해한 뒤 최대 MAX_DISTANCE개 자모를 지운 변형을 모두 색인해 두고,
+ * 검색어의 삭제 변형과 겹치는 단어만 편집 거리로 검증
+ * 동기화하지 않으므로 호출 측에서 락 처리
+ */
+class DeletionIndex {
+
+    static final int MAX_DISTANCE = 2;
+
+    // 이보다 긴 단어는 삭제 변형이 너무 많아서 색인하지 않음 (자모 기준)
+    private static final int MAX_TERM_LENGTH = 24;
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<String> terms = new ArrayList<>();
+    private final List<String> jamoTerms = new ArrayList<>();
+    private int[] counts = new int[16];
+
+    // 빈도가 0이 되어 빠진 단어 ID (새 단어에 재사용)
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+
+    // 삭제 변형 -> 단어 ID 목록
+    private final Map<String, Postings> deletes = new HashMap<>();
+
+    /**
+     * 단어 빈도 변경 (처음 보는 단어면 색인)
+     * 빈도가 0이 된 단어는 삭제 변형에서 빼고 단어 ID를 재사용
+     * @param term 정규화된 단어
+     */
+    void add(String term, int delta) {
+        Integer termId = termIds.get(term);
+        if (termId == null) {
+            if (delta <= 0) {
+                return;
+            }
+            String jamo = Jamo.decompose(term);
+            if (jamo.length() > MAX_TERM_LENGTH) {
+                return;
+            }
+            termId = register(term, jamo);
+            for (String variant : variants(jamo, MAX_DISTANCE)) {
+                deletes.computeIfAbsent(variant, key -> new Postings()).add(termId);
+            }
+        }
+        counts[termId] = Math.max(0, counts[termId] + delta);
+        if (counts[termId] == 0) {
+            release(termId);
+        }
+    }
+
+    private int register(String term, String jamo) {
+        int termId;
+        if (freeIds.isEmpty()) {
+            termId = terms.size();
+            terms.add(term);
+            jamoTerms.add(jamo);
+            if (termId >= counts.length) {
+                counts = Arrays.copyOf(counts, counts.length * 2);
+            }
+        } else {
+            termId = freeIds.pop();
+            terms.set(termId, term);
+            jamoTerms.set(termId, jamo);
+        }
+        termIds.put(term, termId);
+        return termId;
+    }
+
+    private void release(int termId) {
+        for (String variant : variants(jamoTerms.get(termId), MAX_DISTANCE)) {
+            Postings postings = deletes.get(variant);
+            if (postings != null && postings.remove(termId) && postings.size == 0) {
+                deletes.remove(variant);
+            }
+        }
+        termIds.remove(terms.get(termId));
+        terms.set(termId, null);
+        jamoTerms.set(termId, null);
+        freeIds.push(termId);
+    }
+
+    /**
+     * 오타 교정 후보
+     * 허용 거리 안에서 거리가 가장 가까운 단어들을 빈도순으로 (검색어와 같은 단어는 제외)
+     * @param word 정규화된 검색어
+     */
+    List<String> lookup(String word, int limit) {
+        String jamo = Jamo.decompose(word);
+        int maxDistance = allowedDistance(jamo.length());
+        if (maxDistance == 0) {
+            return List.of();
+        }
+
+        Set<Integer> visited = new HashSet<>();
+        // 삭제 변형이 겹쳐도 실제 거리는 허용 거리를 넘을 수 있으므로 허용 거리부터 시작
+        int bestDistance = maxDistance;
+        List<Integer> best = new ArrayList<>();
+        for (String variant : variants(jamo, maxDistance)) {
+            Postings postings = deletes.get(variant);
+            if (postings == null) {
+                continue;
+            }
+            for (int i = 0; i < postings.size; i++) {
+                int termId = postings.ids[i];
+                if (!visited.add(termId)) {
+                    continue;
+                }
+                int distance = distance(jamo, jamoTerms.get(termId), bestDistance);
+                if (distance == 0 || distance > bestDistance) {
+                    continue;
+                }
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    best.clear();
+                }
+                best.add(termId);
+            }
+        }
+
+        best.sort((a, b) -> counts[a] != counts[b] ? Integer.compare(counts[b], counts[a])
+                : terms.get(a).compareTo(terms.get(b)));
+        List<String> result = new ArrayList<>(Math.min(limit, best.size()));
+        for (int i = 0; i < best.size() && i < limit; i++) {
+            result.add(terms.get(best.get(i)));
+        }
+        return result;
+    }
+
+    int size() {
+        return termIds.size();
+    }
+
+    // 삭제 변형 개수 (빠진 단어의 변형이 남지 않았는지 확인용)
+    int variantCount() {
+        return deletes.size();
+    }
+
+    /**
+     * 검색어 길이(자모 수)에 따른 허용 거리 - 짧은 단어는 교정하면 엉뚱한 단어가 되기 쉬움
+     */
+    static int allowedDistance(int jamoLength) {
+        if (jamoLength < 4) {
+            return 0;
+        }
+        return jamoLength < 8 ? 1 : MAX_DISTANCE;
+    }
+
+    /**
+     * 최대 maxDeletes개 문자를 지운 변형 (원본 포함)
+     */
+    private static Set<String> variants(String text, int maxDeletes) {
+        Set<String> result = new HashSet<>();
+        result.add(text);
+        List<String> current = List.of(text);
+        for (int d = 0; d < maxDeletes; d++) {
+            List<String> next = new ArrayList<>();
+            for (String value : current) {
+                for (int i = 0; i < value.length(); i++) {
+                    String deleted = value.substring(0, i) + value.substring(i + 1);
+                    if (result.add(deleted)) {
+                        next.add(deleted);
+                    }
+                }
+            }
+            current = next;
+        }
+        return result;
+    }
+
+    /**
+     * 단어 ID 목록 (배열을 두 배씩 늘리고, 삭제는 마지막 원소와 교환 - 순서는 의미 없음)
+     */
+    private static final class Postings {
+        private int[] ids = new int[2];
+        private int size;
+
+        private void add(int termId) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = termId;
+        }
+
+        private boolean remove(int termId) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == termId) {
+                    ids[i] = ids[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 편집 거리 (인접 문자 교환 포함, OSA)
+     * limit을 넘으면 limit + 1 반환
+     */
+    static int distance(String a, String b, int limit) {
+        if (Math.abs(a.length() - b.length()) > limit) {
+            return limit + 1;
+        }
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] swap = previous2;
+            previous2 = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], limit + 1);
+    }
+}
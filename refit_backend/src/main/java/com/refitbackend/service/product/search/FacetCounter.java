@@ -0,0 +1,116 @@
+package com.refitbackend.service.product.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.refitbackend.dto.product.FacetValueDTO;
+import com.refitbackend.dto.product.RangeFacetDTO;
+import com.refitbackend.dto.product.SearchFacetsDTO;
+
+/**
+ * 검색 결과 패싯 집계
+ * 검색 결과를 순회하는 동안 상품마다 add를 호출해서 한 번에 모든 패싯을 계산
+ */
+final class FacetCounter {
+
+    // 가격대 경계 (원) - 마지막 구간은 상한 없음
+    static final int[] PRICE_BANDS = { 0, 10000, 30000, 50000, 100000, 200000 };
+
+    // 평점대: 0~1, 1~2, 2~3, 3~4, 4~5, 5
+    static final int MAX_RATING = 5;
+
+    private final Map<Long, int[]> brands = new HashMap<>();
+    private final Map<Long, int[]> categories = new HashMap<>();
+    private final Map<Long, int[]> subCategories = new HashMap<>();
+    private final int[] prices = new int[PRICE_BANDS.length];
+    private final int[] ratings = new int[MAX_RATING + 1];
+
+    /**
+     * 상품 하나 집계
+     * @param brandId 브랜드 ID (없으면 0)
+     * @param price 가격 (없으면 음수)
+     * @param rating 평점 (없으면 NaN)
+     */
+    void add(long brandId, long categoryId, long subCategoryId, int price, double rating) {
+        increment(brands, brandId);
+        increment(categories, categoryId);
+        increment(subCategories, subCategoryId);
+        if (price >= 0) {
+            prices[priceBand(price)]++;
+        }
+        if (!Double.isNaN(rating)) {
+            ratings[ratingBucket(rating)]++;
+        }
+    }
+
+    /**
+     * 집계 결과 (이름 맵은 ID -> 브랜드명/카테고리명/서브 카테고리명)
+     */
+    SearchFacetsDTO build(Map<Long, String> brandNames, Map<Long, String> categoryNames,
+                          Map<Long, String> subCategoryNames) {
+        List<RangeFacetDTO> priceFacets = new ArrayList<>();
+        for (int i = 0; i < prices.length; i++) {
+            if (prices[i] > 0) {
+                Integer max = i + 1 < PRICE_BANDS.length ? PRICE_BANDS[i + 1] : null;
+                priceFacets.add(new RangeFacetDTO(PRICE_BANDS[i], max, prices[i]));
+            }
+        }
+
+        // 높은 평점부터
+        List<RangeFacetDTO> ratingFacets = new ArrayList<>();
+        for (int rating = MAX_RATING; rating >= 0; rating--) {
+            if (ratings[rating] > 0) {
+                Integer max = rating < MAX_RATING ? rating + 1 : null;
+                ratingFacets.add(new RangeFacetDTO(rating, max, ratings[rating]));
+            }
+        }
+
+        return SearchFacetsDTO.builder()
+                .brands(values(brands, brandNames))
+                .categories(values(categories, categoryNames))
+                .subCategories(values(subCategories, subCategoryNames))
+                .prices(priceFacets)
+                .ratings(ratingFacets)
+                .build();
+    }
+
+    /**
+     * 가격이 속한 가격대 인덱스
+     */
+    static int priceBand(int price) {
+        int band = 0;
+        while (band + 1 < PRICE_BANDS.length && price >= PRICE_BANDS[band + 1]) {
+            band++;
+        }
+        return band;
+    }
+
+    /**
+     * 평점이 속한 평점대 (소수점 버림)
+     */
+    static int ratingBucket(double rating) {
+        return (int) Math.max(0, Math.min(MAX_RATING, Math.floor(rating)));
+    }
+
+    private static void increment(Map<Long, int[]> counts, long id) {
+        if (id != 0) {
+            counts.computeIfAbsent(id, key -> new int[1])[0]++;
+        }
+    }
+
+    /**
+     * 상품 수 많은 순 (같으면 이름순)
+     */
+    private static List<FacetValueDTO> values(Map<Long, int[]> counts, Map<Long, String> names) {
+        List<FacetValueDTO> values = new ArrayList<>(counts.size());
+        for (Map.Entry<Long, int[]> entry : counts.entrySet()) {
+            values.add(new FacetValueDTO(entry.getKey(), names.get(entry.getKey()), entry.getValue()[0]));
+        }
+        values.sort(Comparator.comparingInt(FacetValueDTO::getCount).reversed()
+                .thenComparing(FacetValueDTO::getName, Comparator.nullsLast(Comparator.naturalOrder())));
+        return values;
+    }
+}
@@ -0,0 +1,84 @@
+package com.refitbackend.service.product.search;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MariaDB FULLTEXT 검색 백엔드 (search.backend=fulltext)
+ * 상품명, 설명은 FULLTEXT 인덱스에 MATCH ... AGAINST (BOOLEAN MODE),
+ * 브랜드명, 카테고리명, 서브 카테고리명은 ID로 조인한 작은 테이블이므로 LIKE
+ *
+ * MariaDB InnoDB FULLTEXT는 ngram 파서가 없어서 단어(공백 구분) 단위로 색인됨
+ * - 단어 앞부분 일치(term*)만 지원하고 단어 중간 일치는 찾지 못함
+ * - 두 글자 한글 단어를 찾으려면 서버 설정 innodb_ft_min_token_size=1 필요
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "search.backend", havingValue = "fulltext")
+public class FulltextSearchBackend extends DatabaseSearchBackend {
+
+    public FulltextSearchBackend(JdbcTemplate jdbcTemplate) {
+        super(jdbcTemplate);
+    }
+
+    /**
+     * FULLTEXT 인덱스 생성 (ddl-auto로는 만들어지지 않음)
+     */
+    @PostConstruct
+    public void createIndex() {
+        try {
+            jdbcTemplate.execute("CREATE FULLTEXT INDEX IF NOT EXISTS ft_products_name_description"
+                    + " ON products (name, description)");
+            log.info("FULLTEXT 인덱스 확인 완료: products(name, description)");
+        } catch (DataAccessException e) {
+            log.warn("FULLTEXT 인덱스 생성 실패 - 검색 시 오류가 날 수 있음", e);
+        }
+    }
+
+    @Override
+    protected String groupCondition(List<String> terms, List<Object> params) {
+        // 동의어는 연산자 없이 나열하면 OR
+        StringJoiner against = new StringJoiner(" ");
+        for (String term : terms) {
+            String booleanTerm = toBooleanTerm(term);
+            if (!booleanTerm.isEmpty()) {
+                against.add(booleanTerm);
+            }
+        }
+
+        StringJoiner condition = new StringJoiner(" OR ");
+        if (against.length() > 0) {
+            condition.add("MATCH (p.name, p.description) AGAINST (? IN BOOLEAN MODE)");
+            params.add(against.toString());
+        }
+        for (String term : terms) {
+            String pattern = containsPattern(term);
+            condition.add("b.name LIKE ? OR c.name LIKE ? OR cs.name LIKE ?");
+            params.add(pattern);
+            params.add(pattern);
+            params.add(pattern);
+        }
+        return condition.toString();
+    }
+
+    /**
+     * BOOLEAN MODE 검색어 - 연산자 문자는 공백으로 바꾸고
+     * 한 단어면 앞부분 일치(term*), 여러 단어면 구문 검색("a b")
+     */
+    private static String toBooleanTerm(String term) {
+        String cleaned = term.replaceAll("[+\\-<>()~*\"@]", " ").trim();
+        if (cleaned.isEmpty()) {
+            return "";
+        }
+        String[] words = cleaned.split("\\s+");
+        return words.length == 1 ? words[0] + "*" : "\"" + String.join(" ", words) + "\"";
+    }
+}
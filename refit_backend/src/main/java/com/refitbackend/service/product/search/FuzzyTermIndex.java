@@ -0,0 +1,195 @@
+package com.refitbackend.service.product.search;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.refitbackend.domain.product.ProductChangedEvent;
+import com.refitbackend.dto.product.ProductSearchDocumentDTO;
+import com.refitbackend.repository.product.ProductRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색어 오타 교정 사전
+ * 상품명, 브랜드명, 카테고리명, 서브 카테고리명의 단어와 동의어를 자모 단위 삭제 색인으로 유지
+ * - 빈도는 해당 단어를 가진 상품 수 (동의어는 1)
+ * - 상품 변경 이벤트와 동의어 재로드 이벤트로 바뀐 단어만 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FuzzyTermIndex {
+
+    // 단어 하나당 교정 후보 최대 개수
+    private static final int MAX_CORRECTIONS = 3;
+
+    // 이보다 짧은 단어는 색인하지 않음 (문자 수)
+    private static final int MIN_TERM_LENGTH = 2;
+
+    private final ProductRepository productRepository;
+    private final SynonymDictionary synonymDictionary;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private DeletionIndex index = new DeletionIndex();
+    private Map<Long, String[]> productTerms = new HashMap<>();
+    private Set<String> synonymTerms = Set.of();
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 전체 재구축 - 새 색인을 만든 뒤 교체
+     */
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        List<ProductSearchDocumentDTO> documents = productRepository.findAllSearchDocuments();
+
+        DeletionIndex newIndex = new DeletionIndex();
+        Map<Long, String[]> newProductTerms = new HashMap<>(documents.size() * 2);
+        for (ProductSearchDocumentDTO document : documents) {
+            String[] terms = termsOf(document);
+            newProductTerms.put(document.getId(), terms);
+            addTerms(newIndex, terms, 1);
+        }
+        Set<String> newSynonymTerms = Set.copyOf(synonymDictionary.terms());
+        for (String term : newSynonymTerms) {
+            newIndex.add(term, 1);
+        }
+
+        lock.writeLock().lock();
+        try {
+            index = newIndex;
+            productTerms = newProductTerms;
+            synonymTerms = newSynonymTerms;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("오타 교정 사전 구축 완료: {}개 단어, {}ms", newIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 오타 교정 후보 - 자모 편집 거리가 가장 가까운 사전 단어 (많이 쓰인 순, 최대 3개)
+     * 짧은 단어(자모 4개 미만)와 사전에 그대로 있는 단어는 교정하지 않음
+     */
+    public List<String> correct(String word) {
+        String term = ProductSearchIndex.normalize(word);
+        if (term.length() < MIN_TERM_LENGTH) {
+            return List.of();
+        }
+        ensureLoaded();
+
+        lock.readLock().lock();
+        try {
+            return index.lookup(term, MAX_CORRECTIONS);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 변경 시 해당 상품의 단어만 갱신 (커밋 이후 반영)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!loaded) {
+            return;
+        }
+        String[] newTerms = event.getType() == ProductChangedEvent.Type.DELETED
+                ? null
+                : productRepository.findSearchDocumentById(event.getProductId()).map(FuzzyTermIndex::termsOf).orElse(null);
+
+        lock.writeLock().lock();
+        try {
+            String[] oldTerms = newTerms != null
+                    ? productTerms.put(event.getProductId(), newTerms)
+                    : productTerms.remove(event.getProductId());
+            if (oldTerms != null) {
+                addTerms(index, oldTerms, -1);
+            }
+            if (newTerms != null) {
+                addTerms(index, newTerms, 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 동의어 사전이 바뀌면 동의어 단어만 교체
+     */
+    @EventListener
+    public void onSynonymsReloaded(SynonymsReloadedEvent event) {
+        if (!loaded) {
+            return;
+        }
+        Set<String> newSynonymTerms = Set.copyOf(event.getTerms());
+
+        lock.writeLock().lock();
+        try {
+            for (String term : synonymTerms) {
+                if (!newSynonymTerms.contains(term)) {
+                    index.add(term, -1);
+                }
+            }
+            for (String term : newSynonymTerms) {
+                if (!synonymTerms.contains(term)) {
+                    index.add(term, 1);
+                }
+            }
+            synonymTerms = newSynonymTerms;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    private static void addTerms(DeletionIndex index, String[] terms, int delta) {
+        for (String term : terms) {
+            index.add(term, delta);
+        }
+    }
+
+    /**
+     * 상품의 단어 (문자/숫자가 아닌 문자로 분리, 정규화, 중복 제거)
+     */
+    private static String[] termsOf(ProductSearchDocumentDTO document) {
+        Set<String> terms = new LinkedHashSet<>();
+        Stream.of(document.getName(), document.getBrandName(),
+                        document.getCategoryName(), document.getCategorySubName())
+                .filter(text -> text != null && !text.isBlank())
+                .flatMap(text -> Stream.of(ProductSearchIndex.normalize(text).split("[^\\p{L}\\p{N}]+")))
+                .filter(term -> term.length() >= MIN_TERM_LENGTH)
+                .forEach(terms::add);
+        return terms.toArray(String[]::new);
+    }
+}
@@ -0,0 +1,47 @@
+package com.refitbackend.service.product.search;
+
+/**
+ * 한글 음절 자모 분해
+ * "티셔츠" -> "ㅌㅣㅅㅕㅊㅡ" 처럼 음절을 초성/중성/종성 호환 자모로 풀어서
+ * 오타 거리를 음절 단위가 아닌 자모 단위로 계산할 수 있게 함
+ */
+final class Jamo {
+
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ' };
+    private static final char[] JUNGSEONG = {
+            'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ',
+            'ㅙ', 'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ' };
+    private static final char[] JONGSEONG = {
+            0, 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ',
+            'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ' };
+
+    private Jamo() {
+    }
+
+    /**
+     * 자모 분해 (한글 음절이 아닌 문자는 그대로)
+     */
+    static String decompose(String text) {
+        StringBuilder result = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch < SYLLABLE_BASE || ch > SYLLABLE_LAST) {
+                result.append(ch);
+                continue;
+            }
+            int offset = ch - SYLLABLE_BASE;
+            result.append(CHOSEONG[offset / (21 * 28)]);
+            result.append(JUNGSEONG[offset % (21 * 28) / 28]);
+            if (offset % 28 != 0) {
+                result.append(JONGSEONG[offset % 28]);
+            }
+        }
+        return result.toString();
+    }
+}
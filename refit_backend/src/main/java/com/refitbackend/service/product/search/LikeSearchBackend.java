@@ -0,0 +1,36 @@
+package com.refitbackend.service.product.search;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * LIKE 검색 백엔드 (search.backend=like)
+ * 상품명, 설명, 브랜드명, 카테고리명, 서브 카테고리명에 LIKE '%keyword%' - 인덱스를 쓰지 못하므로 전체 스캔
+ */
+@Component
+@ConditionalOnProperty(name = "search.backend", havingValue = "like")
+public class LikeSearchBackend extends DatabaseSearchBackend {
+
+    private static final String[] COLUMNS = { "p.name", "p.description", "b.name", "c.name", "cs.name" };
+
+    public LikeSearchBackend(JdbcTemplate jdbcTemplate) {
+        super(jdbcTemplate);
+    }
+
+    @Override
+    protected String groupCondition(List<String> terms, List<Object> params) {
+        StringJoiner condition = new StringJoiner(" OR ");
+        for (String term : terms) {
+            String pattern = containsPattern(term);
+            for (String column : COLUMNS) {
+                condition.add(column + " LIKE ?");
+                params.add(pattern);
+            }
+        }
+        return condition.toString();
+    }
+}
@@ -0,0 +1,30 @@
+package com.refitbackend.service.product.search;
+
+/**
+ * 상품명 매칭 점수
+ * - 상품명에 검색어 포함: +10
+ * - 상품명과 정확히 일치: +5
+ * - 상품명이 검색어로 시작: +3
+ * 상품명과 검색어는 모두 정규화(소문자)된 값을 사용
+ */
+final class NameMatchScorer {
+
+    private NameMatchScorer() {
+    }
+
+    static int score(String name, String[] terms) {
+        int score = 0;
+        for (String term : terms) {
+            if (name.contains(term)) {
+                score += 10;
+                if (name.equals(term)) {
+                    score += 5;
+                }
+                if (name.startsWith(term)) {
+                    score += 3;
+                }
+            }
+        }
+        return score;
+    }
+}
@@ -0,0 +1,173 @@
+package com.refitbackend.service.product.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * 문자 n-gram 역색인
+ * 문서(정수 docId)의 텍스트를 1-gram/2-gram으로 분해해서 압축 비트맵(Roaring) posting에 저장하고,
+ * LIKE '%keyword%'와 같은 부분 문자열 검색을 비트맵 AND + 후보 검증으로 처리
+ *
+ * 한글은 음절 하나가 의미 단위에 가까워서 2-gram만으로도 후보가 충분히 좁혀지므로
+ * 3-gram은 만들지 않음 (설명 필드 때문에 posting 크기가 세 배로 늘어남)
+ */
+public class NgramIndex {
+
+    // 필드 구분자 - 필드 경계를 넘어가는 gram은 만들지 않음
+    public static final char FIELD_SEPARATOR = '\u0001';
+
+    private static final int MAX_GRAM = 2;
+
+    private final Map<String, RoaringBitmap> postings = new HashMap<>();
+
+    private String[] texts = new String[1024];
+
+    /**
+     * 문서 추가 (이미 있으면 교체)
+     * @param docId 문서 ID
+     * @param text 정규화된 텍스트 (필드는 FIELD_SEPARATOR로 연결)
+     */
+    public void add(int docId, String text) {
+        remove(docId);
+        if (docId >= texts.length) {
+            texts = Arrays.copyOf(texts, Math.max(texts.length * 2, docId + 1));
+        }
+        texts[docId] = text;
+        for (String gram : grams(text)) {
+            postings.computeIfAbsent(gram, g -> new RoaringBitmap()).add(docId);
+        }
+    }
+
+    /**
+     * 문서 삭제
+     */
+    public void remove(int docId) {
+        if (docId >= texts.length || texts[docId] == null) {
+            return;
+        }
+        for (String gram : grams(texts[docId])) {
+            RoaringBitmap posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(docId);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+        texts[docId] = null;
+    }
+
+    /**
+     * 일괄 색인 후 posting 압축 (연속 구간은 run container로 변환)
+     */
+    public void optimize() {
+        for (RoaringBitmap posting : postings.values()) {
+            posting.runOptimize();
+        }
+    }
+
+    /**
+     * 부분 문자열 검색
+     * @param term 정규화된 검색어
+     * @return 검색어를 포함하는 문서 비트맵 (새로 만든 비트맵이므로 호출 측에서 변경 가능)
+     */
+    public RoaringBitmap search(String term) {
+        if (term == null || term.isEmpty()) {
+            return new RoaringBitmap();
+        }
+
+        Set<String> termGrams = queryGrams(term);
+        if (termGrams.isEmpty()) {
+            return new RoaringBitmap();
+        }
+
+        // posting이 작은 gram부터 AND
+        RoaringBitmap[] bitmaps = new RoaringBitmap[termGrams.size()];
+        int i = 0;
+        for (String gram : termGrams) {
+            RoaringBitmap posting = postings.get(gram);
+            if (posting == null) {
+                return new RoaringBitmap();
+            }
+            bitmaps[i++] = posting;
+        }
+        Arrays.sort(bitmaps, (a, b) -> Long.compare(a.getLongCardinality(), b.getLongCardinality()));
+
+        RoaringBitmap candidates = bitmaps[0].clone();
+        for (int j = 1; j < bitmaps.length && !candidates.isEmpty(); j++) {
+            candidates.and(bitmaps[j]);
+        }
+
+        // 검색어가 gram보다 길면 gram 조합만으로는 확정할 수 없으므로 원문으로 검증
+        if (term.length() <= MAX_GRAM) {
+            return candidates;
+        }
+        RoaringBitmap verified = new RoaringBitmap();
+        IntIterator iterator = candidates.getIntIterator();
+        while (iterator.hasNext()) {
+            int docId = iterator.next();
+            if (texts[docId].contains(term)) {
+                verified.add(docId);
+            }
+        }
+        return verified;
+    }
+
+    /**
+     * 여러 검색어 중 하나라도 포함하는 문서 (OR)
+     */
+    public RoaringBitmap searchAny(List<String> terms) {
+        RoaringBitmap result = new RoaringBitmap();
+        for (String term : terms) {
+            result.or(search(term));
+        }
+        return result;
+    }
+
+    /**
+     * 색인된 문서 텍스트 (없으면 null)
+     */
+    public String textOf(int docId) {
+        return docId < texts.length ? texts[docId] : null;
+    }
+
+    public int termCount() {
+        return postings.size();
+    }
+
+    /**
+     * 색인용 gram - 1-gram과 2-gram 모두 생성
+     */
+    private static Set<String> grams(String text) {
+        Set<String> result = new LinkedHashSet<>();
+        for (int n = 1; n <= MAX_GRAM; n++) {
+            addGrams(result, text, n);
+        }
+        return result;
+    }
+
+    /**
+     * 검색용 gram - 가장 긴 gram만 있으면 충분
+     */
+    private static Set<String> queryGrams(String term) {
+        Set<String> result = new LinkedHashSet<>();
+        addGrams(result, term, Math.min(MAX_GRAM, term.length()));
+        return result;
+    }
+
+    private static void addGrams(Set<String> result, String text, int n) {
+        for (int start = 0; start + n <= text.length(); start++) {
+            String gram = text.substring(start, start + n);
+            if (gram.indexOf(FIELD_SEPARATOR) < 0) {
+                result.add(gram);
+            }
+        }
+    }
+}
@@ -0,0 +1,541 @@
+package com.refitbackend.service.product.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.refitbackend.domain.product.ProductChangedEvent;
+import com.refitbackend.dto.product.ProductSearchDocumentDTO;
+import com.refitbackend.dto.product.SearchFacetsDTO;
+import com.refitbackend.dto.product.SearchFilterDTO;
+import com.refitbackend.repository.product.ProductRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 검색 인덱스
+ * 상품명, 설명, 브랜드명, 카테고리명, 서브 카테고리명을 메모리 n-gram 역색인으로 유지
+ * - 애플리케이션 시작 시 전체 색인
+ * - 상품 변경 이벤트(ProductChangedEvent) 발생 시 해당 상품만 재색인
+ * - 키워드, 제외 단어, 필터(브랜드/카테고리/가격)는 모두 압축 비트맵 AND/OR/ANDNOT으로 평가
+ * 기본 검색 백엔드 (search.backend=index)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "search.backend", havingValue = "index", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ProductSearchIndex implements SearchBackend {
+
+    // 가격 비트맵 구간 크기 (원)
+    private static final int PRICE_BUCKET_SIZE = 10000;
+
+    // 동의어 그룹 비트맵 캐시 최대 개수
+    private static final int MAX_CACHED_GROUPS = 10000;
+
+    private final ProductRepository productRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 동의어 그룹(정규화된 단어 목록) -> 그룹 비트맵, 인덱스가 바뀌면 비움
+    private final Map<List<String>, RoaringBitmap> groupBitmaps = new ConcurrentHashMap<>();
+
+    private State state = new State();
+    private volatile boolean loaded;
+
+    // 검색 결과가 달라질 수 있는 변경이 생길 때마다 증가 (결과 캐시 무효화용)
+    private volatile long version;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 전체 재색인 - 새 인덱스를 만든 뒤 교체
+     */
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        List<ProductSearchDocumentDTO> documents = productRepository.findAllSearchDocuments();
+
+        State newState = new State();
+        for (ProductSearchDocumentDTO document : documents) {
+            newState.put(document);
+        }
+        newState.optimize();
+
+        lock.writeLock().lock();
+        try {
+            state = newState;
+            groupBitmaps.clear();
+            version++;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("검색 인덱스 구축 완료: {}개 상품, {}개 gram, {}ms",
+                documents.size(), newState.text.termCount(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 상품 변경 시 해당 상품만 재색인 (커밋 이후 반영)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!loaded) {
+            return;
+        }
+        if (event.getType() == ProductChangedEvent.Type.DELETED) {
+            remove(event.getProductId());
+            return;
+        }
+        productRepository.findSearchDocumentById(event.getProductId())
+                .ifPresentOrElse(this::put, () -> remove(event.getProductId()));
+    }
+
+    /**
+     * 동의어 확장된 질의를 한 번에 평가해서 후보 상품 ID와 패싯 반환
+     * 상품 ID 변환과 패싯 집계는 결과 비트맵을 한 번 순회하면서 처리
+     * @return 상품 ID 배열 (색인 순서)
+     */
+    @Override
+    public SearchHits retrieve(SearchQuery query) {
+        ensureLoaded();
+        if (query.isEmpty()) {
+            return SearchHits.empty();
+        }
+
+        List<List<String>> groups = normalizeGroups(query);
+        List<String> excludedTerms = normalizeTerms(query.getExcludedTerms());
+
+        lock.readLock().lock();
+        try {
+            RoaringBitmap docIds = evaluate(groups, excludedTerms, query.getFilter());
+            long[] productIds = new long[docIds.getCardinality()];
+            FacetCounter facets = new FacetCounter();
+            IntIterator iterator = docIds.getIntIterator();
+            for (int i = 0; iterator.hasNext(); i++) {
+                int docId = iterator.next();
+                productIds[i] = state.productIds[docId];
+                state.countFacets(facets, docId);
+            }
+            return new SearchHits(productIds, productIds.length, state.buildFacets(facets));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 질의를 평가한 뒤 상품명 매칭 점수 상위 k개만 반환
+     * 전체 후보를 정렬하지 않고 크기 k의 힙만 유지
+     * @param k 필요한 상위 결과 수 (0이면 개수만 계산)
+     */
+    @Override
+    public SearchHits retrieveTopK(SearchQuery query, int k) {
+        ensureLoaded();
+        if (query.isEmpty()) {
+            return SearchHits.empty();
+        }
+
+        List<List<String>> groups = normalizeGroups(query);
+        List<String> excludedTerms = normalizeTerms(query.getExcludedTerms());
+        // 점수 계산용 검색어는 중복 포함 (같은 단어가 여러 키워드에서 나오면 점수도 여러 번)
+        String[] terms = query.getGroups().stream()
+                .flatMap(List::stream)
+                .map(ProductSearchIndex::normalize)
+                .filter(term -> !term.isEmpty())
+                .toArray(String[]::new);
+
+        lock.readLock().lock();
+        try {
+            RoaringBitmap docIds = evaluate(groups, excludedTerms, query.getFilter());
+            int totalCount = docIds.getCardinality();
+            if (k <= 0 || totalCount == 0) {
+                return new SearchHits(new long[0], totalCount);
+            }
+
+            TopKCollector collector = new TopKCollector(Math.min(k, totalCount));
+            FacetCounter facets = new FacetCounter();
+            IntIterator iterator = docIds.getIntIterator();
+            while (iterator.hasNext()) {
+                int docId = iterator.next();
+                collector.offer(docId, NameMatchScorer.score(state.names[docId], terms));
+                state.countFacets(facets, docId);
+            }
+            return new SearchHits(toProductIds(collector.docIds()), totalCount, state.buildFacets(facets));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스 버전 - 값이 같으면 같은 질의의 검색 결과도 같음
+     */
+    @Override
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.docIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 그룹 비트맵 AND 필터 비트맵 ANDNOT 제외 단어 비트맵 (읽기 락 안에서 호출)
+     * 카디널리티가 작은 비트맵부터 AND
+     */
+    private RoaringBitmap evaluate(List<List<String>> groups, List<String> excludedTerms, SearchFilterDTO filter) {
+        List<RoaringBitmap> required = new ArrayList<>();
+        for (List<String> group : groups) {
+            required.add(groupBitmap(group));
+        }
+        if (filter != null) {
+            if (filter.getBrandId() != null) {
+                required.add(state.brands.get(filter.getBrandId()));
+            }
+            if (filter.getMainCategoryId() != null) {
+                required.add(state.categories.get(filter.getMainCategoryId()));
+            }
+            if (filter.getSubCategoryId() != null) {
+                required.add(state.subCategories.get(filter.getSubCategoryId()));
+            }
+            if (filter.hasPriceRange()) {
+                required.add(priceRange(filter.getMinPrice(), filter.getMaxPrice()));
+            }
+            if (filter.getMinRating() != null) {
+                required.add(minRating(filter.getMinRating()));
+            }
+        }
+        required.sort(Comparator.comparingLong(RoaringBitmap::getLongCardinality));
+
+        // 캐시된 비트맵은 공유되므로 복사본에서 연산
+        RoaringBitmap result = required.get(0).clone();
+        for (int i = 1; i < required.size() && !result.isEmpty(); i++) {
+            result.and(required.get(i));
+        }
+        if (!excludedTerms.isEmpty() && !result.isEmpty()) {
+            result.andNot(state.text.searchAny(excludedTerms));
+        }
+        return result;
+    }
+
+    /**
+     * 동의어 그룹 비트맵 (캐시에서 꺼낸 비트맵이므로 변경 금지)
+     */
+    private RoaringBitmap groupBitmap(List<String> group) {
+        RoaringBitmap bitmap = groupBitmaps.get(group);
+        if (bitmap == null) {
+            bitmap = state.text.searchAny(group);
+            bitmap.runOptimize();
+            if (groupBitmaps.size() >= MAX_CACHED_GROUPS) {
+                groupBitmaps.clear();
+            }
+            groupBitmaps.put(group, bitmap);
+        }
+        return bitmap;
+    }
+
+    /**
+     * 가격 범위(양 끝 포함) 비트맵
+     * 범위에 완전히 들어가는 구간은 비트맵 OR, 경계 구간만 가격을 직접 비교
+     */
+    private RoaringBitmap priceRange(Integer minPrice, Integer maxPrice) {
+        int min = minPrice != null ? Math.max(minPrice, 0) : 0;
+        int max = maxPrice != null ? maxPrice : Integer.MAX_VALUE;
+        RoaringBitmap result = new RoaringBitmap();
+        if (min > max) {
+            return result;
+        }
+
+        for (Map.Entry<Long, RoaringBitmap> entry
+                : state.priceBuckets.range(priceBucket(min), priceBucket(max)).entrySet()) {
+            long bucketStart = (entry.getKey() - 1) * PRICE_BUCKET_SIZE;
+            long bucketEnd = bucketStart + PRICE_BUCKET_SIZE - 1;
+            if (bucketStart >= min && bucketEnd <= max) {
+                result.or(entry.getValue());
+                continue;
+            }
+            IntIterator iterator = entry.getValue().getIntIterator();
+            while (iterator.hasNext()) {
+                int docId = iterator.next();
+                int price = state.prices[docId];
+                if (price >= min && price <= max) {
+                    result.add(docId);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 평점 하한 비트맵 - 정수 평점이므로 평점대(소수점 버림) 비트맵 OR로 정확히 계산
+     */
+    private RoaringBitmap minRating(int minRating) {
+        RoaringBitmap result = new RoaringBitmap();
+        if (minRating > FacetCounter.MAX_RATING) {
+            return result;
+        }
+        long from = ratingBucket(Math.max(minRating, 0));
+        for (RoaringBitmap bitmap : state.ratingBuckets.range(from, ratingBucket(FacetCounter.MAX_RATING)).values()) {
+            result.or(bitmap);
+        }
+        return result;
+    }
+
+    // 구간 키 0은 값 없음으로 쓰이므로 1부터 시작
+    private static long ratingBucket(double rating) {
+        return FacetCounter.ratingBucket(rating) + 1L;
+    }
+
+    // 구간 키 0은 값 없음으로 쓰이므로 1부터 시작
+    private static long priceBucket(int price) {
+        return price / PRICE_BUCKET_SIZE + 1L;
+    }
+
+    private long[] toProductIds(int[] docIds) {
+        long[] result = new long[docIds.length];
+        for (int i = 0; i < docIds.length; i++) {
+            result[i] = state.productIds[docIds[i]];
+        }
+        return result;
+    }
+
+    private void put(ProductSearchDocumentDTO document) {
+        lock.writeLock().lock();
+        try {
+            if (state.put(document)) {
+                groupBitmaps.clear();
+                version++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            if (state.remove(productId)) {
+                groupBitmaps.clear();
+                version++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    private static List<List<String>> normalizeGroups(SearchQuery query) {
+        List<List<String>> groups = new ArrayList<>();
+        for (List<String> group : query.getGroups()) {
+            groups.add(normalizeTerms(group));
+        }
+        return groups;
+    }
+
+    private static List<String> normalizeTerms(List<String> terms) {
+        return terms.stream().map(ProductSearchIndex::normalize).distinct().toList();
+    }
+
+    public static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 인덱스 데이터 - docId(0부터 연속)별 속성 배열과 속성값별 비트맵
+     */
+    private static final class State {
+
+        private final NgramIndex text = new NgramIndex();
+        private final Map<Long, Integer> docIds = new HashMap<>();
+        private final AttributeIndex brands = new AttributeIndex();
+        private final AttributeIndex categories = new AttributeIndex();
+        private final AttributeIndex subCategories = new AttributeIndex();
+        private final AttributeIndex priceBuckets = new AttributeIndex();
+        private final AttributeIndex ratingBuckets = new AttributeIndex();
+
+        // 패싯 표시용 ID -> 이름
+        private final Map<Long, String> brandNames = new HashMap<>();
+        private final Map<Long, String> categoryNames = new HashMap<>();
+        private final Map<Long, String> subCategoryNames = new HashMap<>();
+
+        private long[] productIds = new long[16];
+        private String[] names = new String[16];
+        private long[] brandIds = new long[16];
+        private long[] categoryIds = new long[16];
+        private long[] subCategoryIds = new long[16];
+        private int[] prices = new int[16];
+        private double[] ratings = new double[16];
+        private int nextDocId;
+
+        /**
+         * 평점은 구간(필터, 패싯) 단위로만 쓰므로 같은 구간 안에서 바뀌면 값만 교체
+         * (리뷰가 달릴 때마다 검색 결과 캐시가 비워지지 않도록)
+         * @return 검색 결과가 달라질 수 있는 변경인지 여부
+         */
+        boolean put(ProductSearchDocumentDTO document) {
+            String documentText = toText(document);
+            long brandId = idOf(document.getBrandId());
+            long categoryId = idOf(document.getCategoryId());
+            long subCategoryId = idOf(document.getCategorySubId());
+            int price = document.getBasePrice() != null ? document.getBasePrice() : -1;
+            double rating = document.getRating() != null ? document.getRating() : Double.NaN;
+
+            putName(brandNames, brandId, document.getBrandName());
+            putName(categoryNames, categoryId, document.getCategoryName());
+            putName(subCategoryNames, subCategoryId, document.getCategorySubName());
+
+            Integer docId = docIds.get(document.getId());
+            if (docId != null && documentText.equals(text.textOf(docId))
+                    && brandIds[docId] == brandId && categoryIds[docId] == categoryId
+                    && subCategoryIds[docId] == subCategoryId && prices[docId] == price
+                    && sameRatingBucket(ratings[docId], rating)) {
+                ratings[docId] = rating;
+                return false;
+            }
+            if (docId == null) {
+                docId = nextDocId++;
+                ensureCapacity(docId);
+                docIds.put(document.getId(), docId);
+                productIds[docId] = document.getId();
+            } else {
+                removeAttributes(docId);
+            }
+
+            names[docId] = normalize(document.getName());
+            brandIds[docId] = brandId;
+            categoryIds[docId] = categoryId;
+            subCategoryIds[docId] = subCategoryId;
+            prices[docId] = price;
+            ratings[docId] = rating;
+
+            text.add(docId, documentText);
+            brands.add(brandIds[docId], docId);
+            categories.add(categoryIds[docId], docId);
+            subCategories.add(subCategoryIds[docId], docId);
+            if (prices[docId] >= 0) {
+                priceBuckets.add(priceBucket(prices[docId]), docId);
+            }
+            if (!Double.isNaN(ratings[docId])) {
+                ratingBuckets.add(ratingBucket(ratings[docId]), docId);
+            }
+            return true;
+        }
+
+        void countFacets(FacetCounter facets, int docId) {
+            facets.add(brandIds[docId], categoryIds[docId], subCategoryIds[docId], prices[docId], ratings[docId]);
+        }
+
+        SearchFacetsDTO buildFacets(FacetCounter facets) {
+            return facets.build(brandNames, categoryNames, subCategoryNames);
+        }
+
+        /**
+         * @return 색인되어 있던 상품인지 여부
+         */
+        boolean remove(Long productId) {
+            Integer docId = docIds.remove(productId);
+            if (docId == null) {
+                return false;
+            }
+            text.remove(docId);
+            removeAttributes(docId);
+            names[docId] = null;
+            return true;
+        }
+
+        void optimize() {
+            text.optimize();
+            brands.optimize();
+            categories.optimize();
+            subCategories.optimize();
+            priceBuckets.optimize();
+            ratingBuckets.optimize();
+        }
+
+        private static boolean sameRatingBucket(double a, double b) {
+            if (Double.isNaN(a) || Double.isNaN(b)) {
+                return Double.isNaN(a) && Double.isNaN(b);
+            }
+            return ratingBucket(a) == ratingBucket(b);
+        }
+
+        private void removeAttributes(int docId) {
+            brands.remove(brandIds[docId], docId);
+            categories.remove(categoryIds[docId], docId);
+            subCategories.remove(subCategoryIds[docId], docId);
+            if (prices[docId] >= 0) {
+                priceBuckets.remove(priceBucket(prices[docId]), docId);
+            }
+            if (!Double.isNaN(ratings[docId])) {
+                ratingBuckets.remove(ratingBucket(ratings[docId]), docId);
+            }
+        }
+
+        private void ensureCapacity(int docId) {
+            if (docId < productIds.length) {
+                return;
+            }
+            int capacity = Math.max(productIds.length * 2, docId + 1);
+            productIds = Arrays.copyOf(productIds, capacity);
+            names = Arrays.copyOf(names, capacity);
+            brandIds = Arrays.copyOf(brandIds, capacity);
+            categoryIds = Arrays.copyOf(categoryIds, capacity);
+            subCategoryIds = Arrays.copyOf(subCategoryIds, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            ratings = Arrays.copyOf(ratings, capacity);
+        }
+
+        private static void putName(Map<Long, String> names, long id, String name) {
+            if (id != 0 && name != null) {
+                names.put(id, name);
+            }
+        }
+
+        private static long idOf(Long id) {
+            return id != null ? id : 0L;
+        }
+
+        private static String toText(ProductSearchDocumentDTO document) {
+            return String.join(String.valueOf(NgramIndex.FIELD_SEPARATOR),
+                    normalize(document.getName()),
+                    normalize(document.getDescription()),
+                    normalize(document.getBrandName()),
+                    normalize(document.getCategoryName()),
+                    normalize(document.getCategorySubName()));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.refitbackend.service.product.search;
+
+/**
+ * 상품 검색 백엔드
+ * search.backend 설정으로 구현 선택 (index: 메모리 n-gram 인덱스, like: DB LIKE, fulltext: MariaDB FULLTEXT)
+ */
+public interface SearchBackend {
+
+    /**
+     * 질의에 맞는 전체 상품 ID (정렬 없음, 백엔드 고유 순서)와 패싯
+     */
+    SearchHits retrieve(SearchQuery query);
+
+    /**
+     * 질의에 맞는 상품 중 상품명 매칭 점수 상위 k개와 전체 개수, 패싯
+     * @param k 필요한 상위 결과 수 (0이면 개수만 계산, 패싯 없음)
+     */
+    SearchHits retrieveTopK(SearchQuery query, int k);
+
+    /**
+     * 검색 결과가 달라질 수 있는 변경이 생길 때마다 바뀌는 값 (결과 캐시 무효화용)
+     */
+    long version();
+}
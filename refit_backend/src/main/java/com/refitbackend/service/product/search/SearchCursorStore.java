@@ -0,0 +1,120 @@
+package com.refitbackend.service.product.search;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 결과 커서 저장소
+ * 정렬된 검색 결과(상품 ID)를 짧은 시간 동안 보관해서 다음 페이지 요청 시 재계산 없이 사용
+ * 클라이언트에 주는 커서는 "저장 키.다음 페이지 시작 위치" 형식이라 page 없이 커서만으로 이어서 조회
+ */
+@Component
+public class SearchCursorStore {
+
+    private static final long TTL_MILLIS = 5 * 60 * 1000L;
+    private static final int MAX_ENTRIES = 1000;
+
+    private final int maxEntries;
+
+    // 커서 -> 검색 결과 (사용 순서, 가득 차면 가장 오래 사용하지 않은 커서부터 제거)
+    private final LinkedHashMap<String, Entry> entries;
+
+    public SearchCursorStore() {
+        this(MAX_ENTRIES);
+    }
+
+    SearchCursorStore(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > SearchCursorStore.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 검색 결과 저장 (가득 차면 가장 오래 사용하지 않은 커서 제거 - 제거된 커서로 요청하면 다시 검색)
+     * @return 커서 토큰
+     */
+    public String save(String keyword, SearchHits hits) {
+        String cursor = UUID.randomUUID().toString();
+        Entry entry = new Entry(keyword, hits, System.currentTimeMillis() + TTL_MILLIS);
+        synchronized (entries) {
+            entries.put(cursor, entry);
+        }
+        return cursor;
+    }
+
+    /**
+     * 커서로 검색 결과 조회 (조회 시 만료 시간 연장)
+     * @return 검색 결과 (없거나 만료됐거나 검색어가 다르면 null)
+     */
+    public SearchHits find(String cursor, String keyword) {
+        if (cursor == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry entry = entries.get(cursor);
+            if (entry == null || entry.expiresAt < now) {
+                entries.remove(cursor);
+                return null;
+            }
+            if (!entry.keyword.equals(keyword)) {
+                return null;
+            }
+            entries.put(cursor, new Entry(entry.keyword, entry.hits, now + TTL_MILLIS));
+            return entry.hits;
+        }
+    }
+
+    /**
+     * 다음 페이지 시작 위치를 붙인 커서
+     */
+    public static String positioned(String key, long offset) {
+        return key + "." + offset;
+    }
+
+    /**
+     * 커서의 저장 키 (위치가 없는 예전 커서는 그대로)
+     */
+    public static String keyOf(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        int separator = cursor.lastIndexOf('.');
+        return separator < 0 ? cursor : cursor.substring(0, separator);
+    }
+
+    /**
+     * 커서의 페이지 시작 위치 (없거나 잘못된 값이면 defaultOffset)
+     */
+    public static long offsetOf(String cursor, long defaultOffset) {
+        int separator = cursor == null ? -1 : cursor.lastIndexOf('.');
+        if (separator < 0) {
+            return defaultOffset;
+        }
+        try {
+            long offset = Long.parseLong(cursor.substring(separator + 1));
+            return offset >= 0 ? offset : defaultOffset;
+        } catch (NumberFormatException e) {
+            return defaultOffset;
+        }
+    }
+
+    private static final class Entry {
+        private final String keyword;
+        private final SearchHits hits;
+        private final long expiresAt;
+
+        private Entry(String keyword, SearchHits hits, long expiresAt) {
+            this.keyword = keyword;
+            this.hits = hits;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.refitbackend.service.product.search;
+
+import com.refitbackend.dto.product.SearchFacetsDTO;
+
+import lombok.Getter;
+
+/**
+ * 정렬된 검색 결과
+ * 점수순 검색은 요청한 페이지까지의 상위 결과만 가지고 있을 수 있음
+ * 패싯은 전체 검색 결과 기준 (개수만 계산한 경우 null)
+ */
+@Getter
+public class SearchHits {
+
+    private static final SearchHits EMPTY = new SearchHits(new long[0], 0);
+
+    private final long[] productIds;
+    private final int totalCount;
+    private final SearchFacetsDTO facets;
+
+    public SearchHits(long[] productIds, int totalCount) {
+        this(productIds, totalCount, null);
+    }
+
+    public SearchHits(long[] productIds, int totalCount, SearchFacetsDTO facets) {
+        this.productIds = productIds;
+        this.totalCount = totalCount;
+        this.facets = facets;
+    }
+
+    /**
+     * 전체 결과를 가진 검색 결과
+     */
+    public static SearchHits of(long[] productIds) {
+        return productIds.length == 0 ? EMPTY : new SearchHits(productIds, productIds.length);
+    }
+
+    public static SearchHits empty() {
+        return EMPTY;
+    }
+
+    /**
+     * endIndex까지의 결과를 가지고 있는지 여부
+     */
+    public boolean covers(long endIndex) {
+        return productIds.length >= Math.min(endIndex, totalCount);
+    }
+}
@@ -0,0 +1,69 @@
+package com.refitbackend.service.product.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.refitbackend.dto.product.SearchFilterDTO;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 동의어 확장이 끝난 검색 질의
+ * - 키워드 그룹끼리는 AND
+ * - 그룹 안의 동의어끼리는 OR
+ * - 제외 단어는 NOT
+ * - 필터(브랜드, 카테고리, 가격)는 AND
+ */
+@Getter
+@ToString
+public class SearchQuery {
+
+    private final List<List<String>> groups;
+    private final List<String> excludedTerms;
+    private final SearchFilterDTO filter;
+
+    private SearchQuery(List<List<String>> groups, List<String> excludedTerms, SearchFilterDTO filter) {
+        this.groups = groups;
+        this.excludedTerms = excludedTerms;
+        this.filter = filter;
+    }
+
+    /**
+     * 키워드 그룹 AND 질의
+     */
+    public static SearchQuery allOf(List<List<String>> groups) {
+        List<List<String>> copy = new ArrayList<>();
+        for (List<String> group : groups) {
+            if (group != null && !group.isEmpty()) {
+                copy.add(List.copyOf(group));
+            }
+        }
+        return new SearchQuery(List.copyOf(copy), List.of(), null);
+    }
+
+    /**
+     * 모든 단어 OR 질의 (그룹 하나)
+     */
+    public static SearchQuery anyOf(List<String> terms) {
+        return allOf(List.of(terms));
+    }
+
+    /**
+     * 제외 단어 추가 (하나라도 포함하면 제외)
+     */
+    public SearchQuery excluding(List<String> terms) {
+        return new SearchQuery(groups, terms == null ? List.of() : List.copyOf(terms), filter);
+    }
+
+    /**
+     * 필터 추가
+     */
+    public SearchQuery filteredBy(SearchFilterDTO filter) {
+        return new SearchQuery(groups, excludedTerms, filter);
+    }
+
+    public boolean isEmpty() {
+        return groups.isEmpty();
+    }
+}
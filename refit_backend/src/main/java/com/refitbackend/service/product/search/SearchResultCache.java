@@ -0,0 +1,133 @@
+package com.refitbackend.service.product.search;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 결과 캐시
+ * 정규화된 질의 키 -> 정렬된 검색 결과(상품 ID)
+ * - 최대 개수를 넘으면 가장 오래 사용하지 않은 항목부터 제거 (LRU)
+ * - 저장 후 TTL이 지나면 만료
+ * - 저장 당시 인덱스 버전과 현재 버전이 다르면 무효 (상품 변경 반영)
+ * - 동의어 사전이 바뀌면 전체 삭제 (키에 사전 버전이 들어가므로 이전 항목은 다시 쓰이지 않음)
+ */
+@Component
+public class SearchResultCache {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    private final LinkedHashMap<String, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public SearchResultCache(@Value("${search.cache.max-entries:1000}") int maxEntries,
+                             @Value("${search.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > SearchResultCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시 조회
+     * @param version 현재 인덱스 버전
+     * @param limit 필요한 결과 수 (캐시된 결과가 여기까지 없으면 없는 것으로 처리)
+     * @return 검색 결과 (없으면 null)
+     */
+    public SearchHits get(String key, long version, int limit) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && (entry.version != version || entry.expiresAt < now)) {
+                entries.remove(key);
+                entry = null;
+            }
+            if (entry == null || !entry.hits.covers(limit)) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.hits;
+        }
+    }
+
+    public void put(String key, long version, SearchHits searchHits) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        Entry entry = new Entry(searchHits, version, System.currentTimeMillis() + ttlMillis);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    @EventListener
+    public void onSynonymsReloaded(SynonymsReloadedEvent event) {
+        clear();
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * 적중률 (조회가 없으면 0)
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    private static final class Entry {
+        private final SearchHits hits;
+        private final long version;
+        private final long expiresAt;
+
+        private Entry(SearchHits hits, long version, long expiresAt) {
+            this.hits = hits;
+            this.version = version;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.refitbackend.service.product.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.refitbackend.dto.product.QueryCountDTO;
+import com.refitbackend.dto.product.SearchStageStatDTO;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색 통계
+ * - 단계별 소요 시간 (횟수, 평균, 최대)
+ * - 인기 검색어, 결과 없는 검색어 상위 목록 (고정 메모리, Space-Saving 근사)
+ * 캐시 예열 대상과 동의어 추가 대상을 고르는 데 사용
+ */
+@Slf4j
+@Component
+public class SearchTelemetry {
+
+    /**
+     * 검색 단계
+     */
+    public enum Stage {
+        // 검색어 분리, 제외 단어, 동의어 확장, 오타 교정
+        EXPANSION,
+        // 후보 조회 (AND, 단일 키워드)
+        RETRIEVAL,
+        // 후보 조회 + 점수순 상위 K개 정렬 (OR)
+        SCORING,
+        // 현재 페이지 상품 조회
+        HYDRATION,
+        // 상품 이미지 조회
+        IMAGES,
+        // 검색 요청 전체
+        TOTAL
+    }
+
+    private final int topCapacity;
+    private final long slowQueryMillis;
+
+    private final StageTimer[] timers = new StageTimer[Stage.values().length];
+
+    private final SpaceSaving popularQueries;
+    private final SpaceSaving zeroResultQueries;
+
+    public SearchTelemetry(@Value("${search.telemetry.top-capacity:200}") int topCapacity,
+                           @Value("${search.telemetry.slow-query-ms:500}") long slowQueryMillis) {
+        this.topCapacity = topCapacity;
+        this.slowQueryMillis = slowQueryMillis;
+        for (Stage stage : Stage.values()) {
+            timers[stage.ordinal()] = new StageTimer();
+        }
+        this.popularQueries = new SpaceSaving(topCapacity);
+        this.zeroResultQueries = new SpaceSaving(topCapacity);
+    }
+
+    /**
+     * 단계 소요 시간 기록
+     * @param startNanos System.nanoTime()으로 잰 시작 시각
+     */
+    public void record(Stage stage, long startNanos) {
+        timers[stage.ordinal()].add(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 검색 요청 기록 (전체 소요 시간, 인기 검색어, 결과 없는 검색어)
+     * @param startNanos System.nanoTime()으로 잰 시작 시각
+     */
+    public void recordQuery(String keyword, long totalCount, long startNanos) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        timers[Stage.TOTAL.ordinal()].add(elapsedNanos);
+
+        long elapsedMillis = elapsedNanos / 1_000_000;
+        if (elapsedMillis >= slowQueryMillis) {
+            log.warn("느린 검색: '{}', {}ms, {}개 결과", keyword, elapsedMillis, totalCount);
+        }
+
+        String query = ProductSearchIndex.normalize(keyword);
+        if (query.isEmpty()) {
+            return;
+        }
+        synchronized (popularQueries) {
+            popularQueries.offer(query);
+        }
+        if (totalCount == 0) {
+            synchronized (zeroResultQueries) {
+                zeroResultQueries.offer(query);
+            }
+        }
+    }
+
+    public List<SearchStageStatDTO> getStageStats() {
+        List<SearchStageStatDTO> stats = new ArrayList<>(timers.length);
+        for (Stage stage : Stage.values()) {
+            stats.add(timers[stage.ordinal()].toDTO(stage));
+        }
+        return stats;
+    }
+
+    public List<QueryCountDTO> getPopularQueries(int limit) {
+        synchronized (popularQueries) {
+            return popularQueries.top(limit);
+        }
+    }
+
+    public List<QueryCountDTO> getZeroResultQueries(int limit) {
+        synchronized (zeroResultQueries) {
+            return zeroResultQueries.top(limit);
+        }
+    }
+
+    public int getTopCapacity() {
+        return topCapacity;
+    }
+
+    public void reset() {
+        for (StageTimer timer : timers) {
+            timer.reset();
+        }
+        synchronized (popularQueries) {
+            popularQueries.clear();
+        }
+        synchronized (zeroResultQueries) {
+            zeroResultQueries.clear();
+        }
+    }
+
+    private static final class StageTimer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private void add(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        private void reset() {
+            count.reset();
+            totalNanos.reset();
+            maxNanos.reset();
+        }
+
+        private SearchStageStatDTO toDTO(Stage stage) {
+            long samples = count.sum();
+            double avgMillis = samples == 0 ? 0 : totalNanos.sum() / 1_000_000.0 / samples;
+            return new SearchStageStatDTO(stage.name().toLowerCase(), samples, avgMillis, maxNanos.get() / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.refitbackend.service.product.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.refitbackend.dto.product.QueryCountDTO;
+
+/**
+ * 빈도 상위 항목 추적 (Space-Saving 알고리즘)
+ * 최대 capacity개 항목만 유지하고, 가득 찬 상태에서 새 항목이 들어오면 가장 적게 나온 항목을 대체
+ * - 대체된 항목의 횟수를 물려받으므로 횟수는 실제보다 최대 error만큼 클 수 있음
+ * - 실제 횟수가 전체의 1/capacity보다 큰 항목은 반드시 남아 있음
+ * 동기화하지 않으므로 호출 측에서 락 처리
+ */
+final class SpaceSaving {
+
+    private final int capacity;
+    private final Map<String, Counter> counters = new HashMap<>();
+
+    SpaceSaving(int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    void offer(String key) {
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.count++;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(key, new Counter(key, 1, 0));
+            return;
+        }
+
+        Counter min = null;
+        for (Counter candidate : counters.values()) {
+            if (min == null || candidate.count < min.count) {
+                min = candidate;
+            }
+        }
+        counters.remove(min.key);
+        counters.put(key, new Counter(key, min.count + 1, min.count));
+    }
+
+    /**
+     * 횟수 많은 순으로 상위 limit개
+     */
+    List<QueryCountDTO> top(int limit) {
+        List<Counter> sorted = new ArrayList<>(counters.values());
+        sorted.sort(Comparator.comparingLong((Counter counter) -> counter.count).reversed()
+                .thenComparing(counter -> counter.key));
+
+        List<QueryCountDTO> result = new ArrayList<>(Math.min(limit, sorted.size()));
+        for (int i = 0; i < sorted.size() && i < limit; i++) {
+            Counter counter = sorted.get(i);
+            result.add(new QueryCountDTO(counter.key, counter.count, counter.error));
+        }
+        return result;
+    }
+
+    void clear() {
+        counters.clear();
+    }
+
+    private static final class Counter {
+        private final String key;
+        private long count;
+        private final long error;
+
+        private Counter(String key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.refitbackend.service.product.search;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.refitbackend.domain.product.ProductChangedEvent;
+import com.refitbackend.dto.product.ProductSearchDocumentDTO;
+import com.refitbackend.dto.product.SuggestionDTO;
+import com.refitbackend.repository.product.ProductRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색어 자동완성 사전
+ * 상품명, 브랜드명, 카테고리명, 서브 카테고리명, 동의어를 접두어 트라이로 유지
+ * - 가중치는 해당 단어를 가진 상품 수 (동의어는 1)
+ * - 상품 변경 이벤트와 동의어 재로드 이벤트로 바뀐 단어만 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SuggestIndex {
+
+    private final ProductRepository productRepository;
+    private final SynonymDictionary synonymDictionary;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private SuggestTrie trie = new SuggestTrie();
+    private Map<Long, String[]> productTerms = new HashMap<>();
+    private Set<String> synonymTerms = Set.of();
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 전체 재구축 - 새 트라이를 만든 뒤 교체
+     */
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        List<ProductSearchDocumentDTO> documents = productRepository.findAllSearchDocuments();
+
+        SuggestTrie newTrie = new SuggestTrie();
+        Map<Long, String[]> newProductTerms = new HashMap<>(documents.size() * 2);
+        for (ProductSearchDocumentDTO document : documents) {
+            String[] terms = termsOf(document);
+            newProductTerms.put(document.getId(), terms);
+            addTerms(newTrie, terms, 1, false);
+        }
+        Set<String> newSynonymTerms = Set.copyOf(synonymDictionary.terms());
+        for (String term : newSynonymTerms) {
+            newTrie.add(term, term, 1, false);
+        }
+        newTrie.refreshAll();
+
+        lock.writeLock().lock();
+        try {
+            trie = newTrie;
+            productTerms = newProductTerms;
+            synonymTerms = newSynonymTerms;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("자동완성 사전 구축 완료: {}개 단어, {}ms", newTrie.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 접두어로 시작하는 검색어를 인기순으로 최대 size개
+     */
+    public List<SuggestionDTO> suggest(String prefix, int size) {
+        String key = ProductSearchIndex.normalize(prefix);
+        if (key.isEmpty() || size <= 0) {
+            return List.of();
+        }
+        ensureLoaded();
+
+        lock.readLock().lock();
+        try {
+            return trie.complete(key, Math.min(size, SuggestTrie.MAX_TOP)).stream()
+                    .map(node -> new SuggestionDTO(node.getText(), node.getWeight()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 변경 시 해당 상품의 단어만 갱신 (커밋 이후 반영)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!loaded) {
+            return;
+        }
+        String[] newTerms = event.getType() == ProductChangedEvent.Type.DELETED
+                ? null
+                : productRepository.findSearchDocumentById(event.getProductId()).map(SuggestIndex::termsOf).orElse(null);
+
+        lock.writeLock().lock();
+        try {
+            String[] oldTerms = newTerms != null
+                    ? productTerms.put(event.getProductId(), newTerms)
+                    : productTerms.remove(event.getProductId());
+            if (oldTerms != null) {
+                addTerms(trie, oldTerms, -1, true);
+            }
+            if (newTerms != null) {
+                addTerms(trie, newTerms, 1, true);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 동의어 사전이 바뀌면 동의어 단어만 교체
+     */
+    @EventListener
+    public void onSynonymsReloaded(SynonymsReloadedEvent event) {
+        if (!loaded) {
+            return;
+        }
+        Set<String> newSynonymTerms = Set.copyOf(event.getTerms());
+
+        lock.writeLock().lock();
+        try {
+            for (String term : synonymTerms) {
+                if (!newSynonymTerms.contains(term)) {
+                    trie.add(term, term, -1, true);
+                }
+            }
+            for (String term : newSynonymTerms) {
+                if (!synonymTerms.contains(term)) {
+                    trie.add(term, term, 1, true);
+                }
+            }
+            synonymTerms = newSynonymTerms;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    private static void addTerms(SuggestTrie trie, String[] terms, int delta, boolean refresh) {
+        for (String term : terms) {
+            trie.add(ProductSearchIndex.normalize(term), term, delta, refresh);
+        }
+    }
+
+    /**
+     * 상품의 자동완성 단어 (중복 제거, 원래 표기 유지)
+     */
+    private static String[] termsOf(ProductSearchDocumentDTO document) {
+        Set<String> keys = new HashSet<>();
+        return Stream.of(document.getName(), document.getBrandName(),
+                        document.getCategoryName(), document.getCategorySubName())
+                .filter(term -> term != null && !term.isBlank())
+                .map(String::trim)
+                .filter(term -> keys.add(ProductSearchIndex.normalize(term)))
+                .toArray(String[]::new);
+    }
+}
@@ -0,0 +1,190 @@
+package com.refitbackend.service.product.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 자동완성용 접두어 트라이
+ * - 자식은 정렬된 char 배열 + 노드 배열로 보관 (Map 대비 메모리 절약)
+ * - 노드마다 하위 단어 중 가중치 상위 MAX_TOP개를 미리 계산해 두어서 조회는 접두어 길이만큼만 탐색
+ * 동기화하지 않으므로 호출 측에서 락 처리
+ */
+class SuggestTrie {
+
+    static final int MAX_TOP = 10;
+
+    private static final char[] NO_LABELS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Node[] NO_TOP = new Node[0];
+
+    private static final Comparator<Node> BY_WEIGHT = Comparator
+            .comparingInt((Node node) -> node.weight).reversed()
+            .thenComparing(node -> node.text);
+
+    private final Node root = new Node();
+    private int size;
+
+    /**
+     * 단어 가중치 변경 (없으면 추가, 0 이하가 되면 삭제)
+     * @param key 정규화된 단어
+     * @param text 화면에 보여줄 단어 (처음 추가될 때만 사용)
+     * @param refresh 경로의 상위 목록을 바로 갱신할지 여부 (일괄 구축 시 false 후 refreshAll)
+     */
+    void add(String key, String text, int delta, boolean refresh) {
+        if (key.isEmpty() || delta == 0) {
+            return;
+        }
+
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            Node child = node.child(key.charAt(i));
+            if (child == null) {
+                if (delta < 0) {
+                    return;
+                }
+                child = node.addChild(key.charAt(i));
+            }
+            node = child;
+            path[i + 1] = node;
+        }
+
+        boolean wasTerminal = node.text != null;
+        if (!wasTerminal && delta < 0) {
+            return;
+        }
+        node.weight += delta;
+        if (node.weight <= 0) {
+            node.weight = 0;
+            node.text = null;
+            size--;
+        } else if (!wasTerminal) {
+            node.text = text;
+            size++;
+        }
+
+        if (refresh) {
+            for (int i = path.length - 1; i >= 0; i--) {
+                // 단어도 자식도 없는 노드는 부모에서 제거
+                if (i > 0 && path[i].text == null && path[i].labels.length == 0) {
+                    path[i - 1].removeChild(key.charAt(i - 1));
+                    continue;
+                }
+                path[i].refreshTop();
+            }
+        }
+    }
+
+    /**
+     * 전체 노드의 상위 목록 재계산 (후위 순회)
+     */
+    void refreshAll() {
+        List<Node> order = new ArrayList<>();
+        List<Node> stack = new ArrayList<>();
+        stack.add(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.remove(stack.size() - 1);
+            order.add(node);
+            stack.addAll(Arrays.asList(node.children));
+        }
+        for (int i = order.size() - 1; i >= 0; i--) {
+            order.get(i).refreshTop();
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 단어를 가중치 순으로 최대 limit개
+     */
+    List<Node> complete(String prefix, int limit) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        int count = Math.min(limit, node.top.length);
+        return Arrays.asList(node.top).subList(0, count);
+    }
+
+    int size() {
+        return size;
+    }
+
+    static final class Node {
+
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private Node[] top = NO_TOP;
+        private String text;
+        private int weight;
+
+        String getText() {
+            return text;
+        }
+
+        int getWeight() {
+            return weight;
+        }
+
+        private Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node addChild(char label) {
+            int index = -(Arrays.binarySearch(labels, label) + 1);
+            Node child = new Node();
+
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newLabels[index] = label;
+            newChildren[index] = child;
+            System.arraycopy(labels, index, newLabels, index + 1, labels.length - index);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+
+            labels = newLabels;
+            children = newChildren;
+            return child;
+        }
+
+        private void removeChild(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index < 0) {
+                return;
+            }
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(labels, index + 1, newLabels, index, labels.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            labels = newLabels;
+            children = newChildren;
+        }
+
+        /**
+         * 자신과 자식들의 상위 목록을 합쳐서 상위 MAX_TOP개 계산
+         */
+        private void refreshTop() {
+            List<Node> candidates = new ArrayList<>();
+            if (text != null) {
+                candidates.add(this);
+            }
+            for (Node child : children) {
+                candidates.addAll(Arrays.asList(child.top));
+            }
+            if (candidates.isEmpty()) {
+                top = NO_TOP;
+                return;
+            }
+            candidates.sort(BY_WEIGHT);
+            top = candidates.subList(0, Math.min(MAX_TOP, candidates.size())).toArray(NO_TOP);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.refitbackend.service.product.search;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색 동의어 사전
+ * 동의어 파일을 읽어서 단어 -> 그룹 ID 불변 맵으로 컴파일
+ * - 그룹 안의 모든 단어가 서로 동의어 (양방향)
+ * - 파일이 바뀌면 재시작 없이 다시 컴파일해서 교체
+ */
+@Slf4j
+@Component
+public class SynonymDictionary {
+
+    private final ResourceLoader resourceLoader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String location;
+
+    private volatile Compiled compiled = Compiled.EMPTY;
+    private volatile long lastModified = -1;
+    // 사전이 바뀔 때마다 증가 (검색 결과 캐시 키에 사용)
+    private volatile long version;
+
+    public SynonymDictionary(ResourceLoader resourceLoader, ApplicationEventPublisher eventPublisher,
+                             @Value("${search.synonyms.location:classpath:search/synonyms.txt}") String location) {
+        this.resourceLoader = resourceLoader;
+        this.eventPublisher = eventPublisher;
+        this.location = location;
+    }
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    /**
+     * 동의어 확장 - 단어가 속한 그룹의 모든 단어 (그룹이 없으면 단어 자신만)
+     */
+    public List<String> expand(String term) {
+        Compiled current = compiled;
+        Integer groupId = current.groupIds.get(ProductSearchIndex.normalize(term));
+        return groupId != null ? current.groups.get(groupId) : List.of(term);
+    }
+
+    /**
+     * 대표 단어 - 그룹의 첫 단어 (그룹이 없으면 정규화된 단어 자신)
+     * 같은 그룹의 단어는 같은 값이 되므로 캐시 키 등에 사용
+     */
+    public String canonical(String term) {
+        Compiled current = compiled;
+        String normalized = ProductSearchIndex.normalize(term);
+        Integer groupId = current.groupIds.get(normalized);
+        return groupId != null ? current.groups.get(groupId).get(0) : normalized;
+    }
+
+    /**
+     * 사전의 전체 단어 (정규화된 값)
+     */
+    public Set<String> terms() {
+        return compiled.groupIds.keySet();
+    }
+
+    /**
+     * 사전 버전 - 다시 읽을 때마다 바뀜 (읽은 뒤의 사전은 항상 이 버전 이후)
+     */
+    public long version() {
+        return version;
+    }
+
+    public int groupCount() {
+        return compiled.groups.size();
+    }
+
+    public int termCount() {
+        return compiled.groupIds.size();
+    }
+
+    /**
+     * 동의어 파일이 바뀌었으면 다시 읽기
+     */
+    @Scheduled(fixedDelayString = "${search.synonyms.reload-interval:30000}")
+    public void reloadIfModified() {
+        Resource resource = resourceLoader.getResource(location);
+        long modified = lastModifiedOf(resource);
+        if (modified != -1 && modified != lastModified) {
+            reload();
+        }
+    }
+
+    /**
+     * 동의어 파일을 다시 읽어서 교체 (실패하면 기존 사전 유지)
+     */
+    public synchronized void reload() {
+        Resource resource = resourceLoader.getResource(location);
+        if (!resource.exists()) {
+            log.warn("동의어 파일 없음: {}", location);
+            return;
+        }
+
+        try {
+            long modified = lastModifiedOf(resource);
+            List<List<String>> lines = new ArrayList<>();
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    List<String> terms = parseLine(line);
+                    if (terms.size() > 1) {
+                        lines.add(terms);
+                    }
+                }
+            }
+
+            compiled = Compiled.of(lines);
+            version++;
+            lastModified = modified;
+            log.info("동의어 사전 로드 완료: {}개 그룹, {}개 단어", compiled.groups.size(), compiled.groupIds.size());
+            eventPublisher.publishEvent(new SynonymsReloadedEvent(compiled.groupIds.keySet()));
+        } catch (IOException e) {
+            log.error("동의어 파일 읽기 실패: {}", location, e);
+        }
+    }
+
+    /**
+     * 수정 시간 (알 수 없으면 -1)
+     */
+    private static long lastModifiedOf(Resource resource) {
+        try {
+            return resource.exists() ? resource.lastModified() : -1;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static List<String> parseLine(String line) {
+        int comment = line.indexOf('#');
+        if (comment >= 0) {
+            line = line.substring(0, comment);
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        for (String term : line.split(",")) {
+            String normalized = ProductSearchIndex.normalize(term);
+            if (!normalized.isEmpty()) {
+                terms.add(normalized);
+            }
+        }
+        return new ArrayList<>(terms);
+    }
+
+    /**
+     * 컴파일된 사전 (불변)
+     */
+    private static final class Compiled {
+
+        private static final Compiled EMPTY = new Compiled(Map.of(), List.of());
+
+        private final Map<String, Integer> groupIds;
+        private final List<List<String>> groups;
+
+        private Compiled(Map<String, Integer> groupIds, List<List<String>> groups) {
+            this.groupIds = groupIds;
+            this.groups = groups;
+        }
+
+        /**
+         * 단어를 공유하는 줄은 하나의 그룹으로 합침
+         */
+        static Compiled of(List<List<String>> lines) {
+            int[] parent = new int[lines.size()];
+            Map<String, Integer> firstLine = new HashMap<>();
+            for (int i = 0; i < lines.size(); i++) {
+                parent[i] = i;
+                for (String term : lines.get(i)) {
+                    Integer other = firstLine.putIfAbsent(term, i);
+                    if (other != null) {
+                        parent[find(parent, i)] = find(parent, other);
+                    }
+                }
+            }
+
+            Map<Integer, Set<String>> merged = new LinkedHashMap<>();
+            for (int i = 0; i < lines.size(); i++) {
+                merged.computeIfAbsent(find(parent, i), root -> new LinkedHashSet<>()).addAll(lines.get(i));
+            }
+
+            Map<String, Integer> groupIds = new HashMap<>();
+            List<List<String>> groups = new ArrayList<>(merged.size());
+            for (Set<String> terms : merged.values()) {
+                int groupId = groups.size();
+                groups.add(List.copyOf(terms));
+                for (String term : terms) {
+                    groupIds.put(term, groupId);
+                }
+            }
+            return new Compiled(Map.copyOf(groupIds), List.copyOf(groups));
+        }
+
+        private static int find(int[] parent, int i) {
+            while (parent[i] != i) {
+                parent[i] = parent[parent[i]];
+                i = parent[i];
+            }
+            return i;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.refitbackend.service.product.search;
+
+import java.util.Set;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 동의어 사전 재로드 이벤트
+ * 자동완성 사전 등 동의어 단어를 가지고 있는 곳에서 갱신에 사용
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class SynonymsReloadedEvent {
+
+    // 새 사전의 전체 단어 (정규화된 값)
+    private final Set<String> terms;
+}
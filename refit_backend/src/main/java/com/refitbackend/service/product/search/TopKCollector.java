@@ -0,0 +1,76 @@
+package com.refitbackend.service.product.search;
+
+import java.util.Arrays;
+
+/**
+ * 점수 상위 K개 문서 수집기
+ * (점수, docId)를 long 하나로 묶은 최소 힙 - 전체 정렬 없이 O(n log k)
+ * 점수가 같으면 docId가 작은(먼저 색인된) 문서가 앞
+ */
+final class TopKCollector {
+
+    private final long[] heap;
+    private int size;
+
+    TopKCollector(int k) {
+        this.heap = new long[Math.max(k, 1)];
+    }
+
+    void offer(int docId, int score) {
+        long key = pack(docId, score);
+        if (size < heap.length) {
+            heap[size] = key;
+            siftUp(size++);
+        } else if (key > heap[0]) {
+            heap[0] = key;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * 점수 내림차순 docId 목록
+     */
+    int[] docIds() {
+        long[] keys = Arrays.copyOf(heap, size);
+        Arrays.sort(keys);
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = Integer.MAX_VALUE - (int) keys[size - 1 - i];
+        }
+        return result;
+    }
+
+    private static long pack(int docId, int score) {
+        return ((long) score << 32) | (Integer.MAX_VALUE - docId);
+    }
+
+    private void siftUp(int index) {
+        long key = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= key) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = key;
+    }
+
+    private void siftDown(int index) {
+        long key = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (key <= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = key;
+    }
+}
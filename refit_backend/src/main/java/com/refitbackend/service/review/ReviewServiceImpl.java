@@ -3,6 +3,7 @@ package com.refitbackend.service.review;
 import com.refitbackend.domain.member.Member;
 import com.refitbackend.domain.member.MemberPoint;
 import com.refitbackend.domain.product.Product;
+import com.refitbackend.domain.product.ProductChangedEvent;
 import com.refitbackend.domain.review.Review;
 import com.refitbackend.dto.review.ReviewRequestDTO;
 import com.refitbackend.dto.review.ReviewResponseDTO;
@@ -10,8 +11,8 @@ import com.refitbackend.repository.member.MemberRepository;
 import com.refitbackend.repository.member.MemberPointRepository;
 import com.refitbackend.repository.product.ProductRepository;
 import com.refitbackend.repository.review.ReviewRepository;
-import com.refitbackend.service.product.ProductService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,7 +28,7 @@ public class ReviewServiceImpl implements ReviewService {
     private final MemberRepository memberRepository;
     private final MemberPointRepository memberPointRepository;
     private final ProductRepository productRepository;
-    private final ProductService productService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 적립금 계산 메서드
     private int calculateReviewPoints(ReviewRequestDTO requestDTO) {
@@ -110,8 +111,8 @@ public class ReviewServiceImpl implements ReviewService {
         // 적립금 지급
         addPointsToMember(memberEmail, earnedPoints);
         
-        // 상품 평점 업데이트
-        productService.updateProductRating(requestDTO.getProductId());
+        // 상품 리뷰 집계 증가
+        applyReviewDelta(product.getId(), 1, savedReview.getRating(), Product.starOf(savedReview.getRating()), 0);
         
         // 적립금 정보를 포함한 응답 생성
         ReviewResponseDTO responseDTO = ReviewResponseDTO.fromEntity(savedReview);
@@ -135,6 +136,7 @@ public class ReviewServiceImpl implements ReviewService {
             throw new IllegalArgumentException("평점은 1.0 ~ 5.0 사이여야 합니다.");
         }
         
+        double oldRating = review.getRating();
         review.setContent(requestDTO.getContent());
         review.setRating(requestDTO.getRating());
         review.setOptionName(requestDTO.getOptionName());
@@ -142,8 +144,11 @@ public class ReviewServiceImpl implements ReviewService {
         
         Review updatedReview = reviewRepository.save(review);
         
-        // 상품 평점 업데이트
-        productService.updateProductRating(requestDTO.getProductId());
+        // 평점이 바뀌었으면 상품 리뷰 집계 조정 (리뷰 수는 그대로)
+        if (oldRating != updatedReview.getRating()) {
+            applyReviewDelta(updatedReview.getProduct().getId(), 0, updatedReview.getRating() - oldRating,
+                    Product.starOf(updatedReview.getRating()), Product.starOf(oldRating));
+        }
         
         return ReviewResponseDTO.fromEntity(updatedReview);
     }
@@ -159,10 +164,24 @@ public class ReviewServiceImpl implements ReviewService {
         }
         
         Long productId = review.getProduct().getId();
+        double rating = review.getRating();
         reviewRepository.delete(review);
         
-        // 상품 평점 업데이트
-        productService.updateProductRating(productId);
+        // 상품 리뷰 집계 감소
+        applyReviewDelta(productId, -1, -rating, 0, Product.starOf(rating));
+    }
+
+    /**
+     * 상품 리뷰 집계 증감 (전체 리뷰를 다시 읽지 않고 UPDATE 한 번)
+     * 집계가 아직 비어 있는 상품 (집계 컬럼 추가 전 리뷰) 이면 증감 대신 리뷰 테이블에서 다시 계산
+     * 벌크 UPDATE는 엔티티 리스너를 거치지 않으므로 상품 변경 이벤트를 직접 발행 (검색 인덱스, 캐시 갱신)
+     */
+    private void applyReviewDelta(Long productId, int countDelta, double sumDelta, int addedStar, int removedStar) {
+        if (productRepository.applyReviewDelta(productId, countDelta, sumDelta, addedStar, removedStar) == 0) {
+            reviewRepository.flush();
+            productRepository.recomputeReviewAggregate(productId);
+        }
+        eventPublisher.publishEvent(new ProductChangedEvent(productId, ProductChangedEvent.Type.UPDATED));
     }
 
     @Override
@@ -212,11 +231,12 @@ public class ReviewServiceImpl implements ReviewService {
 
     @Override
     public Double getAverageRatingByProductId(Long productId) {
-        return reviewRepository.getAverageRatingByProductId(productId);
+        // 상품의 집계 컬럼을 그대로 읽음
+        return productRepository.findRatingById(productId).orElse(null);
     }
 
     @Override
     public long getReviewCountByProductId(Long productId) {
-        return reviewRepository.countByProductId(productId);
+        return productRepository.findReviewCountById(productId).orElse(0);
     }
 } 
\ No newline at end of file
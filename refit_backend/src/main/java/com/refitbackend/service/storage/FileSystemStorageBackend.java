@@ -0,0 +1,89 @@
+package com.refitbackend.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 디스크 저장소 (file.storage.backend=filesystem, 기본값)
+ * 서버 한 대에서만 사용 가능 - 여러 대로 늘리면 s3 저장소 사용
+ */
+@Component
+@ConditionalOnProperty(name = "file.storage.backend", havingValue = "filesystem", matchIfMissing = true)
+public class FileSystemStorageBackend implements StorageBackend {
+
+    private final Path root;
+
+    public FileSystemStorageBackend(@Value("${file.storage.local.root:build/resources/main/static}") String root) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(this.root);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not create base upload directory!", e);
+        }
+    }
+
+    @Override
+    public void store(String key, InputStream in, long size, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        // 임시 파일에 쓴 뒤 이동 (읽는 쪽이 쓰다 만 파일을 보지 않도록)
+        Path temp = Files.createTempFile(target.getParent(), "upload-", ".tmp");
+        try {
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void store(String key, Path file, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return Optional.of(resolve(key));
+    }
+
+    @Override
+    public String url(String key) {
+        return null;
+    }
+
+    @Override
+    public Path tempDirectory() throws IOException {
+        Path temp = root.resolve(".upload-tmp");
+        Files.createDirectories(temp);
+        return temp;
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("Invalid storage key " + key);
+        }
+        return path;
+    }
+}
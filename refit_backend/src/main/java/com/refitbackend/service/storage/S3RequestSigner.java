@@ -0,0 +1,137 @@
+package com.refitbackend.service.storage;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * AWS Signature Version 4 (S3)
+ * 본문은 서명하지 않음 (UNSIGNED-PAYLOAD) - 스트리밍 업로드에서 본문 해시를 미리 계산할 수 없으므로
+ */
+class S3RequestSigner {
+
+    static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+
+    private static final String ALGORITHM = "AWS4-HMAC-SHA256";
+    private static final DateTimeFormatter AMZ_DATE = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final DateTimeFormatter DATE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final String region;
+    private final String accessKey;
+    private final String secretKey;
+
+    S3RequestSigner(String region, String accessKey, String secretKey) {
+        this.region = region;
+        this.accessKey = accessKey;
+        this.secretKey = secretKey;
+    }
+
+    /**
+     * 요청 헤더 서명
+     * @param query URI에 붙일 쿼리 파라미터 (인코딩 전)
+     * @return 요청에 추가할 헤더 (x-amz-date, x-amz-content-sha256, Authorization)
+     */
+    Map<String, String> sign(String method, URI uri, Map<String, String> query, ZonedDateTime now) {
+        ZonedDateTime utc = now.withZoneSameInstant(ZoneOffset.UTC);
+        String amzDate = AMZ_DATE.format(utc);
+        String scope = DATE_STAMP.format(utc) + "/" + region + "/s3/aws4_request";
+
+        String canonicalHeaders = "host:" + host(uri) + "\n"
+                + "x-amz-content-sha256:" + UNSIGNED_PAYLOAD + "\n"
+                + "x-amz-date:" + amzDate + "\n";
+        String signedHeaders = "host;x-amz-content-sha256;x-amz-date";
+        String canonicalRequest = method + "\n" + uri.getRawPath() + "\n" + canonicalQuery(query) + "\n"
+                + canonicalHeaders + "\n" + signedHeaders + "\n" + UNSIGNED_PAYLOAD;
+
+        String signature = signature(amzDate, scope, canonicalRequest, utc);
+        return Map.of(
+                "x-amz-date", amzDate,
+                "x-amz-content-sha256", UNSIGNED_PAYLOAD,
+                "Authorization", ALGORITHM + " Credential=" + accessKey + "/" + scope
+                        + ", SignedHeaders=" + signedHeaders + ", Signature=" + signature);
+    }
+
+    /**
+     * 서명된 URL 쿼리 (presigned URL)
+     * @return 인코딩된 쿼리 문자열 (서명 포함)
+     */
+    String presign(String method, URI uri, long expiresSeconds, ZonedDateTime now) {
+        ZonedDateTime utc = now.withZoneSameInstant(ZoneOffset.UTC);
+        String amzDate = AMZ_DATE.format(utc);
+        String scope = DATE_STAMP.format(utc) + "/" + region + "/s3/aws4_request";
+
+        Map<String, String> query = new TreeMap<>();
+        query.put("X-Amz-Algorithm", ALGORITHM);
+        query.put("X-Amz-Credential", accessKey + "/" + scope);
+        query.put("X-Amz-Date", amzDate);
+        query.put("X-Amz-Expires", String.valueOf(expiresSeconds));
+        query.put("X-Amz-SignedHeaders", "host");
+        String canonicalQuery = canonicalQuery(query);
+
+        String canonicalRequest = method + "\n" + uri.getRawPath() + "\n" + canonicalQuery + "\n"
+                + "host:" + host(uri) + "\n\n" + "host\n" + UNSIGNED_PAYLOAD;
+        return canonicalQuery + "&X-Amz-Signature=" + signature(amzDate, scope, canonicalRequest, utc);
+    }
+
+    /**
+     * 쿼리 파라미터 -> 정렬, 인코딩된 쿼리 문자열
+     */
+    static String canonicalQuery(Map<String, String> query) {
+        StringJoiner joiner = new StringJoiner("&");
+        new TreeMap<>(query).forEach((name, value) -> joiner.add(encode(name, true) + "=" + encode(value, true)));
+        return joiner.toString();
+    }
+
+    /**
+     * URI 인코딩 (RFC 3986 비예약 문자 외 모두 %XX, 경로면 '/'는 그대로)
+     */
+    static String encode(String value, boolean encodeSlash) {
+        StringBuilder encoded = new StringBuilder();
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xff);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.' || c == '~' || (c == '/' && !encodeSlash)) {
+                encoded.append(c);
+            } else {
+                encoded.append('%').append(String.format("%02X", b & 0xff));
+            }
+        }
+        return encoded.toString();
+    }
+
+    private String signature(String amzDate, String scope, String canonicalRequest, ZonedDateTime utc) {
+        try {
+            String stringToSign = ALGORITHM + "\n" + amzDate + "\n" + scope + "\n"
+                    + HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                            .digest(canonicalRequest.getBytes(StandardCharsets.UTF_8)));
+            byte[] key = hmac(("AWS4" + secretKey).getBytes(StandardCharsets.UTF_8), DATE_STAMP.format(utc));
+            key = hmac(key, region);
+            key = hmac(key, "s3");
+            key = hmac(key, "aws4_request");
+            return HexFormat.of().formatHex(hmac(key, stringToSign));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] hmac(byte[] key, String data) throws GeneralSecurityException {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(key, "HmacSHA256"));
+        return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String host(URI uri) {
+        return uri.getPort() == -1 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+    }
+}
@@ -0,0 +1,252 @@
+package com.refitbackend.service.storage;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * S3 호환 오브젝트 스토리지 (file.storage.backend=s3, AWS S3 / MinIO 등)
+ * SDK 없이 S3 REST API를 직접 호출 (서명: S3RequestSigner)
+ * - part-size 이하는 PUT 한 번, 넘으면 멀티파트 업로드 - 요청 본문은 업로드 스트림에서 바로 읽으므로 힙에 파일을 올리지 않음
+ * - 파일 URL은 cdn-base-url이 있으면 CDN 주소, 없으면 presign-expiry-seconds 동안 유효한 서명 URL
+ * 모든 서버가 같은 버킷을 보므로 여러 대로 늘릴 수 있음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "file.storage.backend", havingValue = "s3")
+public class S3StorageBackend implements StorageBackend {
+
+    // S3 멀티파트 업로드의 최소 파트 크기 (마지막 파트 제외)
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    private static final Pattern UPLOAD_ID = Pattern.compile("<UploadId>([^<]+)</UploadId>");
+
+    private final URI endpoint;
+    private final String bucket;
+    private final boolean pathStyle;
+    private final String cdnBaseUrl;
+    private final long presignExpirySeconds;
+    private final long partSize;
+
+    private final S3RequestSigner signer;
+    private final HttpClient httpClient;
+
+    public S3StorageBackend(@Value("${file.storage.s3.endpoint}") String endpoint,
+                            @Value("${file.storage.s3.region:us-east-1}") String region,
+                            @Value("${file.storage.s3.bucket}") String bucket,
+                            @Value("${file.storage.s3.access-key}") String accessKey,
+                            @Value("${file.storage.s3.secret-key}") String secretKey,
+                            @Value("${file.storage.s3.path-style:true}") boolean pathStyle,
+                            @Value("${file.storage.s3.cdn-base-url:}") String cdnBaseUrl,
+                            @Value("${file.storage.s3.presign-expiry-seconds:3600}") long presignExpirySeconds,
+                            @Value("${file.storage.s3.part-size:8388608}") long partSize) {
+        this.endpoint = URI.create(endpoint.endsWith("/") ? endpoint.substring(0, endpoint.length() - 1) : endpoint);
+        this.bucket = bucket;
+        this.pathStyle = pathStyle;
+        this.cdnBaseUrl = cdnBaseUrl.endsWith("/") ? cdnBaseUrl.substring(0, cdnBaseUrl.length() - 1) : cdnBaseUrl;
+        this.presignExpirySeconds = presignExpirySeconds;
+        this.partSize = Math.max(MIN_PART_SIZE, partSize);
+        this.signer = new S3RequestSigner(region, accessKey, secretKey);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    @Override
+    public void store(String key, InputStream in, long size, String contentType) throws IOException {
+        if (size <= partSize) {
+            HttpResponse<String> response = send("PUT", key, Map.of(), streamBody(in, size), contentType);
+            check(response, "PUT", key);
+            return;
+        }
+        storeMultipart(key, in, size, contentType);
+    }
+
+    @Override
+    public boolean exists(String key) throws IOException {
+        HttpResponse<String> response = send("HEAD", key, Map.of(), HttpRequest.BodyPublishers.noBody(), null);
+        if (response.statusCode() == 404) {
+            return false;
+        }
+        check(response, "HEAD", key);
+        return true;
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        HttpResponse<String> response = send("DELETE", key, Map.of(), HttpRequest.BodyPublishers.noBody(), null);
+        if (response.statusCode() != 404) {
+            check(response, "DELETE", key);
+        }
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+
+    @Override
+    public String url(String key) {
+        if (!cdnBaseUrl.isEmpty()) {
+            return cdnBaseUrl + "/" + S3RequestSigner.encode(key, false);
+        }
+        URI uri = objectUri(key, Map.of());
+        return uri + "?" + signer.presign("GET", uri, presignExpirySeconds, ZonedDateTime.now());
+    }
+
+    /**
+     * 멀티파트 업로드 - 파트마다 스트림에서 정해진 길이만 읽어서 바로 전송, 실패하면 업로드 취소
+     */
+    private void storeMultipart(String key, InputStream in, long size, String contentType) throws IOException {
+        HttpResponse<String> created = send("POST", key, Map.of("uploads", ""), HttpRequest.BodyPublishers.noBody(), contentType);
+        check(created, "CreateMultipartUpload", key);
+        Matcher matcher = UPLOAD_ID.matcher(created.body());
+        if (!matcher.find()) {
+            throw new IOException("S3 CreateMultipartUpload " + key + ": no UploadId");
+        }
+        String uploadId = matcher.group(1);
+
+        try {
+            List<String> etags = new ArrayList<>();
+            long remaining = size;
+            for (int partNumber = 1; remaining > 0; partNumber++) {
+                long length = Math.min(partSize, remaining);
+                HttpResponse<String> part = send("PUT", key,
+                        Map.of("partNumber", String.valueOf(partNumber), "uploadId", uploadId),
+                        streamBody(new PartInputStream(in, length), length), null);
+                check(part, "UploadPart", key);
+                etags.add(part.headers().firstValue("ETag")
+                        .orElseThrow(() -> new IOException("S3 UploadPart " + key + ": no ETag")));
+                remaining -= length;
+            }
+
+            StringBuilder body = new StringBuilder("<CompleteMultipartUpload>");
+            for (int i = 0; i < etags.size(); i++) {
+                body.append("<Part><PartNumber>").append(i + 1).append("</PartNumber><ETag>")
+                        .append(etags.get(i)).append("</ETag></Part>");
+            }
+            body.append("</CompleteMultipartUpload>");
+            HttpResponse<String> completed = send("POST", key, Map.of("uploadId", uploadId),
+                    HttpRequest.BodyPublishers.ofString(body.toString()), "application/xml");
+            // 완료 요청은 200이어도 본문에 오류가 올 수 있음
+            if (completed.statusCode() / 100 != 2 || completed.body().contains("<Error>")) {
+                throw new IOException("S3 CompleteMultipartUpload " + key + " failed: " + completed.statusCode()
+                        + " " + abbreviate(completed.body()));
+            }
+            log.debug("S3 멀티파트 업로드 완료: {} ({} bytes, {}개 파트)", key, size, etags.size());
+        } catch (IOException | RuntimeException e) {
+            try {
+                send("DELETE", key, Map.of("uploadId", uploadId), HttpRequest.BodyPublishers.noBody(), null);
+            } catch (IOException abortFailure) {
+                log.warn("S3 멀티파트 업로드 취소 실패: {} ({})", key, uploadId, abortFailure);
+            }
+            throw e;
+        }
+    }
+
+    private HttpResponse<String> send(String method, String key, Map<String, String> query,
+                                      HttpRequest.BodyPublisher body, String contentType) throws IOException {
+        URI uri = objectUri(key, query);
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofMinutes(5))
+                .method(method, body);
+        signer.sign(method, uri, query, ZonedDateTime.now()).forEach(request::header);
+        if (contentType != null) {
+            request.header("Content-Type", contentType);
+        }
+        try {
+            return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("S3 " + method + " " + key + " interrupted", e);
+        }
+    }
+
+    private URI objectUri(String key, Map<String, String> query) {
+        String path = "/" + S3RequestSigner.encode(key, false);
+        String base = pathStyle
+                ? endpoint + "/" + bucket
+                : endpoint.getScheme() + "://" + bucket + "." + endpoint.getRawAuthority();
+        String queryString = S3RequestSigner.canonicalQuery(query);
+        return URI.create(base + path + (queryString.isEmpty() ? "" : "?" + queryString));
+    }
+
+    /**
+     * 길이를 아는 스트림 본문 (Content-Length 전송, 청크 인코딩 없음)
+     */
+    private static HttpRequest.BodyPublisher streamBody(InputStream in, long length) {
+        return HttpRequest.BodyPublishers.fromPublisher(HttpRequest.BodyPublishers.ofInputStream(() -> in), length);
+    }
+
+    private static void check(HttpResponse<String> response, String operation, String key) throws IOException {
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("S3 " + operation + " " + key + " failed: " + response.statusCode()
+                    + " " + abbreviate(response.body()));
+        }
+    }
+
+    private static String abbreviate(String body) {
+        return body == null || body.length() <= 300 ? body : body.substring(0, 300);
+    }
+
+    /**
+     * 업로드 스트림의 다음 length 바이트 (닫아도 원본 스트림은 닫지 않음)
+     */
+    private static final class PartInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        private PartInputStream(InputStream in, long length) {
+            super(in);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = super.read(buffer, offset, (int) Math.min(length, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.refitbackend.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 업로드 파일 저장소
+ * file.storage.backend 설정으로 구현 선택 (filesystem: 로컬 디스크, s3: S3 호환 오브젝트 스토리지 - MinIO 포함)
+ * key는 storeFile이 반환하는 URL의 폴더 기준 경로 (예: reviewimages/ab/cd/abcd....jpg)
+ */
+public interface StorageBackend {
+
+    /**
+     * 업로드 파일 폴더 (storeFile의 서브 디렉토리) - 이 폴더 아래 파일은 저장소에 있음
+     */
+    Set<String> UPLOAD_ROOTS = Set.of("uploads", "reviewimages", "donation");
+
+    /**
+     * 스트림을 그대로 저장 (파일 전체를 메모리에 올리지 않음)
+     * @param size 스트림 길이 (바이트)
+     */
+    void store(String key, InputStream in, long size, String contentType) throws IOException;
+
+    /**
+     * 로컬 임시 파일 저장 (구현에 따라 파일을 옮기므로 호출 후 원본이 남아 있지 않을 수 있음)
+     */
+    default void store(String key, Path file, String contentType) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            store(key, in, Files.size(file), contentType);
+        }
+    }
+
+    boolean exists(String key) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    /**
+     * 로컬 파일 경로 (로컬 디스크 저장소만, 축소본 생성/크기 변환/직접 전송에 사용)
+     */
+    Optional<Path> localPath(String key);
+
+    /**
+     * 브라우저가 직접 받을 URL (CDN 주소 또는 서명된 URL, 로컬 디스크 저장소면 null)
+     */
+    String url(String key);
+
+    /**
+     * 업로드 임시 파일 위치 (저장 위치와 같은 디스크면 저장이 파일 이동으로 끝남)
+     */
+    default Path tempDirectory() throws IOException {
+        return Path.of(System.getProperty("java.io.tmpdir"));
+    }
+}
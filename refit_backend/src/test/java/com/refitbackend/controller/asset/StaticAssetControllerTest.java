@@ -0,0 +1,51 @@
+package com.refitbackend.controller.asset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.refitbackend.service.asset.StaticAssetService;
+import com.refitbackend.service.storage.FileSystemStorageBackend;
+
+/**
+ * 정적 파일 경로 검사 - 폴더 자체나 폴더 밖을 가리키는 요청은 404
+ */
+class StaticAssetControllerTest {
+
+    @TempDir
+    Path storageRoot;
+
+    private StaticAssetController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new StaticAssetController(new StaticAssetService(16384, 100),
+                new FileSystemStorageBackend(storageRoot.toString()));
+    }
+
+    @Test
+    void bareRootIsNotFound() throws Exception {
+        for (String uri : new String[] { "/uploads", "/images", "/thumbs", "/uploads/" }) {
+            assertThat(get(uri).getStatus()).as(uri).isEqualTo(404);
+        }
+    }
+
+    @Test
+    void pathOutsideRootIsNotFound() throws Exception {
+        assertThat(get("/images/../application.properties").getStatus()).isEqualTo(404);
+        assertThat(get("/images/%2e%2e/application.properties").getStatus()).isEqualTo(404);
+    }
+
+    private MockHttpServletResponse get(String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.serve(request, response);
+        return response;
+    }
+}
@@ -0,0 +1,20 @@
+package com.refitbackend.controller.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 목록 size 파라미터 보정
+ */
+class PageSizeTest {
+
+    @Test
+    void clampsToRange() {
+        assertThat(PageSize.clamp(20)).isEqualTo(20);
+        assertThat(PageSize.clamp(0)).isEqualTo(1);
+        assertThat(PageSize.clamp(-5)).isEqualTo(1);
+        assertThat(PageSize.clamp(PageSize.MAX + 1)).isEqualTo(PageSize.MAX);
+        assertThat(PageSize.clamp(Integer.MAX_VALUE)).isEqualTo(PageSize.MAX);
+    }
+}
@@ -0,0 +1,52 @@
+package com.refitbackend.dto.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * v2 상품 카드 - 상품별 묶기, 대표 썸네일 선택
+ */
+class ProductCardDTOTest {
+
+    @Test
+    void groupsImagesPerProductInFirstSeenOrder() {
+        List<ProductCardDTO> cards = ProductCardDTO.fromFlatImages(List.of(
+                image(2L, "b-1.jpg", null, false),
+                image(1L, "a-1.jpg", "a-1_thumb.jpg", false),
+                image(2L, "b-2.jpg", "b-2_thumb.jpg", true),
+                image(1L, "a-2.jpg", null, false)));
+
+        assertThat(cards).extracting(ProductCardDTO::getId).containsExactly(2L, 1L);
+        assertThat(cards.get(0).getImages()).containsExactly("b-1.jpg", "b-2.jpg");
+        assertThat(cards.get(0).getName()).isEqualTo("상품2");
+        assertThat(cards.get(0).getReviewCount()).isEqualTo(2);
+    }
+
+    @Test
+    void thumbnailPrefersFlaggedImageThenFirst() {
+        // 썸네일 지정 이미지의 축소본
+        assertThat(ProductCardDTO.fromImages(List.of(
+                image(1L, "a-1.jpg", null, false),
+                image(1L, "a-2.jpg", "a-2_thumb.jpg", true))).getThumbnail()).isEqualTo("a-2_thumb.jpg");
+        // 지정이 없으면 첫 이미지, 축소본이 없으면 원본
+        assertThat(ProductCardDTO.fromImages(List.of(
+                image(1L, "a-1.jpg", "a-1_thumb.jpg", false),
+                image(1L, "a-2.jpg", null, false))).getThumbnail()).isEqualTo("a-1_thumb.jpg");
+        assertThat(ProductCardDTO.fromImages(List.of(
+                image(1L, "a-1.jpg", null, null))).getThumbnail()).isEqualTo("a-1.jpg");
+    }
+
+    private static ProductImageDTO image(Long productId, String url, String thumbnail, Boolean isThumbnail) {
+        return ProductImageDTO.builder()
+                .productId(productId)
+                .url(url)
+                .urlThumbnail(thumbnail)
+                .isThumbnail(isThumbnail)
+                .productName("상품" + productId)
+                .reviewCount(productId.intValue())
+                .build();
+    }
+}
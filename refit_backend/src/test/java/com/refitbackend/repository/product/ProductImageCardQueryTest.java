@@ -0,0 +1,72 @@
+package com.refitbackend.repository.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.refitbackend.domain.product.Brand;
+import com.refitbackend.domain.product.Product;
+import com.refitbackend.domain.product.ProductImage;
+import com.refitbackend.domain.product.ProductStatus;
+import com.refitbackend.dto.product.ProductImageDTO;
+
+/**
+ * 상품 카드 DTO 조회 - 상품 순, 이미지 순서대로 필요한 컬럼만
+ */
+@DataJpaTest
+class ProductImageCardQueryTest {
+
+    @Autowired
+    private ProductImageRepository productImageRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void projectsCardColumnsInProductAndImageOrder() {
+        Brand nike = em.persist(Brand.builder().name("나이키").build());
+        Product tee = persistProduct("반팔 티셔츠", nike, 3);
+        Product pants = persistProduct("무지 바지", null, 0);
+        persistImage(tee, "tee-2.jpg", 2, false);
+        persistImage(tee, "tee-1.jpg", 1, true);
+        persistImage(pants, "pants-1.jpg", 1, false);
+        em.flush();
+        em.clear();
+
+        List<ProductImageDTO> cards = productImageRepository.findCardsByProductIds(
+                List.of(pants.getId(), tee.getId()));
+
+        assertThat(cards).extracting("productId", "url", "productName", "brandName", "reviewCount")
+                .containsExactly(
+                        tuple(tee.getId(), "tee-1.jpg", "반팔 티셔츠", "나이키", 3),
+                        tuple(tee.getId(), "tee-2.jpg", "반팔 티셔츠", "나이키", 3),
+                        tuple(pants.getId(), "pants-1.jpg", "무지 바지", null, 0));
+        assertThat(productImageRepository.findCardsByProductId(tee.getId()))
+                .extracting(ProductImageDTO::getImageOrder).containsExactly(1, 2);
+    }
+
+    private Product persistProduct(String name, Brand brand, int reviewCount) {
+        return em.persist(Product.builder()
+                .name(name)
+                .brand(brand)
+                .basePrice(10000)
+                .reviewCount(reviewCount)
+                .status(ProductStatus.ACTIVE)
+                .build());
+    }
+
+    private void persistImage(Product product, String url, int order, boolean thumbnail) {
+        ProductImage image = new ProductImage();
+        image.setProduct(product);
+        image.setUrl(url);
+        image.setImageOrder(order);
+        image.setIsThumbnail(thumbnail);
+        em.persist(image);
+    }
+}
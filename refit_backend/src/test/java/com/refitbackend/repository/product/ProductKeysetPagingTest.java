@@ -0,0 +1,100 @@
+package com.refitbackend.repository.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import com.refitbackend.domain.product.Product;
+import com.refitbackend.domain.product.ProductStatus;
+import com.refitbackend.dto.product.ProductKeyDTO;
+import com.refitbackend.dto.product.ProductShelfStateDTO;
+
+/**
+ * 키셋 페이징 쿼리 - 정렬 값이 같거나 NULL인 상품도 페이지 사이에서 빠지거나 겹치지 않아야 함
+ */
+@DataJpaTest
+class ProductKeysetPagingTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void highRatedPagesSplitTies() {
+        Long a = persist(4.5, null);
+        Long b = persist(4.5, null);
+        Long c = persist(4.8, null);
+        Long d = persist(4.5, null);
+        persist(2.0, null);
+        em.flush();
+
+        List<Long> seen = new ArrayList<>();
+        ProductKeyDTO last = null;
+        do {
+            List<ProductKeyDTO> page = productRepository.findHighRatedKeysAfter(4.0, null, null,
+                    last != null ? last.getRating() : null, last != null ? last.getId() : null, PageRequest.of(0, 2));
+            page.forEach(key -> seen.add(key.getId()));
+            last = page.size() == 2 ? page.get(1) : null;
+        } while (last != null);
+
+        assertThat(seen).containsExactly(c, d, b, a);
+    }
+
+    @Test
+    void newestPagesPutMissingDatesLast() {
+        LocalDateTime now = LocalDateTime.of(2025, 7, 1, 12, 0);
+        Long older = persist(null, now.minusDays(1));
+        Long sameTime1 = persist(null, now);
+        Long sameTime2 = persist(null, now);
+        Long undated1 = persist(null, null);
+        Long undated2 = persist(null, null);
+        em.flush();
+
+        List<Long> seen = new ArrayList<>();
+        ProductKeyDTO last = null;
+        do {
+            List<ProductKeyDTO> page = productRepository.findNewKeysAfter(null, null,
+                    last != null ? last.getCreatedAt() : null, last != null ? last.getId() : null,
+                    PageRequest.of(0, 2));
+            page.forEach(key -> seen.add(key.getId()));
+            last = page.size() == 2 ? page.get(1) : null;
+        } while (last != null);
+
+        assertThat(seen).containsExactly(sameTime2, sameTime1, older, undated2, undated1);
+    }
+
+    @Test
+    void shelfStatesIncludeProductsWithoutBrandOrCategory() {
+        Long rated = persist(4.7, null);
+        persist(3.0, null);
+        em.flush();
+
+        List<ProductShelfStateDTO> states = productRepository.findShelfStatesByIdIn(List.of(rated, -1L));
+
+        assertThat(states).extracting("id", "brandId", "mainCategoryId", "status", "basePrice", "rating")
+                .containsExactly(tuple(rated, null, null, ProductStatus.ACTIVE, 10000, 4.7));
+    }
+
+    private Long persist(Double rating, LocalDateTime createdAt) {
+        Product product = em.persist(Product.builder()
+                .name("상품")
+                .basePrice(10000)
+                .rating(rating)
+                .status(ProductStatus.ACTIVE)
+                .build());
+        // 등록일은 저장 시 현재 시각으로 채워지므로 저장 뒤 덮어씀
+        product.setCreatedAt(createdAt);
+        return product.getId();
+    }
+}
@@ -0,0 +1,166 @@
+package com.refitbackend.repository.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import com.refitbackend.domain.product.Brand;
+import com.refitbackend.domain.product.Category;
+import com.refitbackend.domain.product.CategorySub;
+import com.refitbackend.domain.product.Product;
+import com.refitbackend.domain.product.ProductImage;
+import com.refitbackend.domain.product.ProductStatus;
+
+import jakarta.persistence.PersistenceException;
+
+/**
+ * 상품 목록 페이징 쿼리 회귀 테스트
+ * 컬렉션(images 등)을 fetch하는 쿼리에 페이징을 걸면 Hibernate가 전체를 읽어서 메모리에서 자르는데 (HHH000104),
+ * 이 테스트에서는 그 경우 경고 대신 예외가 나도록 설정하고 ID 페이징 쿼리와 엔티티 페이지 조회(findByCategorySubId)를 실행
+ */
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.query.fail_on_pagination_over_collection_fetch=true")
+class ProductRepositoryPaginationTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Category tops;
+    private Category bottoms;
+    private CategorySub tshirts;
+    private Brand nike;
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        tops = em.persist(Category.builder().name("상의").build());
+        bottoms = em.persist(Category.builder().name("하의").build());
+        tshirts = em.persist(CategorySub.builder().name("티셔츠").category(tops).build());
+        CategorySub pants = em.persist(CategorySub.builder().name("바지").category(bottoms).build());
+        nike = em.persist(Brand.builder().name("나이키").build());
+        Brand adidas = em.persist(Brand.builder().name("아디다스").build());
+
+        // 상의 5개 (평점 3.0 ~ 5.0), 하의 1개
+        double[] ratings = { 3.0, 4.0, 4.5, 4.8, 5.0 };
+        int[] prices = { 10000, 20000, 40000, 25000, 30000 };
+        ids = new ArrayList<>();
+        for (int i = 0; i < ratings.length; i++) {
+            ids.add(persistProduct("나이키 티셔츠 " + (i + 1), prices[i], ratings[i], tops, tshirts, nike));
+        }
+        ids.add(persistProduct("아디다스 바지", 50000, 4.2, bottoms, pants, adidas));
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void collectionFetchWithPagingFails() {
+        // 이 설정이 켜져 있어야 아래 테스트들이 메모리 페이징을 잡아냄
+        assertThrows(PersistenceException.class, () -> em.getEntityManager()
+                .createQuery("select p from Product p left join fetch p.images", Product.class)
+                .setFirstResult(0)
+                .setMaxResults(2)
+                .getResultList());
+    }
+
+    @Test
+    void findIdsByRatingGreaterThanEqual() {
+        Page<Long> page = productRepository.findIdsByRatingGreaterThanEqual(4.0, tops.getId(), null, PageRequest.of(1, 2));
+
+        // 5.0, 4.8 | 4.5, 4.0
+        assertIdPage(page, 4, ids.get(2), ids.get(1));
+    }
+
+    @Test
+    void findIdsByBrandId() {
+        Page<Long> page = productRepository.findIdsByBrandId(nike.getId(), null, null, PageRequest.of(1, 2));
+
+        assertIdPage(page, 5, ids.get(2), ids.get(1));
+    }
+
+    @Test
+    void findIdsByStatusActive() {
+        Page<Long> page = productRepository.findIdsByStatusActive(null, null, PageRequest.of(1, 2));
+
+        assertIdPage(page, 6, ids.get(3), ids.get(2));
+    }
+
+    @Test
+    void findAffordableHighRatedIds() {
+        Page<Long> page = productRepository.findAffordableHighRatedIds(30000, 4.0, null, null, PageRequest.of(1, 2));
+
+        // 5.0(30000), 4.8(25000) | 4.0(20000)
+        assertIdPage(page, 3, ids.get(1));
+    }
+
+    @Test
+    void findIdsByCategoryAndCategorySub() {
+        assertThat(productRepository.findIdsByCategoryId(tops.getId(), PageRequest.of(1, 2)))
+                .hasSize(2)
+                .allMatch(id -> ids.subList(0, 5).contains(id));
+        assertThat(productRepository.findIdsByCategorySubId(tshirts.getId(), PageRequest.of(2, 2)).getContent())
+                .hasSize(1);
+    }
+
+    @Test
+    void findByCategorySubIdFetchesPageWithAssociations() {
+        Page<Product> page = productRepository.findByCategorySubId(tshirts.getId(), PageRequest.of(1, 2));
+
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getContent()).allMatch(product -> Hibernate.isInitialized(product.getBrand())
+                && Hibernate.isInitialized(product.getCategory()));
+    }
+
+    @Test
+    void nameSearches() {
+        assertThat(productRepository.findIdsByBrandNameContaining("아디", PageRequest.of(0, 2)).getContent())
+                .containsExactly(ids.get(5));
+        assertThat(productRepository.findIdsByCategoryNameContaining("상의", PageRequest.of(0, 10)).getTotalElements())
+                .isEqualTo(5);
+    }
+
+    private Long persistProduct(String name, int price, double rating, Category category, CategorySub categorySub,
+                                Brand brand) {
+        Product product = Product.builder()
+                .name(name)
+                .basePrice(price)
+                .rating(rating)
+                .status(ProductStatus.ACTIVE)
+                .category(category)
+                .categorySub(categorySub)
+                .brand(brand)
+                .build();
+        for (int i = 1; i <= 2; i++) {
+            ProductImage image = new ProductImage();
+            image.setUrl("/images/" + name + "_" + i + ".jpg");
+            image.setImageOrder(i);
+            image.setProduct(product);
+            product.getImages().add(image);
+        }
+        return em.persist(product).getId();
+    }
+
+    /**
+     * 페이지 내용(ID 순서)과 전체 개수 확인
+     */
+    private static void assertIdPage(Page<Long> page, long totalElements, Long... expectedIds) {
+        assertThat(page.getTotalElements()).isEqualTo(totalElements);
+        assertThat(page.getContent()).containsExactly(expectedIds);
+    }
+}
@@ -0,0 +1,104 @@
+package com.refitbackend.repository.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.refitbackend.domain.member.Member;
+import com.refitbackend.domain.product.Product;
+import com.refitbackend.domain.product.ProductStatus;
+import com.refitbackend.domain.review.Review;
+
+/**
+ * 상품 리뷰 집계 증감 / 재계산 쿼리
+ * 집계 컬럼 추가 전부터 있던 상품 (리뷰는 있는데 review_count 0) 은 증감을 적용하지 않고 재계산해야 함
+ */
+@DataJpaTest
+class ProductReviewAggregateTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = em.persist(Member.builder().email("user@test.com").pw("pw").nickname("user").build());
+    }
+
+    @Test
+    void deltaIsSkippedWhileAggregateIsUnset() {
+        // 집계 컬럼이 0인 기존 상품 + 기존 리뷰 2개
+        Long productId = persistProduct();
+        persistReview(productId, 4.0);
+        persistReview(productId, 2.0);
+        em.flush();
+
+        assertThat(productRepository.applyReviewDelta(productId, -1, -4.0, 0, 4)).isZero();
+
+        assertThat(productRepository.recomputeReviewAggregate(productId)).isEqualTo(1);
+        em.clear();
+        Product product = productRepository.findById(productId).orElseThrow();
+        assertThat(product.getReviewCount()).isEqualTo(2);
+        assertThat(product.getRatingSum()).isEqualTo(6.0);
+        assertThat(product.getRating()).isEqualTo(3.0);
+        assertThat(product.getRatingHistogram()).containsExactly(0, 1, 0, 1, 0);
+    }
+
+    @Test
+    void deltaIsAppliedOnceAggregateIsSet() {
+        Long productId = persistProduct();
+        persistReview(productId, 4.0);
+        em.flush();
+        productRepository.recomputeReviewAggregate(productId);
+
+        assertThat(productRepository.applyReviewDelta(productId, 1, 5.0, 5, 0)).isEqualTo(1);
+        assertThat(productRepository.applyReviewDelta(productId, 0, -2.0, 3, 5)).isEqualTo(1);
+        em.clear();
+        Product product = productRepository.findById(productId).orElseThrow();
+        assertThat(product.getReviewCount()).isEqualTo(2);
+        assertThat(product.getRatingSum()).isEqualTo(7.0);
+        assertThat(product.getRating()).isEqualTo(3.5);
+        assertThat(product.getRatingHistogram()).containsExactly(0, 0, 1, 1, 0);
+    }
+
+    @Test
+    void deltaNeverMakesCountNegative() {
+        Long productId = persistProduct();
+        persistReview(productId, 5.0);
+        em.flush();
+        productRepository.recomputeReviewAggregate(productId);
+
+        assertThat(productRepository.applyReviewDelta(productId, -1, -5.0, 0, 5)).isEqualTo(1);
+        assertThat(productRepository.applyReviewDelta(productId, -1, -5.0, 0, 5)).isZero();
+        em.clear();
+        Product product = productRepository.findById(productId).orElseThrow();
+        assertThat(product.getReviewCount()).isZero();
+        assertThat(product.getRating()).isNull();
+    }
+
+    private Long persistProduct() {
+        return em.persist(Product.builder()
+                .name("티셔츠")
+                .basePrice(10000)
+                .status(ProductStatus.ACTIVE)
+                .build()).getId();
+    }
+
+    private void persistReview(Long productId, double rating) {
+        em.persist(Review.builder()
+                .content("리뷰")
+                .rating(rating)
+                .member(member)
+                .product(em.find(Product.class, productId))
+                .orderId(1L)
+                .build());
+    }
+}
@@ -0,0 +1,145 @@
+package com.refitbackend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.refitbackend.domain.file.StoredFile;
+import com.refitbackend.repository.file.StoredFileRepository;
+import com.refitbackend.service.image.ImageDeletedEvent;
+import com.refitbackend.service.image.ImageStoredEvent;
+import com.refitbackend.service.storage.FileSystemStorageBackend;
+
+/**
+ * 내용 주소 방식 업로드 저장 - 같은 내용은 파일 하나를 참조 수로 공유하고, 마지막 참조가 커밋된 뒤에만 파일 삭제
+ * 참조 추가 쿼리(ON DUPLICATE KEY UPDATE)를 위해 H2 MariaDB 호환 모드 사용
+ * 커밋 이후 동작을 확인해야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:stored-files;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=" })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FileStorageServiceImplTest {
+
+    @TempDir
+    Path root;
+
+    @Autowired
+    private StoredFileRepository storedFileRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Object> events = new ArrayList<>();
+    private FileStorageServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new FileStorageServiceImpl(new FileSystemStorageBackend(root.toString()), events::add,
+                storedFileRepository, transactionManager, "content");
+    }
+
+    @AfterEach
+    void tearDown() {
+        storedFileRepository.deleteAll();
+    }
+
+    @Test
+    void sameContentSharesOneFile() throws IOException {
+        String first = service.storeFile(upload("a.PNG", "same"), "reviewimages");
+        String second = service.storeFile(upload("b.png", "same"), "reviewimages");
+        String other = service.storeFile(upload("c.png", "other"), "reviewimages");
+
+        assertThat(first).isEqualTo(second).matches("/reviewimages/[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{64}\\.png");
+        assertThat(other).isNotEqualTo(first);
+        assertThat(refCount(first)).isEqualTo(2);
+        assertThat(storedFiles()).hasSize(2);
+        // 축소본 이벤트는 파일을 새로 만들 때만
+        assertThat(events).filteredOn(ImageStoredEvent.class::isInstance).hasSize(2);
+        // uploads 폴더는 폴더 기준 경로
+        assertThat(service.storeFile(upload("d.png", "same"))).doesNotStartWith("/");
+    }
+
+    @Test
+    void fileIsDeletedWithLastReference() throws IOException {
+        String url = service.storeFile(upload("a.png", "same"), "reviewimages");
+        service.storeFile(upload("b.png", "same"), "reviewimages");
+
+        service.deleteFile(url);
+        assertThat(refCount(url)).isEqualTo(1);
+        assertThat(Files.exists(file(url))).isTrue();
+
+        service.deleteFile(url);
+        assertThat(storedFileRepository.findById(url.substring(1))).isEmpty();
+        assertThat(Files.exists(file(url))).isFalse();
+        assertThat(events).filteredOn(ImageDeletedEvent.class::isInstance).hasSize(1);
+    }
+
+    @Test
+    void rolledBackDeleteKeepsFileAndReference() throws IOException {
+        String url = service.storeFile(upload("a.png", "same"), "reviewimages");
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            service.deleteFile(url);
+            // 커밋 전에는 파일을 지우지 않음
+            assertThat(Files.exists(file(url))).isTrue();
+            status.setRollbackOnly();
+        });
+
+        assertThat(refCount(url)).isEqualTo(1);
+        assertThat(Files.exists(file(url))).isTrue();
+
+        transaction.executeWithoutResult(status -> service.deleteFile(url));
+        assertThat(Files.exists(file(url))).isFalse();
+    }
+
+    @Test
+    void reuploadAfterDeleteStoresAgain() throws IOException {
+        String url = service.storeFile(upload("a.png", "same"), "reviewimages");
+        service.deleteFile(url);
+
+        assertThat(service.storeFile(upload("b.png", "same"), "reviewimages")).isEqualTo(url);
+        assertThat(Files.readString(file(url))).isEqualTo("same");
+        assertThat(refCount(url)).isEqualTo(1);
+    }
+
+    private int refCount(String url) {
+        return storedFileRepository.findById(url.substring(1)).map(StoredFile::getRefCount).orElse(0);
+    }
+
+    private List<StoredFile> storedFiles() {
+        return storedFileRepository.findAll();
+    }
+
+    private Path file(String url) {
+        return root.resolve(url.substring(1));
+    }
+
+    private static MockMultipartFile upload(String name, String content) {
+        return new MockMultipartFile("file", name, "image/png", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,163 @@
+package com.refitbackend.service.asset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.CacheControl;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * 정적 파일 전송 - Range 해석, If-None-Match / If-Range, sendfile 위임
+ */
+class StaticAssetServiceTest {
+
+    private static final String CONTENT = "0123456789abcdefghij";
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private StaticAssetService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.writeString(directory.resolve("photo.jpg"), CONTENT, StandardCharsets.UTF_8);
+        service = new StaticAssetService(1024, 100);
+    }
+
+    @Test
+    void parseRangeSingleRanges() {
+        assertThat(StaticAssetService.parseRange("bytes=0-4", 20)).containsExactly(0, 4);
+        assertThat(StaticAssetService.parseRange("bytes=15-", 20)).containsExactly(15, 19);
+        assertThat(StaticAssetService.parseRange("bytes=-5", 20)).containsExactly(15, 19);
+        // 파일보다 긴 범위는 잘라냄
+        assertThat(StaticAssetService.parseRange("bytes=10-100", 20)).containsExactly(10, 19);
+        assertThat(StaticAssetService.parseRange("bytes=-100", 20)).containsExactly(0, 19);
+    }
+
+    @Test
+    void parseRangeFallsBackToFullContent() {
+        assertThat(StaticAssetService.parseRange("items=0-4", 20)).isEmpty();
+        assertThat(StaticAssetService.parseRange("bytes=0-1,5-6", 20)).isEmpty();
+        assertThat(StaticAssetService.parseRange("bytes=5", 20)).isEmpty();
+        assertThat(StaticAssetService.parseRange("bytes=a-b", 20)).isEmpty();
+    }
+
+    @Test
+    void parseRangeUnsatisfiable() {
+        assertThat(StaticAssetService.parseRange("bytes=20-", 20)).isNull();
+        assertThat(StaticAssetService.parseRange("bytes=5-2", 20)).isNull();
+        assertThat(StaticAssetService.parseRange("bytes=-0", 20)).isNull();
+        assertThat(StaticAssetService.parseRange("bytes=0-", 0)).isNull();
+    }
+
+    @Test
+    void servesFullFileWithValidators() throws IOException {
+        MockHttpServletResponse response = serve(request());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+        assertThat(response.getContentType()).isEqualTo("image/jpeg");
+        assertThat(response.getHeader("ETag")).matches("\"[0-9a-f]{32}\"");
+        assertThat(response.getHeader("Accept-Ranges")).isEqualTo("bytes");
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("max-age=60");
+    }
+
+    @Test
+    void ifNoneMatchReturnsNotModified() throws IOException {
+        String etag = serve(request()).getHeader("ETag");
+
+        for (String header : new String[] { etag, "W/" + etag, "\"other\", " + etag, "*" }) {
+            MockHttpServletRequest request = request();
+            request.addHeader("If-None-Match", header);
+            MockHttpServletResponse response = serve(request);
+            assertThat(response.getStatus()).as(header).isEqualTo(304);
+            assertThat(response.getContentAsByteArray()).isEmpty();
+        }
+
+        MockHttpServletRequest stale = request();
+        stale.addHeader("If-None-Match", "\"other\"");
+        assertThat(serve(stale).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void rangeRespectsIfRange() throws IOException {
+        String etag = serve(request()).getHeader("ETag");
+
+        MockHttpServletRequest partial = request();
+        partial.addHeader("Range", "bytes=2-5");
+        partial.addHeader("If-Range", etag);
+        MockHttpServletResponse response = serve(partial);
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 2-5/20");
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+
+        // 다른 버전이면 전체 전송
+        MockHttpServletRequest changed = request();
+        changed.addHeader("Range", "bytes=2-5");
+        changed.addHeader("If-Range", "\"other\"");
+        response = serve(changed);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+
+        MockHttpServletRequest unsatisfiable = request();
+        unsatisfiable.addHeader("Range", "bytes=30-");
+        response = serve(unsatisfiable);
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */20");
+    }
+
+    @Test
+    void etagFollowsContent() throws IOException {
+        String before = serve(request()).getHeader("ETag");
+
+        Files.writeString(file, CONTENT.toUpperCase(), StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 1000));
+
+        assertThat(serve(request()).getHeader("ETag")).isNotEqualTo(before);
+    }
+
+    @Test
+    void largeFilesAreHandedToSendfile() throws IOException {
+        Files.write(file, new byte[4096]);
+        MockHttpServletRequest request = request();
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader("Range", "bytes=100-");
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename")).isEqualTo(file.toAbsolutePath().toString());
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(100L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(4096L);
+    }
+
+    @Test
+    void missingFileIsNotFound() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        service.serve(request(), response, directory.resolve("missing.jpg"), CacheControl.noCache());
+
+        assertThat(response.getStatus()).isEqualTo(404);
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        service.serve(request, response, file, CacheControl.maxAge(Duration.ofMinutes(1)));
+        return response;
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/uploads/photo.jpg");
+    }
+}
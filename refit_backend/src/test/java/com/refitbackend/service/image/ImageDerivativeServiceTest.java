@@ -0,0 +1,123 @@
+package com.refitbackend.service.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.refitbackend.domain.image.ImageDerivative;
+import com.refitbackend.repository.image.ImageDerivativeRepository;
+
+/**
+ * 업로드 이미지 축소본 - 파일명 규칙, 투명 영역 처리, 원본보다 작은 너비만 생성
+ * 저장소는 축소본 기록만 메모리에 보관
+ */
+class ImageDerivativeServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<ImageDerivative> saved = new ArrayList<>();
+    private ImageDerivativeService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ImageDerivativeService(repository(), List.of(1080, 160, 480), 0.8f, 1, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void derivativeNameReplacesExtension() {
+        assertThat(ImageDerivativeService.derivativeName("abc.png", 160)).isEqualTo("abc_w160.jpg");
+        assertThat(ImageDerivativeService.derivativeName("/reviewimages/a.b/c.jpeg", 480))
+                .isEqualTo("/reviewimages/a.b/c_w480.jpg");
+        // 폴더 이름의 점은 확장자가 아님
+        assertThat(ImageDerivativeService.derivativeName("/donation/a.b/c", 480)).isEqualTo("/donation/a.b/c_w480.jpg");
+    }
+
+    @Test
+    void flattenFillsTransparencyWithWhite() {
+        BufferedImage transparent = new BufferedImage(2, 1, BufferedImage.TYPE_INT_ARGB);
+        transparent.setRGB(1, 0, Color.RED.getRGB());
+
+        BufferedImage flat = ImageDerivativeService.flatten(transparent);
+
+        assertThat(flat.getColorModel().hasAlpha()).isFalse();
+        assertThat(flat.getRGB(0, 0)).isEqualTo(Color.WHITE.getRGB());
+        assertThat(flat.getRGB(1, 0)).isEqualTo(Color.RED.getRGB());
+
+        BufferedImage opaque = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
+        assertThat(ImageDerivativeService.flatten(opaque)).isSameAs(opaque);
+    }
+
+    @Test
+    void generatesOnlyWidthsSmallerThanOriginal() throws Exception {
+        Path original = directory.resolve("photo.png");
+        ImageIO.write(new BufferedImage(800, 400, BufferedImage.TYPE_INT_ARGB), "png", original.toFile());
+
+        service.onImageStored(new ImageStoredEvent("photo.png", original));
+        awaitSaved(2);
+
+        assertThat(saved).extracting(ImageDerivative::getWidth).containsExactly(160, 480);
+        assertThat(saved).extracting(ImageDerivative::getUrl).containsExactly("photo_w160.jpg", "photo_w480.jpg");
+        BufferedImage small = ImageIO.read(directory.resolve("photo_w160.jpg").toFile());
+        assertThat(small.getWidth()).isEqualTo(160);
+        assertThat(small.getHeight()).isEqualTo(80);
+        assertThat(Files.exists(directory.resolve("photo_w1080.jpg"))).isFalse();
+    }
+
+    @Test
+    void ignoresNonImages() throws IOException {
+        Path text = Files.writeString(directory.resolve("notes.txt"), "text");
+
+        service.onImageStored(new ImageStoredEvent("notes.txt", text));
+
+        assertThat(service.getQueueSize()).isZero();
+        assertThat(saved).isEmpty();
+    }
+
+    private void awaitSaved(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            synchronized (saved) {
+                if (saved.size() >= count) {
+                    return;
+                }
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private ImageDerivativeRepository repository() {
+        ImageDerivativeRepository repository = mock(ImageDerivativeRepository.class);
+        when(repository.saveAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<ImageDerivative> derivatives = invocation.getArgument(0);
+            synchronized (saved) {
+                saved.addAll(derivatives);
+            }
+            return derivatives;
+        });
+        return repository;
+    }
+}
@@ -0,0 +1,165 @@
+package com.refitbackend.service.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.refitbackend.service.storage.FileSystemStorageBackend;
+
+/**
+ * 요청 시 이미지 크기 변환 - 상자 맞춤, 캐시 키, 용량 기준 LRU, 재시작 시 캐시 복원
+ * 업로드 폴더 원본은 임시 폴더의 로컬 저장소에서 읽음
+ */
+class ImageResizeServiceTest {
+
+    @TempDir
+    Path storageRoot;
+
+    @TempDir
+    Path cacheDirectory;
+
+    private FileSystemStorageBackend storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storage = new FileSystemStorageBackend(storageRoot.toString());
+        writeImage("a.png", 800, 400);
+        writeImage("b.png", 600, 600);
+        writeImage("c.png", 300, 900);
+    }
+
+    @Test
+    void fitsIntoBoxWithoutUpscaling() throws IOException {
+        ImageResizeService service = service(cacheDirectory, Long.MAX_VALUE);
+
+        assertThat(read(service.resize("/uploads/a.png", 200, 200))).extracting("width", "height")
+                .containsExactly(200, 100);
+        assertThat(read(service.resize("uploads/c.png", 0, 300))).extracting("width", "height")
+                .containsExactly(100, 300);
+        // 원본보다 큰 상자
+        assertThat(read(service.resize("uploads/b.png", 1000, 0))).extracting("width", "height")
+                .containsExactly(600, 600);
+    }
+
+    @Test
+    void resizesEveryUploadFolder() throws IOException {
+        ImageResizeService service = service(cacheDirectory, Long.MAX_VALUE);
+        Path donation = storageRoot.resolve("donation").resolve("d.png");
+        Files.createDirectories(donation.getParent());
+        ImageIO.write(new BufferedImage(400, 200, BufferedImage.TYPE_INT_RGB), "png", donation.toFile());
+
+        assertThat(read(service.resize("/donation/d.png", 100, 0))).extracting("width", "height")
+                .containsExactly(100, 50);
+        assertThat(service.resize("reviewimages/missing.png", 100, 0)).isNull();
+    }
+
+    @Test
+    void cachesBySourceVersionAndSize() throws IOException {
+        ImageResizeService service = service(cacheDirectory, Long.MAX_VALUE);
+
+        Path first = service.resize("uploads/a.png", 200, 0);
+        assertThat(service.resize("uploads/a.png", 200, 0)).isEqualTo(first);
+        assertThat(service.getHitCount()).isEqualTo(1);
+
+        // 원본이 바뀌면 다른 키
+        writeImage("a.png", 400, 400);
+        Path changed = service.resize("uploads/a.png", 200, 0);
+        assertThat(changed).isNotEqualTo(first);
+        assertThat(read(changed).getHeight()).isEqualTo(200);
+        assertThat(service.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsInvalidRequests() {
+        ImageResizeService service = service(cacheDirectory, Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> service.resize("uploads/a.png", 0, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.resize("uploads/a.png", 3000, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.resize("secret/a.png", 10, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.resize("uploads/../a.png", 10, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(service.resize("uploads/missing.png", 10, 10)).isNull();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedByBytes(@TempDir Path probeDirectory) throws IOException {
+        // 변환 결과 크기 측정
+        ImageResizeService probe = service(probeDirectory, Long.MAX_VALUE);
+        long total = Files.size(probe.resize("uploads/a.png", 100, 100))
+                + Files.size(probe.resize("uploads/b.png", 100, 100))
+                + Files.size(probe.resize("uploads/c.png", 100, 100));
+
+        ImageResizeService service = service(cacheDirectory, total - 1);
+        Path a = service.resize("uploads/a.png", 100, 100);
+        Path b = service.resize("uploads/b.png", 100, 100);
+        service.resize("uploads/a.png", 100, 100);
+        service.resize("uploads/c.png", 100, 100);
+
+        // 가장 오래 사용하지 않은 b 삭제
+        assertThat(service.getEvictionCount()).isEqualTo(1);
+        assertThat(Files.exists(b)).isFalse();
+        assertThat(Files.exists(a)).isTrue();
+        assertThat(service.getCacheSize()).isEqualTo(2);
+        assertThat(service.getCacheBytes()).isLessThanOrEqualTo(total - 1);
+    }
+
+    @Test
+    void keepsRecentlyReturnedFilesUntilPinExpires() throws IOException {
+        ImageResizeService service = service(cacheDirectory, 1, 60_000);
+        Path a = service.resize("uploads/a.png", 100, 100);
+        Path b = service.resize("uploads/b.png", 100, 100);
+
+        // 한도(1 byte)를 넘어도 방금 반환한 파일은 전송 중일 수 있으므로 유지
+        assertThat(service.getEvictionCount()).isZero();
+        assertThat(Files.exists(a)).isTrue();
+        assertThat(service.resize("uploads/a.png", 100, 100)).isEqualTo(a);
+        assertThat(Files.exists(b)).isTrue();
+    }
+
+    @Test
+    void restartRegistersCachedFilesAndDropsTemporaries() throws IOException {
+        ImageResizeService service = service(cacheDirectory, Long.MAX_VALUE);
+        service.resize("uploads/a.png", 100, 100);
+        Files.writeString(cacheDirectory.resolve("abc.tmp"), "partial");
+
+        ImageResizeService restarted = service(cacheDirectory, Long.MAX_VALUE);
+
+        assertThat(restarted.getCacheSize()).isEqualTo(1);
+        assertThat(restarted.getCacheBytes()).isEqualTo(service.getCacheBytes());
+        assertThat(Files.exists(cacheDirectory.resolve("abc.tmp"))).isFalse();
+        restarted.resize("uploads/a.png", 100, 100);
+        assertThat(restarted.getHitCount()).isEqualTo(1);
+    }
+
+    private ImageResizeService service(Path directory, long maxCacheBytes) {
+        return service(directory, maxCacheBytes, 0);
+    }
+
+    private ImageResizeService service(Path directory, long maxCacheBytes, long pinMillis) {
+        ImageResizeService service = new ImageResizeService(storage, directory.toString(), maxCacheBytes,
+                2000, 0.8f, 2, 1000, pinMillis);
+        ReflectionTestUtils.invokeMethod(service, "loadExisting");
+        return service;
+    }
+
+    private void writeImage(String name, int width, int height) throws IOException {
+        Path file = storageRoot.resolve("uploads").resolve(name);
+        Files.createDirectories(file.getParent());
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", file.toFile());
+    }
+
+    private static BufferedImage read(Path file) throws IOException {
+        return ImageIO.read(file.toFile());
+    }
+}
@@ -0,0 +1,68 @@
+package com.refitbackend.service.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 키셋 페이징 커서 - 토큰 왕복, NULL 정렬 값, 잘못된 토큰
+ */
+class ProductCursorTest {
+
+    @Test
+    void roundTripsSortValueAndId() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 7, 1, 12, 30, 15, 123_000_000);
+
+        ProductCursor byDate = ProductCursor.decode(ProductCursor.ofCreatedAt(createdAt, 42L).encode());
+        assertThat(byDate.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(byDate.getId()).isEqualTo(42L);
+
+        ProductCursor byRating = ProductCursor.decode(ProductCursor.ofRating(4.5, 7L).encode());
+        assertThat(byRating.getRating()).isEqualTo(4.5);
+        assertThat(byRating.getId()).isEqualTo(7L);
+    }
+
+    @Test
+    void nullSortValueSurvives() {
+        ProductCursor cursor = ProductCursor.decode(ProductCursor.ofRating(null, 3L).encode());
+
+        assertThat(cursor.getRating()).isNull();
+        assertThat(cursor.getCreatedAt()).isNull();
+        assertThat(ProductCursor.decode(ProductCursor.ofId(9L).encode()).getId()).isEqualTo(9L);
+    }
+
+    @Test
+    void tokenIsUrlSafe() {
+        String token = ProductCursor.ofCreatedAt(LocalDateTime.of(2025, 1, 1, 0, 0), Long.MAX_VALUE).encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void missingTokenIsNoCursor() {
+        assertThat(ProductCursor.decode(null)).isNull();
+        assertThat(ProductCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void malformedTokensAreRejected() {
+        assertThatThrownBy(() -> ProductCursor.decode("not base64!")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductCursor.decode(token("no-separator")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductCursor.decode(token("4.5|abc"))).isInstanceOf(IllegalArgumentException.class);
+        // 형식은 맞지만 정렬 기준과 다른 값
+        assertThatThrownBy(() -> ProductCursor.decode(token("abc|1")).getRating())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductCursor.decode(token("4.5|1")).getCreatedAt())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,141 @@
+package com.refitbackend.service.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.refitbackend.domain.product.ProductChangedEvent;
+import com.refitbackend.dto.product.ProductDetailDTO;
+
+/**
+ * 상품 상세 캐시 - 동시 적재 병합, 적재 중 무효화, LRU 제거
+ */
+class ProductDetailCacheTest {
+
+    @Test
+    void concurrentMissesLoadOnce() throws Exception {
+        ProductDetailCache cache = new ProductDetailCache(10, 600);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ProductDetailDTO>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.get(1L, id -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                await(release);
+                return detail(id);
+            })));
+            assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> cache.get(1L, id -> {
+                    loads.incrementAndGet();
+                    return detail(id);
+                })));
+            }
+            // 나머지 요청이 적재 결과를 기다리기 시작할 때까지
+            while (cache.getCoalescedCount() < 3) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            ProductDetailDTO first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<ProductDetailDTO> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getLoadCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(4);
+        assertThat(cache.get(1L, ProductDetailCacheTest::detail)).isNotNull();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void loadFailureReachesWaitersAndIsNotCached() {
+        ProductDetailCache cache = new ProductDetailCache(10, 600);
+
+        assertThatThrownBy(() -> cache.get(1L, id -> {
+            throw new IllegalArgumentException("상품이 없습니다");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getLoadFailureCount()).isEqualTo(1);
+        assertThat(cache.get(1L, ProductDetailCacheTest::detail).getId()).isEqualTo(1L);
+    }
+
+    @Test
+    void invalidationDuringLoadSkipsStoring() {
+        ProductDetailCache cache = new ProductDetailCache(10, 600);
+
+        // 적재 중에 상품이 바뀌면 읽은 값은 돌려주되 저장하지 않음 (변경 전 값일 수 있음)
+        ProductDetailDTO stale = cache.get(1L, id -> {
+            cache.onProductChanged(new ProductChangedEvent(id, ProductChangedEvent.Type.UPDATED));
+            return detail(id);
+        });
+
+        assertThat(stale).isNotNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getInvalidationCount()).isEqualTo(1);
+
+        cache.get(1L, ProductDetailCacheTest::detail);
+        assertThat(cache.size()).isEqualTo(1);
+        cache.invalidate(1L);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        ProductDetailCache cache = new ProductDetailCache(2, 600);
+        cache.get(1L, ProductDetailCacheTest::detail);
+        cache.get(2L, ProductDetailCacheTest::detail);
+        cache.get(1L, ProductDetailCacheTest::detail);
+
+        cache.get(3L, ProductDetailCacheTest::detail);
+
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return detail(id);
+        });
+        assertThat(loads).hasValue(0);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void disabledCacheStillLoads() {
+        ProductDetailCache cache = new ProductDetailCache(0, 600);
+
+        assertThat(cache.get(1L, ProductDetailCacheTest::detail).getId()).isEqualTo(1L);
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getHitRate()).isZero();
+    }
+
+    private static ProductDetailDTO detail(Long id) {
+        return ProductDetailDTO.builder().id(id).build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
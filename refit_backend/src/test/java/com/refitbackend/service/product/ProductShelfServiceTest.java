@@ -0,0 +1,204 @@
+package com.refitbackend.service.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import com.refitbackend.domain.product.Brand;
+import com.refitbackend.domain.product.ProductChangedEvent;
+import com.refitbackend.domain.product.ProductStatus;
+import com.refitbackend.dto.product.ProductFeedDTO;
+import com.refitbackend.dto.product.ProductImageDTO;
+import com.refitbackend.dto.product.ProductKeyDTO;
+import com.refitbackend.dto.product.ProductShelfStateDTO;
+import com.refitbackend.repository.product.BrandRepository;
+import com.refitbackend.repository.product.CategoryRepository;
+import com.refitbackend.repository.product.CategorySubRepository;
+import com.refitbackend.repository.product.ProductRepository;
+
+/**
+ * 홈 화면 진열대 - 스냅샷 경계에서의 페이징과 상품 변경 시 부분 재구축
+ * 스냅샷 범위 안이면 메모리에서 응답하고, 범위를 넘는 페이지는 null(DB 조회)이어야 함
+ * 저장소와 이미지 서비스는 정렬 키와 이미지 조회만 mock으로 대체
+ */
+class ProductShelfServiceTest {
+
+    private static final Long BRAND_ID = 7L;
+    private static final double MIN_RATING = 4.5;
+
+    // 평점 높은 순 상품 5개 (ID 10 ~ 14)
+    private final List<ProductKeyDTO> highRated = List.of(
+            key(10L, 5.0), key(11L, 4.9), key(12L, 4.9), key(13L, 4.7), key(14L, 4.5));
+
+    private final Map<Long, ProductShelfStateDTO> states = new LinkedHashMap<>();
+
+    private ProductRepository productRepository;
+
+    @Test
+    void pagesWithinSnapshotAndFallsBackPastIt() {
+        ProductShelfService shelves = service(3);
+
+        ProductFeedDTO first = find(shelves, null, 2);
+        assertThat(productIds(first)).containsExactly(10L, 11L);
+        assertThat(ProductCursor.decode(first.getNextCursor()).getId()).isEqualTo(11L);
+
+        // 스냅샷(3개)을 넘는 페이지는 DB에서
+        assertThat(find(shelves, ProductCursor.decode(first.getNextCursor()), 2)).isNull();
+
+        // 스냅샷 끝에서 딱 끝나는 페이지는 응답하고 다음 커서는 DB 조회용
+        ProductFeedDTO exact = find(shelves, null, 3);
+        assertThat(productIds(exact)).containsExactly(10L, 11L, 12L);
+        ProductCursor next = ProductCursor.decode(exact.getNextCursor());
+        assertThat(next.getId()).isEqualTo(12L);
+        assertThat(next.getRating()).isEqualTo(4.9);
+        assertThat(find(shelves, next, 1)).isNull();
+    }
+
+    @Test
+    void completeSnapshotServesLastPage() {
+        ProductShelfService shelves = service(5);
+
+        ProductFeedDTO first = find(shelves, null, 3);
+        ProductFeedDTO last = find(shelves, ProductCursor.decode(first.getNextCursor()), 3);
+
+        assertThat(productIds(last)).containsExactly(13L, 14L);
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    void unknownShelvesAndCursorsFallBack() {
+        ProductShelfService shelves = service(5);
+
+        // 다른 조건, 스냅샷에 없는 커서
+        assertThat(shelves.find(ProductShelfService.Type.HIGH_RATED, null, null, 4.0, null, null, null, 2)).isNull();
+        assertThat(find(shelves, ProductCursor.ofRating(4.8, 99L), 2)).isNull();
+        assertThat(find(shelves, null, 0)).isNull();
+
+        ProductFeedDTO brand = shelves.find(ProductShelfService.Type.BRAND, BRAND_ID, null, null, null, null, null, 10);
+        assertThat(productIds(brand)).containsExactly(14L, 13L);
+        assertThat(brand.getNextCursor()).isNull();
+    }
+
+    @Test
+    void reviewDeltaWithinThresholdsRebuildsNothing() {
+        ProductShelfService shelves = service(5);
+        states.put(13L, state(13L, 4.7));
+        changed(shelves, 13L, ProductChangedEvent.Type.UPDATED);
+
+        // 평점이 기준(4.5) 위에서만 바뀜 - 순서 변경은 주기적 재구축에 맡김
+        states.put(13L, state(13L, 4.6));
+        clearInvocations(productRepository);
+        changed(shelves, 13L, ProductChangedEvent.Type.UPDATED);
+        verify(productRepository, never()).findHighRatedKeysAfter(any(), any(), any(), any(), any(), any());
+
+        // 진열대에 없고 기준도 못 넘는 상품
+        states.put(99L, state(99L, 3.0));
+        changed(shelves, 99L, ProductChangedEvent.Type.UPDATED);
+        verify(productRepository, never()).findHighRatedKeysAfter(any(), any(), any(), any(), any(), any());
+        verify(productRepository, never()).findKeysByBrandIdAfter(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void crossingRatingThresholdRebuildsOnlyThatProductsShelves() {
+        ProductShelfService shelves = service(5);
+        states.put(13L, state(13L, 4.7));
+        changed(shelves, 13L, ProductChangedEvent.Type.UPDATED);
+        clearInvocations(productRepository);
+
+        states.put(13L, state(13L, 4.4));
+        changed(shelves, 13L, ProductChangedEvent.Type.UPDATED);
+
+        // 전체, 메인 카테고리(1), 서브 카테고리(2), 브랜드 범위만
+        verify(productRepository).findHighRatedKeysAfter(eq(MIN_RATING), isNull(), isNull(), isNull(), isNull(), any());
+        verify(productRepository).findHighRatedKeysAfter(eq(MIN_RATING), eq(1L), isNull(), isNull(), isNull(), any());
+        verify(productRepository).findHighRatedKeysAfter(eq(MIN_RATING), eq(1L), eq(2L), isNull(), isNull(), any());
+        verify(productRepository).findKeysByBrandIdAfter(eq(BRAND_ID), isNull(), isNull(), isNull(), any());
+        verify(productRepository, never()).findHighRatedKeysAfter(any(), eq(3L), any(), any(), any(), any());
+    }
+
+    @Test
+    void deletedProductRebuildsShelvesShowingIt() {
+        ProductShelfService shelves = service(5);
+        clearInvocations(productRepository);
+
+        // 이전 상태를 모르는 상품 - 지금 들어 있는 진열대(전체, 브랜드)만
+        changed(shelves, 14L, ProductChangedEvent.Type.DELETED);
+
+        verify(productRepository).findHighRatedKeysAfter(eq(MIN_RATING), isNull(), isNull(), isNull(), isNull(), any());
+        verify(productRepository).findKeysByBrandIdAfter(eq(BRAND_ID), isNull(), isNull(), isNull(), any());
+        verify(productRepository, never()).findHighRatedKeysAfter(any(), eq(1L), any(), any(), any(), any());
+    }
+
+    private ProductShelfService service(int depth) {
+        productRepository = mock(ProductRepository.class);
+        when(productRepository.findShelfStatesByIdIn(anyCollection())).thenAnswer(invocation ->
+                invocation.<Collection<Long>>getArgument(0).stream()
+                        .filter(states::containsKey)
+                        .map(states::get)
+                        .toList());
+        when(productRepository.findHighRatedKeysAfter(any(), any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> limit(highRated, invocation.getArgument(5)));
+        when(productRepository.findKeysByBrandIdAfter(any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> limit(List.of(key(14L, 4.5), key(13L, 4.7)), invocation.getArgument(4)));
+        ProductImageService imageService = mock(ProductImageService.class);
+        when(imageService.getByProductIds(anyList())).thenAnswer(invocation -> {
+            Map<Long, List<ProductImageDTO>> images = new LinkedHashMap<>();
+            for (Long id : invocation.<List<Long>>getArgument(0)) {
+                images.put(id, List.of(ProductImageDTO.builder().productId(id).build()));
+            }
+            return images;
+        });
+        BrandRepository brandRepository = mock(BrandRepository.class);
+        when(brandRepository.findAll()).thenReturn(List.of(Brand.builder().id(BRAND_ID).build()));
+
+        ProductShelfService shelves = new ProductShelfService(productRepository, imageService,
+                mock(CategoryRepository.class), mock(CategorySubRepository.class), brandRepository,
+                depth, MIN_RATING, 35000, 4.0);
+        shelves.rebuild();
+        return shelves;
+    }
+
+    private static void changed(ProductShelfService shelves, Long productId, ProductChangedEvent.Type type) {
+        shelves.onProductChanged(new ProductChangedEvent(productId, type));
+        shelves.refreshIfChanged();
+    }
+
+    private static ProductShelfStateDTO state(Long id, Double rating) {
+        return new ProductShelfStateDTO(id, BRAND_ID, 1L, 2L, ProductStatus.ACTIVE, 50000, rating);
+    }
+
+    private static ProductFeedDTO find(ProductShelfService shelves, ProductCursor after, int size) {
+        return shelves.find(ProductShelfService.Type.HIGH_RATED, null, null, MIN_RATING, null, null, after, size);
+    }
+
+    private static List<ProductKeyDTO> limit(List<ProductKeyDTO> keys, Pageable pageable) {
+        return keys.subList(0, Math.min(keys.size(), pageable.getPageSize()));
+    }
+
+    private static List<Long> productIds(ProductFeedDTO feed) {
+        List<Long> ids = new ArrayList<>();
+        feed.getProducts().forEach(images -> ids.add(images.get(0).getProductId()));
+        return ids;
+    }
+
+    private static ProductKeyDTO key(Long id, Double rating) {
+        return new ProductKeyDTO(id, rating, null);
+    }
+}
@@ -0,0 +1,184 @@
+package com.refitbackend.service.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.refitbackend.domain.member.Member;
+import com.refitbackend.domain.product.Product;
+import com.refitbackend.domain.product.ProductStatus;
+import com.refitbackend.domain.review.Review;
+import com.refitbackend.dto.product.RatingRecomputeStatusDTO;
+import com.refitbackend.repository.batch.JobCheckpointRepository;
+import com.refitbackend.service.product.search.ProductSearchIndex;
+
+/**
+ * 리뷰 집계 재계산 작업 - 체크포인트 저장과 이어서 실행
+ * 구간 트랜잭션이 커밋돼야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리
+ * 작업 풀 대신 호출 스레드에서 바로 실행해서 구간을 순서대로 처리
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RatingRecomputeJobTest {
+
+    private static final String EMAIL = "recompute@test.com";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JobCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private JdbcTemplate jdbcTemplate;
+    private final List<Long> productIds = new ArrayList<>();
+
+    // 이 ID가 포함된 구간은 실패
+    private final AtomicLong failingId = new AtomicLong(-1);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource) {
+            @Override
+            public void query(String sql, RowCallbackHandler rch, Object... args) {
+                if (args.length == 2 && (long) args[0] <= failingId.get() && failingId.get() <= (long) args[1]) {
+                    throw new IllegalStateException("구간 실패");
+                }
+                super.query(sql, rch, args);
+            }
+        };
+        new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+            Member member = em.persist(Member.builder().email(EMAIL).pw("pw").nickname("user").build());
+            // 리뷰는 있지만 집계 컬럼은 비어 있는 상품 3개
+            for (double[] ratings : new double[][] { { 5.0, 3.0 }, { 4.0 }, { 1.0, 2.0, 2.0 } }) {
+                Product product = em.persist(Product.builder()
+                        .name("재계산 상품")
+                        .basePrice(10000)
+                        .status(ProductStatus.ACTIVE)
+                        .build());
+                for (double rating : ratings) {
+                    em.persist(Review.builder()
+                            .content("리뷰")
+                            .rating(rating)
+                            .member(member)
+                            .product(product)
+                            .orderId(1L)
+                            .build());
+                }
+                productIds.add(product.getId());
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Long productId : productIds) {
+            jdbcTemplate.update("DELETE FROM reviews WHERE product_id = ?", productId);
+            jdbcTemplate.update("DELETE FROM products WHERE id = ?", productId);
+        }
+        jdbcTemplate.update("DELETE FROM member WHERE email = ?", EMAIL);
+        checkpointRepository.deleteAll();
+    }
+
+    @Test
+    void recomputesEveryProduct() {
+        RatingRecomputeStatusDTO status = job().start(false);
+
+        assertThat(status.getStatus()).isEqualTo("COMPLETED");
+        assertThat(status.getUpdatedProducts()).isEqualTo(3);
+        assertAggregate(productIds.get(0), 2, 4.0, 0, 0, 1, 0, 1);
+        assertAggregate(productIds.get(1), 1, 4.0, 0, 0, 0, 1, 0);
+        assertAggregate(productIds.get(2), 3, 5.0 / 3, 1, 2, 0, 0, 0);
+
+        // 다시 돌리면 바뀐 값이 없으므로 갱신 없음
+        assertThat(job().start(false).getUpdatedProducts()).isZero();
+    }
+
+    @Test
+    void failedRunResumesAfterCheckpoint() {
+        failingId.set(productIds.get(1));
+        RatingRecomputeJob job = job();
+
+        RatingRecomputeStatusDTO failed = job.start(false);
+
+        // 실패한 구간 앞까지만 체크포인트
+        assertThat(failed.getStatus()).isEqualTo("FAILED");
+        assertThat(failed.getCheckpointId()).isEqualTo(productIds.get(1) - 1);
+        assertThat(checkpointRepository.findById(RatingRecomputeJob.JOB_NAME).orElseThrow().getStatus())
+                .isEqualTo("FAILED");
+        assertAggregate(productIds.get(0), 2, 4.0, 0, 0, 1, 0, 1);
+        assertThat(reviewCount(productIds.get(1))).isZero();
+
+        failingId.set(-1);
+        RatingRecomputeStatusDTO resumed = job.start(true);
+
+        // 체크포인트 다음부터 - 앞 상품은 다시 읽지 않음
+        assertThat(resumed.getStatus()).isEqualTo("COMPLETED");
+        assertThat(resumed.getFromId()).isEqualTo(productIds.get(1));
+        assertThat(resumed.getScannedProducts()).isEqualTo(2);
+        assertAggregate(productIds.get(1), 1, 4.0, 0, 0, 0, 1, 0);
+        assertAggregate(productIds.get(2), 3, 5.0 / 3, 1, 2, 0, 0, 0);
+
+        // 완료된 작업은 resume이어도 처음부터
+        assertThat(job.start(true).getFromId()).isEqualTo(1L);
+    }
+
+    @Test
+    void cancelWhileIdleIsIgnored() {
+        RatingRecomputeJob job = job();
+        job.cancel();
+        assertThat(job.getStatus().getStatus()).isEqualTo("IDLE");
+
+        // 이전 중단 요청이 다음 실행을 멈추지 않음
+        RatingRecomputeStatusDTO status = job.start(false);
+        assertThat(status.getStatus()).isEqualTo("COMPLETED");
+        assertThat(status.getCompletedChunks()).isEqualTo(status.getTotalChunks());
+    }
+
+    private RatingRecomputeJob job() {
+        // 진열대 재구축은 실패해도 로그만 남김 (저장소 없음)
+        ProductShelfService shelves = new ProductShelfService(null, null, null, null, null, 0, 4.5, 35000, 4.0);
+        return new RatingRecomputeJob(jdbcTemplate, transactionManager, checkpointRepository,
+                new StaticListableBeanFactory().getBeanProvider(ProductSearchIndex.class),
+                shelves, new ProductDetailCache(10, 600), Runnable::run, 1, 1);
+    }
+
+    private int reviewCount(Long productId) {
+        return jdbcTemplate.queryForObject("SELECT review_count FROM products WHERE id = ?", Integer.class, productId);
+    }
+
+    private void assertAggregate(Long productId, int count, double rating, int... histogram) {
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT * FROM products WHERE id = ?", productId);
+        assertThat(((Number) row.get("REVIEW_COUNT")).intValue()).isEqualTo(count);
+        assertThat(((Number) row.get("RATING")).doubleValue()).isCloseTo(rating, offset(1e-9));
+        assertThat(List.of(row.get("RATING1_COUNT"), row.get("RATING2_COUNT"), row.get("RATING3_COUNT"),
+                row.get("RATING4_COUNT"), row.get("RATING5_COUNT")))
+                .extracting(value -> ((Number) value).intValue())
+                .containsExactly(histogram[0], histogram[1], histogram[2], histogram[3], histogram[4]);
+    }
+}
@@ -0,0 +1,44 @@
+package com.refitbackend.service.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 속성값별 문서 비트맵
+ */
+class AttributeIndexTest {
+
+    @Test
+    void keyZeroIsNotIndexed() {
+        AttributeIndex index = new AttributeIndex();
+        index.add(0, 1);
+        index.add(5, 2);
+
+        assertThat(index.get(0).isEmpty()).isTrue();
+        assertThat(index.get(5).contains(2)).isTrue();
+    }
+
+    @Test
+    void removeDropsEmptyBitmaps() {
+        AttributeIndex index = new AttributeIndex();
+        index.add(3, 1);
+        index.add(3, 2);
+        index.remove(3, 1);
+        assertThat(index.get(3).getCardinality()).isEqualTo(1);
+
+        index.remove(3, 2);
+        assertThat(index.range(1, 10)).isEmpty();
+        index.remove(7, 1);
+    }
+
+    @Test
+    void rangeIncludesBothEnds() {
+        AttributeIndex index = new AttributeIndex();
+        for (int key = 1; key <= 5; key++) {
+            index.add(key, key);
+        }
+
+        assertThat(index.range(2, 4).keySet()).containsExactly(2L, 3L, 4L);
+    }
+}
@@ -0,0 +1,101 @@
+package com.refitbackend.service.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 자모 단위 삭제 색인 - 허용 거리, 가장 가까운 거리 우선, 빈도순, 빈도가 0이 된 단어 정리
+ */
+class DeletionIndexTest {
+
+    private DeletionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DeletionIndex();
+        index.add("티셔츠", 5);
+        index.add("맨투맨", 3);
+        index.add("후드티", 2);
+        index.add("스니커즈", 4);
+    }
+
+    @Test
+    void correctsJamoLevelTypos() {
+        // 티셔츠 -> 티셔초 (ㅡ -> ㅗ, 자모 1개)
+        assertThat(index.lookup("티셔초", 3)).containsExactly("티셔츠");
+        // 맨투맨 -> 멘투맨 (ㅐ -> ㅔ)
+        assertThat(index.lookup("멘투맨", 3)).containsExactly("맨투맨");
+        // 자모 8개 이상이면 2개까지: 스니커즈 -> 스니커스 (ㅈ -> ㅅ), 스티커즈 (ㄴ -> ㅌ, ㅋ 유지)
+        assertThat(index.lookup("스티커스", 3)).containsExactly("스니커즈");
+    }
+
+    @Test
+    void skipsExactAndShortWords() {
+        assertThat(index.lookup("티셔츠", 3)).isEmpty();
+        // 자모 4개 미만은 교정하지 않음
+        assertThat(index.lookup("티", 3)).isEmpty();
+        assertThat(DeletionIndex.allowedDistance(3)).isZero();
+        assertThat(DeletionIndex.allowedDistance(4)).isEqualTo(1);
+        assertThat(DeletionIndex.allowedDistance(8)).isEqualTo(DeletionIndex.MAX_DISTANCE);
+    }
+
+    @Test
+    void neverReturnsWordsBeyondAllowedDistance() {
+        // 삭제 변형은 겹치지만 (bcd) 실제 거리는 2 - 자모 4개 단어는 1까지만 허용
+        index.add("bcda", 1);
+
+        assertThat(index.lookup("abcd", 3)).isEmpty();
+    }
+
+    @Test
+    void closestDistanceWinsThenFrequency() {
+        index.add("abcdef", 1);
+        index.add("abcdxf", 9);
+        index.add("abcdeg", 7);
+
+        // abcdez: abcdef, abcdeg 거리 1 / abcdxf 거리 2
+        assertThat(index.lookup("abcdez", 3)).containsExactly("abcdeg", "abcdef");
+        assertThat(index.lookup("abcdez", 1)).containsExactly("abcdeg");
+    }
+
+    @Test
+    void zeroFrequencyWordsAreReleased() {
+        int variants = index.variantCount();
+        index.add("티셔츠", -5);
+        assertThat(index.lookup("티셔초", 3)).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.variantCount()).isLessThan(variants);
+
+        index.add("티셔츠", 1);
+        assertThat(index.lookup("티셔초", 3)).containsExactly("티셔츠");
+        assertThat(index.variantCount()).isEqualTo(variants);
+        // 없는 단어 빈도 감소는 무시
+        index.add("반바지", -1);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void releasedIdsAreReusedAcrossManyWords() {
+        // 같은 삭제 변형(abcd)을 공유하는 단어 여러 개
+        for (char c = 'e'; c <= 'z'; c++) {
+            index.add("abcd" + c, 1);
+        }
+        for (char c = 'e'; c <= 'x'; c++) {
+            index.add("abcd" + c, -1);
+        }
+        index.add("abcdq", 2);
+
+        assertThat(index.size()).isEqualTo(4 + 3);
+        assertThat(index.lookup("abcdw", 5)).containsExactly("abcdq", "abcdy", "abcdz");
+    }
+
+    @Test
+    void distanceCountsTranspositionAsOne() {
+        assertThat(DeletionIndex.distance("abcd", "abdc", 2)).isEqualTo(1);
+        assertThat(DeletionIndex.distance("abcd", "bcda", 2)).isEqualTo(2);
+        assertThat(DeletionIndex.distance("abcd", "wxyz", 2)).isEqualTo(3);
+        assertThat(DeletionIndex.distance("a", "abcd", 1)).isEqualTo(2);
+    }
+}
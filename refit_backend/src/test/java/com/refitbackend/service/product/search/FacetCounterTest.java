@@ -0,0 +1,59 @@
+package com.refitbackend.service.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.refitbackend.dto.product.SearchFacetsDTO;
+
+/**
+ * 검색 결과 패싯 집계 - 가격대/평점대 경계, 개수순 정렬, 값이 없는 속성 제외
+ */
+class FacetCounterTest {
+
+    @Test
+    void priceBandBoundaries() {
+        assertThat(FacetCounter.priceBand(0)).isZero();
+        assertThat(FacetCounter.priceBand(9999)).isZero();
+        assertThat(FacetCounter.priceBand(10000)).isEqualTo(1);
+        assertThat(FacetCounter.priceBand(199999)).isEqualTo(4);
+        assertThat(FacetCounter.priceBand(Integer.MAX_VALUE)).isEqualTo(FacetCounter.PRICE_BANDS.length - 1);
+    }
+
+    @Test
+    void ratingBucketFloorsAndClamps() {
+        assertThat(FacetCounter.ratingBucket(0.5)).isZero();
+        assertThat(FacetCounter.ratingBucket(3.99)).isEqualTo(3);
+        assertThat(FacetCounter.ratingBucket(5.0)).isEqualTo(5);
+        assertThat(FacetCounter.ratingBucket(7.0)).isEqualTo(5);
+    }
+
+    @Test
+    void buildsSortedFacets() {
+        FacetCounter counter = new FacetCounter();
+        counter.add(2, 10, 0, 29000, 4.5);
+        counter.add(1, 10, 0, 15000, 4.0);
+        counter.add(1, 20, 0, 250000, Double.NaN);
+        counter.add(0, 10, 0, -1, 5.0);
+        counter.add(3, 10, 0, 5000, 3.2);
+
+        SearchFacetsDTO facets = counter.build(Map.of(1L, "나이키", 2L, "아디다스", 3L, "뉴발란스"),
+                Map.of(10L, "상의", 20L, "하의"), Map.of());
+
+        // 개수 많은 순, 같으면 이름순 / ID 0(없음)은 제외
+        assertThat(facets.getBrands()).extracting("id", "count")
+                .containsExactly(tuple(1L, 2), tuple(3L, 1), tuple(2L, 1));
+        assertThat(facets.getCategories()).extracting("name", "count")
+                .containsExactly(tuple("상의", 4), tuple("하의", 1));
+        assertThat(facets.getSubCategories()).isEmpty();
+        // 가격 없는 상품 제외, 마지막 구간은 상한 없음
+        assertThat(facets.getPrices()).extracting("min", "max", "count")
+                .containsExactly(tuple(0, 10000, 1), tuple(10000, 30000, 2), tuple(200000, null, 1));
+        // 높은 평점부터, 평점 없는 상품 제외
+        assertThat(facets.getRatings()).extracting("min", "max", "count")
+                .containsExactly(tuple(5, null, 1), tuple(4, 5, 2), tuple(3, 4, 1));
+    }
+}
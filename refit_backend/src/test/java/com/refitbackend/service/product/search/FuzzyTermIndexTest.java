@@ -0,0 +1,105 @@
+package com.refitbackend.service.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import com.refitbackend.domain.product.ProductChangedEvent;
+import com.refitbackend.dto.product.ProductSearchDocumentDTO;
+import com.refitbackend.repository.product.ProductRepository;
+
+/**
+ * 오타 교정 사전 - 상품/동의어 단어 색인과 이벤트별 부분 갱신
+ */
+class FuzzyTermIndexTest {
+
+    @TempDir
+    Path directory;
+
+    private final Map<Long, ProductSearchDocumentDTO> documents = new HashMap<>();
+    private final List<Object> events = new ArrayList<>();
+
+    private Path synonyms;
+    private SynonymDictionary dictionary;
+    private FuzzyTermIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        synonyms = directory.resolve("synonyms.txt");
+        Files.writeString(synonyms, "바지, 팬츠\n", StandardCharsets.UTF_8);
+        dictionary = new SynonymDictionary(new DefaultResourceLoader(), events::add, "file:" + synonyms);
+        dictionary.init();
+
+        put(1L, "나이키 맨투맨", "나이키", "상의");
+        put(2L, "아디다스 맨투맨", "아디다스", "상의");
+        put(3L, "나이키 스니커즈", "나이키", "신발");
+        index = new FuzzyTermIndex(repository(), dictionary);
+        index.rebuild();
+    }
+
+    @Test
+    void correctsProductAndSynonymTerms() {
+        assertThat(index.correct("멘투맨")).containsExactly("맨투맨");
+        assertThat(index.correct("아다다스")).containsExactly("아디다스");
+        assertThat(index.correct("펜츠")).containsExactly("팬츠");
+        // 사전에 있는 단어, 한 글자 단어는 그대로
+        assertThat(index.correct("나이키")).isEmpty();
+        assertThat(index.correct("팬")).isEmpty();
+    }
+
+    @Test
+    void productChangesUpdateOnlyThatProduct() {
+        put(3L, "나이키 슬리퍼", "나이키", "신발");
+        index.onProductChanged(new ProductChangedEvent(3L, ProductChangedEvent.Type.UPDATED));
+
+        assertThat(index.correct("스니커스")).isEmpty();
+        assertThat(index.correct("술리퍼")).containsExactly("슬리퍼");
+
+        // 다른 상품도 쓰는 단어는 남음
+        documents.remove(1L);
+        index.onProductChanged(new ProductChangedEvent(1L, ProductChangedEvent.Type.DELETED));
+        assertThat(index.correct("멘투맨")).containsExactly("맨투맨");
+    }
+
+    @Test
+    void synonymReloadReplacesSynonymTerms() throws IOException {
+        Files.writeString(synonyms, "반바지, 숏팬츠\n", StandardCharsets.UTF_8);
+        dictionary.reload();
+        events.stream()
+                .filter(SynonymsReloadedEvent.class::isInstance)
+                .map(SynonymsReloadedEvent.class::cast)
+                .forEach(index::onSynonymsReloaded);
+
+        assertThat(index.correct("펜츠")).isEmpty();
+        assertThat(index.correct("숏펜츠")).containsExactly("숏팬츠");
+    }
+
+    private void put(Long id, String name, String brandName, String categoryName) {
+        documents.put(id, new ProductSearchDocumentDTO(id, name, null, 1L, brandName, 10L, categoryName,
+                null, null, 10000, null));
+    }
+
+    private ProductRepository repository() {
+        ProductRepository repository = mock(ProductRepository.class);
+        when(repository.findAllSearchDocuments()).thenAnswer(invocation -> List.copyOf(documents.values()));
+        when(repository.findSearchDocumentById(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(documents.get(invocation.<Long>getArgument(0))));
+        return repository;
+    }
+}
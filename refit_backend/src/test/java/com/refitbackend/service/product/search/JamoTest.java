@@ -0,0 +1,26 @@
+package com.refitbackend.service.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 한글 음절 자모 분해
+ */
+class JamoTest {
+
+    @Test
+    void decomposesSyllables() {
+        assertThat(Jamo.decompose("티셔츠")).isEqualTo("ㅌㅣㅅㅕㅊㅡ");
+        assertThat(Jamo.decompose("맨투맨")).isEqualTo("ㅁㅐㄴㅌㅜㅁㅐㄴ");
+        // 겹받침, 처음/마지막 음절
+        assertThat(Jamo.decompose("닭")).isEqualTo("ㄷㅏㄺ");
+        assertThat(Jamo.decompose("가힣")).isEqualTo("ㄱㅏㅎㅣㅎ");
+    }
+
+    @Test
+    void keepsOtherCharacters() {
+        assertThat(Jamo.decompose("nike 2024 ㅋㅋ")).isEqualTo("nike 2024 ㅋㅋ");
+        assertThat(Jamo.decompose("")).isEmpty();
+    }
+}
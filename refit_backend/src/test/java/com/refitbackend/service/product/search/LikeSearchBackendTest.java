@@ -0,0 +1,134 @@
+package com.refitbackend.service.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.refitbackend.domain.product.Brand;
+import com.refitbackend.domain.product.Category;
+import com.refitbackend.domain.product.Product;
+import com.refitbackend.domain.product.ProductChangedEvent;
+import com.refitbackend.domain.product.ProductStatus;
+import com.refitbackend.dto.product.SearchFilterDTO;
+
+/**
+ * LIKE 검색 백엔드 - 질의를 WHERE 절로 변환한 결과가 인덱스 백엔드와 같은 의미인지
+ */
+@DataJpaTest
+class LikeSearchBackendTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LikeSearchBackend backend;
+
+    private long shortTee;
+    private long longTee;
+    private long jogger;
+    private long discount;
+
+    @BeforeEach
+    void setUp() {
+        backend = new LikeSearchBackend(jdbcTemplate);
+        Brand nike = em.persist(Brand.builder().name("나이키").build());
+        Brand adidas = em.persist(Brand.builder().name("아디다스").build());
+        Category top = em.persist(Category.builder().name("상의").build());
+        Category bottom = em.persist(Category.builder().name("하의").build());
+
+        shortTee = persist("나이키 반팔 티셔츠", null, nike, top, 29000, 4.6);
+        longTee = persist("아디다스 긴팔 티셔츠", "기모 안감", adidas, top, 39000, 3.8);
+        jogger = persist("나이키 조거 바지", null, nike, bottom, 59000, null);
+        discount = persist("100% 면 반팔", null, null, top, 9900, null);
+        em.flush();
+    }
+
+    @Test
+    void groupsAreAndedAndSynonymsOred() {
+        assertThat(ids(backend.retrieve(SearchQuery.allOf(List.of(List.of("나이키"), List.of("티셔츠"))))))
+                .containsExactly(shortTee);
+        assertThat(ids(backend.retrieve(SearchQuery.anyOf(List.of("바지", "긴팔")))))
+                .containsExactly(longTee, jogger);
+        // 브랜드명, 카테고리명, 설명도 검색
+        assertThat(ids(backend.retrieve(SearchQuery.anyOf(List.of("하의", "기모")))))
+                .containsExactly(longTee, jogger);
+        assertThat(backend.retrieve(SearchQuery.allOf(List.of()))).isSameAs(SearchHits.empty());
+    }
+
+    @Test
+    void excludedTermsSkipNullColumns() {
+        // 설명이 NULL인 상품도 제외 조건 때문에 빠지면 안 됨
+        SearchQuery query = SearchQuery.anyOf(List.of("나이키")).excluding(List.of("바지"));
+
+        assertThat(ids(backend.retrieve(query))).containsExactly(shortTee);
+    }
+
+    @Test
+    void wildcardsInTermsAreLiteral() {
+        assertThat(ids(backend.retrieve(SearchQuery.anyOf(List.of("100%"))))).containsExactly(discount);
+        assertThat(backend.retrieve(SearchQuery.anyOf(List.of("_")))).extracting(SearchHits::getTotalCount)
+                .isEqualTo(0);
+    }
+
+    @Test
+    void filtersAndFacets() {
+        SearchQuery query = SearchQuery.anyOf(List.of("반팔", "티셔츠"))
+                .filteredBy(SearchFilterDTO.builder().minPrice(10000).build());
+
+        SearchHits hits = backend.retrieve(query);
+
+        assertThat(ids(hits)).containsExactly(shortTee, longTee);
+        assertThat(hits.getFacets().getBrands()).extracting("name").containsExactly("나이키", "아디다스");
+        assertThat(hits.getFacets().getPrices()).extracting("min", "count")
+                .containsExactly(tuple(10000, 1), tuple(30000, 1));
+    }
+
+    @Test
+    void topKRanksByNameScore() {
+        SearchHits hits = backend.retrieveTopK(SearchQuery.anyOf(List.of("나이키", "반팔")), 2);
+
+        // 나이키 반팔 티셔츠: 두 단어 모두 포함 + 나이키로 시작
+        assertThat(hits.getTotalCount()).isEqualTo(3);
+        assertThat(hits.getProductIds()).hasSize(2).startsWith(shortTee);
+
+        SearchHits count = backend.retrieveTopK(SearchQuery.anyOf(List.of("티셔츠")), 0);
+        assertThat(count.getTotalCount()).isEqualTo(2);
+        assertThat(count.getProductIds()).isEmpty();
+    }
+
+    @Test
+    void versionChangesWithProducts() {
+        long before = backend.version();
+
+        backend.onProductChanged(new ProductChangedEvent(shortTee, ProductChangedEvent.Type.UPDATED));
+
+        assertThat(backend.version()).isGreaterThan(before);
+    }
+
+    private long persist(String name, String description, Brand brand, Category category, int price, Double rating) {
+        return em.persist(Product.builder()
+                .name(name)
+                .description(description)
+                .brand(brand)
+                .category(category)
+                .basePrice(price)
+                .rating(rating)
+                .status(ProductStatus.ACTIVE)
+                .build()).getId();
+    }
+
+    private static List<Long> ids(SearchHits hits) {
+        return Arrays.stream(hits.getProductIds()).boxed().toList();
+    }
+}
@@ -0,0 +1,77 @@
+package com.refitbackend.service.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * n-gram 역색인 - LIKE '%검색어%'와 같은 결과여야 함
+ */
+class NgramIndexTest {
+
+    private NgramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NgramIndex();
+        index.add(0, "나이키 반팔 티셔츠" + NgramIndex.FIELD_SEPARATOR + "나이키");
+        index.add(1, "아디다스 긴팔 티셔츠" + NgramIndex.FIELD_SEPARATOR + "아디다스");
+        index.add(2, "나이키 조거 바지" + NgramIndex.FIELD_SEPARATOR + "나이키");
+    }
+
+    @Test
+    void findsSubstrings() {
+        assertThat(ids(index.search("티셔츠"))).containsExactly(0, 1);
+        assertThat(ids(index.search("나이키"))).containsExactly(0, 2);
+        assertThat(ids(index.search("팔"))).containsExactly(0, 1);
+        assertThat(ids(index.search("반팔 티"))).containsExactly(0);
+    }
+
+    @Test
+    void verifiesCandidatesLongerThanGrams() {
+        // "티셔"와 "셔츠"는 모두 있지만 "티셔츠바"는 어느 문서에도 없음
+        index.add(3, "티셔 셔츠바");
+        assertThat(ids(index.search("티셔츠바"))).isEmpty();
+        assertThat(ids(index.search("셔츠바"))).containsExactly(3);
+    }
+
+    @Test
+    void doesNotMatchAcrossFieldBoundary() {
+        // 상품명 끝 "츠"와 브랜드 첫 글자 "나"는 이어지지 않음
+        assertThat(ids(index.search("츠나"))).isEmpty();
+    }
+
+    @Test
+    void replaceAndRemoveUpdatePostings() {
+        index.add(0, "나이키 후드티");
+        assertThat(ids(index.search("티셔츠"))).containsExactly(1);
+        assertThat(ids(index.search("후드"))).containsExactly(0);
+
+        index.remove(1);
+        assertThat(ids(index.search("티셔츠"))).isEmpty();
+        assertThat(index.textOf(1)).isNull();
+        assertThat(ids(index.search("아디다스"))).isEmpty();
+    }
+
+    @Test
+    void searchAnyIsUnion() {
+        assertThat(ids(index.searchAny(List.of("바지", "긴팔")))).containsExactly(1, 2);
+        assertThat(ids(index.search(""))).isEmpty();
+        assertThat(ids(index.search("없는단어"))).isEmpty();
+    }
+
+    @Test
+    void searchResultIsACopy() {
+        RoaringBitmap result = index.search("나");
+        result.clear();
+        assertThat(ids(index.search("나"))).containsExactly(0, 2);
+    }
+
+    private static List<Integer> ids(RoaringBitmap bitmap) {
+        return bitmap.stream().boxed().toList();
+    }
+}
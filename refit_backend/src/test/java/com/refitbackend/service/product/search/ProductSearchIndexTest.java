@@ -0,0 +1,173 @@
+package com.refitbackend.service.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.refitbackend.domain.product.ProductChangedEvent;
+import com.refitbackend.dto.product.ProductSearchDocumentDTO;
+import com.refitbackend.dto.product.SearchFilterDTO;
+import com.refitbackend.repository.product.ProductRepository;
+
+/**
+ * 메모리 검색 인덱스 - 질의 평가 결과가 LIKE 검색과 같아야 함
+ * 저장소는 검색 문서 조회만 흉내 냄
+ */
+class ProductSearchIndexTest {
+
+    private final Map<Long, ProductSearchDocumentDTO> documents = new HashMap<>();
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        put(document(1L, "나이키 반팔 티셔츠", 1L, "나이키", 10L, "상의", 29000, 4.6));
+        put(document(2L, "아디다스 긴팔 티셔츠", 2L, "아디다스", 10L, "상의", 39000, 3.8));
+        put(document(3L, "나이키 조거 바지", 1L, "나이키", 20L, "하의", 59000, 4.1));
+        put(document(4L, "무지 반팔 티", 3L, "무신사", 10L, "상의", 9900, null));
+        index = new ProductSearchIndex(repository());
+        index.rebuild();
+    }
+
+    @Test
+    void groupsAreAndedAndSynonymsAreOred() {
+        // (티셔츠 OR 티) AND 반팔
+        SearchHits hits = index.retrieve(SearchQuery.allOf(List.of(List.of("티셔츠", "티"), List.of("반팔"))));
+        assertThat(sorted(hits.getProductIds())).containsExactly(1L, 4L);
+        assertThat(hits.getTotalCount()).isEqualTo(2);
+
+        // 그룹 하나 = OR
+        assertThat(sorted(index.retrieve(SearchQuery.anyOf(List.of("바지", "긴팔"))).getProductIds()))
+                .containsExactly(2L, 3L);
+    }
+
+    @Test
+    void matchesBrandAndCategoryNamesAndIgnoresCase() {
+        assertThat(sorted(index.retrieve(SearchQuery.anyOf(List.of("하의"))).getProductIds())).containsExactly(3L);
+        assertThat(sorted(index.retrieve(SearchQuery.anyOf(List.of("  나이키 "))).getProductIds()))
+                .containsExactly(1L, 3L);
+    }
+
+    @Test
+    void excludedTermsRemoveHits() {
+        SearchHits hits = index.retrieve(SearchQuery.anyOf(List.of("나이키")).excluding(List.of("바지")));
+        assertThat(sorted(hits.getProductIds())).containsExactly(1L);
+    }
+
+    @Test
+    void emptyQueryReturnsNothing() {
+        assertThat(index.retrieve(SearchQuery.allOf(List.of())).getTotalCount()).isZero();
+        assertThat(index.retrieve(SearchQuery.anyOf(List.of("없는상품"))).getTotalCount()).isZero();
+    }
+
+    @Test
+    void topKRanksByNameMatchAndCountsAllHits() {
+        // 1: 나이키(시작) + 반팔 + 티셔츠 = 33, 3: 나이키(시작) = 13, 2와 4는 10
+        SearchHits hits = index.retrieveTopK(SearchQuery.anyOf(List.of("반팔", "나이키", "티셔츠")), 2);
+        assertThat(hits.getProductIds()).containsExactly(1L, 3L);
+        assertThat(hits.getTotalCount()).isEqualTo(4);
+
+        SearchHits countOnly = index.retrieveTopK(SearchQuery.anyOf(List.of("티셔츠")), 0);
+        assertThat(countOnly.getProductIds()).isEmpty();
+        assertThat(countOnly.getTotalCount()).isEqualTo(2);
+    }
+
+    @Test
+    void facetsCoverAllHitsNotOnlyTopK() {
+        SearchHits hits = index.retrieveTopK(SearchQuery.anyOf(List.of("반팔", "티셔츠")), 1);
+
+        assertThat(hits.getProductIds()).hasSize(1);
+        assertThat(hits.getFacets().getBrands()).extracting("name")
+                .containsExactly("나이키", "무신사", "아디다스");
+        assertThat(hits.getFacets().getCategories()).extracting("name", "count")
+                .containsExactly(tuple("상의", 3));
+        assertThat(hits.getFacets().getRatings()).extracting("min", "count")
+                .containsExactly(tuple(4, 1), tuple(3, 1));
+        assertThat(index.retrieveTopK(SearchQuery.anyOf(List.of("반팔")), 0).getFacets()).isNull();
+    }
+
+    @Test
+    void filtersAreAndedWithKeywords() {
+        SearchQuery tops = SearchQuery.anyOf(List.of("티"));
+
+        assertThat(sorted(index.retrieve(tops.filteredBy(SearchFilterDTO.builder().brandId(1L).build()))
+                .getProductIds())).containsExactly(1L);
+        assertThat(sorted(index.retrieve(tops.filteredBy(SearchFilterDTO.builder().mainCategoryId(10L).build()))
+                .getProductIds())).containsExactly(1L, 2L, 4L);
+        assertThat(index.retrieve(tops.filteredBy(SearchFilterDTO.builder().brandId(99L).build()))
+                .getTotalCount()).isZero();
+    }
+
+    @Test
+    void priceRangeIncludesBothEndsAcrossBuckets() {
+        SearchQuery all = SearchQuery.anyOf(List.of("나이키", "아디다스", "무지"));
+
+        assertThat(priceFiltered(all, 9900, 29000)).containsExactly(1L, 4L);
+        assertThat(priceFiltered(all, 29001, null)).containsExactly(2L, 3L);
+        // 구간(30000 ~ 39999) 전체
+        assertThat(priceFiltered(all, 30000, 39999)).containsExactly(2L);
+        assertThat(priceFiltered(all, null, 9899)).isEmpty();
+        assertThat(priceFiltered(all, 50000, 10000)).isEmpty();
+    }
+
+    @Test
+    void minRatingSkipsUnratedProducts() {
+        SearchQuery all = SearchQuery.anyOf(List.of("나이키", "아디다스", "무지"));
+
+        assertThat(sorted(index.retrieve(all.filteredBy(SearchFilterDTO.builder().minRating(4).build()))
+                .getProductIds())).containsExactly(1L, 3L);
+        assertThat(sorted(index.retrieve(all.filteredBy(SearchFilterDTO.builder().minRating(0).build()))
+                .getProductIds())).containsExactly(1L, 2L, 3L);
+        assertThat(index.retrieve(all.filteredBy(SearchFilterDTO.builder().minRating(6).build()))
+                .getTotalCount()).isZero();
+    }
+
+    @Test
+    void productChangeReindexesOnlyThatProduct() {
+        long version = index.version();
+        put(document(3L, "나이키 트레이닝 반바지", 1L, "나이키", 20L, "하의", 59000, 4.1));
+        index.onProductChanged(new ProductChangedEvent(3L, ProductChangedEvent.Type.UPDATED));
+
+        assertThat(sorted(index.retrieve(SearchQuery.anyOf(List.of("트레이닝"))).getProductIds())).containsExactly(3L);
+        assertThat(index.retrieve(SearchQuery.anyOf(List.of("조거"))).getTotalCount()).isZero();
+        assertThat(index.version()).isGreaterThan(version);
+    }
+
+    private List<Long> priceFiltered(SearchQuery query, Integer minPrice, Integer maxPrice) {
+        return sorted(index.retrieve(query.filteredBy(
+                SearchFilterDTO.builder().minPrice(minPrice).maxPrice(maxPrice).build())).getProductIds());
+    }
+
+    private void put(ProductSearchDocumentDTO document) {
+        documents.put(document.getId(), document);
+    }
+
+    private static ProductSearchDocumentDTO document(Long id, String name, Long brandId, String brandName,
+                                                     Long categoryId, String categoryName, int price, Double rating) {
+        return new ProductSearchDocumentDTO(id, name, null, brandId, brandName, categoryId, categoryName,
+                null, null, price, rating);
+    }
+
+    private ProductRepository repository() {
+        ProductRepository repository = mock(ProductRepository.class);
+        when(repository.findAllSearchDocuments()).thenAnswer(invocation -> List.copyOf(documents.values()));
+        when(repository.findSearchDocumentById(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(documents.get(invocation.<Long>getArgument(0))));
+        return repository;
+    }
+
+    private static List<Long> sorted(long[] productIds) {
+        return Arrays.stream(productIds).sorted().boxed().toList();
+    }
+}
@@ -0,0 +1,52 @@
+package com.refitbackend.service.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 검색 결과 커서 저장소
+ * 가득 차도 커서를 발급해야 함 (null 커서는 클라이언트에서 마지막 페이지로 해석)
+ */
+class SearchCursorStoreTest {
+
+    private static final SearchHits HITS = new SearchHits(new long[] { 1, 2, 3 }, 3);
+
+    @Test
+    void savesWhenFullByEvictingLeastRecentlyUsed() {
+        SearchCursorStore store = new SearchCursorStore(2);
+        String first = store.save("a", HITS);
+        String second = store.save("b", HITS);
+
+        // first를 사용하면 second가 가장 오래 사용하지 않은 커서
+        assertThat(store.find(first, "a")).isSameAs(HITS);
+        String third = store.save("c", HITS);
+
+        assertThat(third).isNotNull();
+        assertThat(store.find(third, "c")).isSameAs(HITS);
+        assertThat(store.find(first, "a")).isSameAs(HITS);
+        assertThat(store.find(second, "b")).isNull();
+    }
+
+    @Test
+    void findRequiresSameKeyword() {
+        SearchCursorStore store = new SearchCursorStore(10);
+        String cursor = store.save("티셔츠|null", HITS);
+
+        assertThat(store.find(cursor, "바지|null")).isNull();
+        assertThat(store.find(cursor, "티셔츠|null")).isSameAs(HITS);
+        assertThat(store.find(null, "티셔츠|null")).isNull();
+    }
+
+    @Test
+    void positionedCursorRoundTrip() {
+        String cursor = SearchCursorStore.positioned("key", 40);
+
+        assertThat(SearchCursorStore.keyOf(cursor)).isEqualTo("key");
+        assertThat(SearchCursorStore.offsetOf(cursor, 0)).isEqualTo(40);
+        assertThat(SearchCursorStore.keyOf("legacy")).isEqualTo("legacy");
+        assertThat(SearchCursorStore.offsetOf("legacy", 20)).isEqualTo(20);
+        assertThat(SearchCursorStore.offsetOf("key.-5", 20)).isEqualTo(20);
+        assertThat(SearchCursorStore.offsetOf("key.x", 20)).isEqualTo(20);
+    }
+}
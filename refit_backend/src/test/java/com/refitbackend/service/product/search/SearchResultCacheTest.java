@@ -0,0 +1,59 @@
+package com.refitbackend.service.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 검색 결과 캐시 - 버전/개수 무효화와 동의어 사전 재로드 시 삭제
+ */
+class SearchResultCacheTest {
+
+    private static final SearchHits HITS = new SearchHits(new long[] { 3, 1, 2 }, 3);
+
+    @Test
+    void entryIsInvalidWhenVersionChanges() {
+        SearchResultCache cache = new SearchResultCache(10, 300);
+        cache.put("S|티셔츠", 1, HITS);
+
+        assertThat(cache.get("S|티셔츠", 1, 3)).isSameAs(HITS);
+        assertThat(cache.get("S|티셔츠", 2, 3)).isNull();
+        // 다른 버전으로 조회하면 항목이 제거됨
+        assertThat(cache.get("S|티셔츠", 1, 3)).isNull();
+    }
+
+    @Test
+    void entryMustCoverRequestedLimit() {
+        SearchResultCache cache = new SearchResultCache(10, 300);
+        SearchHits partial = new SearchHits(new long[] { 3, 1 }, 10);
+        cache.put("S|바지", 1, partial);
+
+        assertThat(cache.get("S|바지", 1, 2)).isSameAs(partial);
+        assertThat(cache.get("S|바지", 1, 5)).isNull();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        SearchResultCache cache = new SearchResultCache(2, 300);
+        cache.put("a", 1, HITS);
+        cache.put("b", 1, HITS);
+        cache.get("a", 1, 1);
+        cache.put("c", 1, HITS);
+
+        assertThat(cache.get("b", 1, 1)).isNull();
+        assertThat(cache.get("a", 1, 1)).isSameAs(HITS);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void synonymsReloadClearsCache() {
+        SearchResultCache cache = new SearchResultCache(10, 300);
+        cache.put("A|바지,티셔츠", 1, HITS);
+
+        cache.onSynonymsReloaded(new SynonymsReloadedEvent(Set.of("티셔츠", "반팔")));
+
+        assertThat(cache.size()).isZero();
+    }
+}
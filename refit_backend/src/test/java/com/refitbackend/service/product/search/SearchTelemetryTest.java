@@ -0,0 +1,47 @@
+package com.refitbackend.service.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import org.junit.jupiter.api.Test;
+
+import com.refitbackend.dto.product.QueryCountDTO;
+import com.refitbackend.dto.product.SearchStageStatDTO;
+
+/**
+ * 검색 통계 - 단계별 시간, 정규화된 검색어 집계
+ */
+class SearchTelemetryTest {
+
+    private final SearchTelemetry telemetry = new SearchTelemetry(10, Long.MAX_VALUE);
+
+    @Test
+    void countsNormalizedQueriesAndZeroResults() {
+        telemetry.recordQuery("Nike", 3, System.nanoTime());
+        telemetry.recordQuery("  nike ", 5, System.nanoTime());
+        telemetry.recordQuery("없는상품", 0, System.nanoTime());
+        telemetry.recordQuery("  ", 0, System.nanoTime());
+
+        assertThat(telemetry.getPopularQueries(10)).extracting(QueryCountDTO::getQuery, QueryCountDTO::getCount)
+                .containsExactly(tuple("nike", 2L), tuple("없는상품", 1L));
+        assertThat(telemetry.getZeroResultQueries(10)).extracting(QueryCountDTO::getQuery)
+                .containsExactly("없는상품");
+    }
+
+    @Test
+    void recordsStageTimesAndResets() {
+        telemetry.record(SearchTelemetry.Stage.RETRIEVAL, System.nanoTime() - 2_000_000);
+        telemetry.recordQuery("nike", 1, System.nanoTime());
+
+        assertThat(telemetry.getStageStats()).hasSize(SearchTelemetry.Stage.values().length);
+        SearchStageStatDTO retrieval = telemetry.getStageStats().get(SearchTelemetry.Stage.RETRIEVAL.ordinal());
+        assertThat(retrieval.getStage()).isEqualTo("retrieval");
+        assertThat(retrieval.getCount()).isEqualTo(1);
+        assertThat(retrieval.getMaxMillis()).isGreaterThanOrEqualTo(2.0);
+        assertThat(telemetry.getStageStats().get(SearchTelemetry.Stage.TOTAL.ordinal()).getCount()).isEqualTo(1);
+
+        telemetry.reset();
+        assertThat(telemetry.getStageStats()).allSatisfy(stat -> assertThat(stat.getCount()).isZero());
+        assertThat(telemetry.getPopularQueries(10)).isEmpty();
+    }
+}
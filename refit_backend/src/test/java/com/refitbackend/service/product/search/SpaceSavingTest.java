@@ -0,0 +1,78 @@
+package com.refitbackend.service.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.refitbackend.dto.product.QueryCountDTO;
+
+/**
+ * Space-Saving 빈도 상위 항목 - 정확한 구간, 대체 시 오차, 빈번한 항목 보장
+ */
+class SpaceSavingTest {
+
+    @Test
+    void exactWhileUnderCapacity() {
+        SpaceSaving counts = new SpaceSaving(3);
+        offer(counts, "티셔츠", 3);
+        offer(counts, "바지", 1);
+        offer(counts, "나이키", 3);
+
+        assertThat(counts.top(10)).extracting("query", "count", "error")
+                .containsExactly(tuple("나이키", 3L, 0L), tuple("티셔츠", 3L, 0L), tuple("바지", 1L, 0L));
+        assertThat(counts.top(1)).extracting(QueryCountDTO::getQuery).containsExactly("나이키");
+    }
+
+    @Test
+    void newKeyReplacesMinimumAndInheritsItsCount() {
+        SpaceSaving counts = new SpaceSaving(2);
+        offer(counts, "a", 5);
+        offer(counts, "b", 2);
+
+        counts.offer("c");
+
+        // b(2)를 대체: 횟수 3, 오차 2
+        assertThat(counts.top(10)).extracting("query", "count", "error")
+                .containsExactly(tuple("a", 5L, 0L), tuple("c", 3L, 2L));
+    }
+
+    @Test
+    void frequentKeysSurviveNoise() {
+        SpaceSaving counts = new SpaceSaving(5);
+        // 전체 1200회 중 300회 (1/5 초과) - 반드시 남아야 함
+        for (int i = 0; i < 900; i++) {
+            counts.offer("noise-" + i);
+            if (i % 3 == 0) {
+                counts.offer("맨투맨");
+            }
+        }
+
+        List<QueryCountDTO> top = counts.top(5);
+        assertThat(top).hasSize(5);
+        QueryCountDTO first = top.get(0);
+        assertThat(first.getQuery()).isEqualTo("맨투맨");
+        // 실제 횟수 <= count <= 실제 횟수 + error
+        assertThat(first.getCount()).isGreaterThanOrEqualTo(300);
+        assertThat(first.getCount() - first.getError()).isLessThanOrEqualTo(300);
+    }
+
+    @Test
+    void clearEmpties() {
+        SpaceSaving counts = new SpaceSaving(0);
+        offer(counts, "a", 2);
+        counts.offer("b");
+        assertThat(counts.top(10)).extracting(QueryCountDTO::getQuery).containsExactly("b");
+
+        counts.clear();
+        assertThat(counts.top(10)).isEmpty();
+    }
+
+    private static void offer(SpaceSaving counts, String key, int times) {
+        for (int i = 0; i < times; i++) {
+            counts.offer(key);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.refitbackend.service.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 자동완성 트라이 - 노드별로 미리 계산한 상위 목록
+ */
+class SuggestTrieTest {
+
+    @Test
+    void completesByWeightThenText() {
+        SuggestTrie trie = new SuggestTrie();
+        trie.add("티셔츠", "티셔츠", 5, true);
+        trie.add("티셔츠 반팔", "티셔츠 반팔", 9, true);
+        trie.add("티", "티", 5, true);
+        trie.add("팬츠", "팬츠", 100, true);
+
+        assertThat(texts(trie.complete("티", 10))).containsExactly("티셔츠 반팔", "티", "티셔츠");
+        assertThat(texts(trie.complete("티셔", 1))).containsExactly("티셔츠 반팔");
+        assertThat(texts(trie.complete("", 2))).containsExactly("팬츠", "티셔츠 반팔");
+        assertThat(trie.complete("바지", 10)).isEmpty();
+        assertThat(trie.size()).isEqualTo(4);
+    }
+
+    @Test
+    void weightChangesReorderAndRemove() {
+        SuggestTrie trie = new SuggestTrie();
+        trie.add("나이키", "나이키", 3, true);
+        trie.add("나이키 운동화", "나이키 운동화", 2, true);
+
+        trie.add("나이키 운동화", "나이키 운동화", 5, true);
+        assertThat(texts(trie.complete("나", 10))).containsExactly("나이키 운동화", "나이키");
+
+        trie.add("나이키 운동화", "나이키 운동화", -7, true);
+        assertThat(texts(trie.complete("나", 10))).containsExactly("나이키");
+        assertThat(trie.complete("나이키 운", 10)).isEmpty();
+        assertThat(trie.size()).isEqualTo(1);
+
+        // 없는 단어를 빼는 건 무시
+        trie.add("아디다스", "아디다스", -1, true);
+        trie.add("나이", "나이", -1, true);
+        assertThat(trie.size()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsFirstDisplayText() {
+        SuggestTrie trie = new SuggestTrie();
+        trie.add("t-shirt", "T-Shirt", 1, true);
+        trie.add("t-shirt", "t-shirt", 1, true);
+
+        assertThat(trie.complete("t", 1).get(0).getText()).isEqualTo("T-Shirt");
+        assertThat(trie.complete("t", 1).get(0).getWeight()).isEqualTo(2);
+    }
+
+    @Test
+    void bulkBuildWithRefreshAll() {
+        SuggestTrie trie = new SuggestTrie();
+        for (int i = 0; i < 30; i++) {
+            String word = "상품" + (char) ('a' + i % 26) + i;
+            trie.add(word, word, i + 1, false);
+        }
+        assertThat(trie.complete("상", 5)).isEmpty();
+
+        trie.refreshAll();
+
+        List<SuggestTrie.Node> top = trie.complete("상품", 100);
+        assertThat(top).hasSize(SuggestTrie.MAX_TOP);
+        assertThat(top.get(0).getWeight()).isEqualTo(30);
+        assertThat(top).extracting(SuggestTrie.Node::getWeight).isSortedAccordingTo((a, b) -> b - a);
+    }
+
+    private static List<String> texts(List<SuggestTrie.Node> nodes) {
+        return nodes.stream().map(SuggestTrie.Node::getText).toList();
+    }
+}
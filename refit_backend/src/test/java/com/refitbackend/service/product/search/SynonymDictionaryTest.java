@@ -0,0 +1,103 @@
+package com.refitbackend.service.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+/**
+ * 동의어 사전 - 줄 파싱, 단어를 공유하는 줄의 그룹 병합, 재로드
+ */
+class SynonymDictionaryTest {
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private final List<Object> events = new ArrayList<>();
+    private SynonymDictionary dictionary;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = directory.resolve("synonyms.txt");
+        write("""
+                # 상의
+                티셔츠, T-Shirt, 티
+                티, 반팔티   # 티를 공유하므로 위 줄과 같은 그룹
+                바지, 팬츠
+                청바지, 데님, 진
+                진, 데님팬츠
+                외톨이
+                """);
+        dictionary = new SynonymDictionary(new DefaultResourceLoader(), events::add, "file:" + file);
+        dictionary.init();
+    }
+
+    @Test
+    void linesSharingATermAreMerged() {
+        assertThat(dictionary.expand("반팔티")).containsExactly("티셔츠", "t-shirt", "티", "반팔티");
+        assertThat(dictionary.expand("데님팬츠")).containsExactly("청바지", "데님", "진", "데님팬츠");
+        assertThat(dictionary.groupCount()).isEqualTo(3);
+        assertThat(dictionary.termCount()).isEqualTo(10);
+    }
+
+    @Test
+    void mergesTransitivelyRegardlessOfLineOrder() throws IOException {
+        // a-b, c-d, 그 뒤 b-c 로 두 그룹이 이어짐
+        write("a, b\nc, d\nb, c\n");
+        dictionary.reload();
+
+        assertThat(dictionary.expand("d")).containsExactlyInAnyOrder("a", "b", "c", "d");
+        assertThat(dictionary.canonical("d")).isEqualTo(dictionary.canonical("a"));
+        assertThat(dictionary.groupCount()).isEqualTo(1);
+    }
+
+    @Test
+    void canonicalIsNormalizedAndSharedByGroup() {
+        assertThat(dictionary.canonical(" T-SHIRT ")).isEqualTo("티셔츠");
+        assertThat(dictionary.canonical("팬츠")).isEqualTo("바지");
+        assertThat(dictionary.canonical("자켓")).isEqualTo("자켓");
+        assertThat(dictionary.expand("자켓")).containsExactly("자켓");
+        // 단어 하나짜리 줄은 그룹이 아님
+        assertThat(dictionary.terms()).doesNotContain("외톨이");
+    }
+
+    @Test
+    void reloadBumpsVersionAndPublishesEvent() throws IOException {
+        long version = dictionary.version();
+        events.clear();
+
+        write("자켓, 재킷\n");
+        dictionary.reload();
+
+        assertThat(dictionary.version()).isGreaterThan(version);
+        assertThat(dictionary.expand("재킷")).containsExactly("자켓", "재킷");
+        assertThat(dictionary.expand("팬츠")).containsExactly("팬츠");
+        assertThat(events).singleElement().isInstanceOfSatisfying(SynonymsReloadedEvent.class,
+                event -> assertThat(event.getTerms()).containsExactlyInAnyOrder("자켓", "재킷"));
+    }
+
+    @Test
+    void missingFileKeepsCurrentDictionary() throws IOException {
+        long version = dictionary.version();
+        Files.delete(file);
+
+        dictionary.reload();
+
+        assertThat(dictionary.version()).isEqualTo(version);
+        assertThat(dictionary.canonical("팬츠")).isEqualTo("바지");
+    }
+
+    private void write(String content) throws IOException {
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+}
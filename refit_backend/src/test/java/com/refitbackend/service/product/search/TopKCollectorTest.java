@@ -0,0 +1,72 @@
+package com.refitbackend.service.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 상위 K개 수집기 - (점수, docId)를 long 하나로 묶은 힙
+ * 전체 정렬(점수 내림차순, 같으면 docId 오름차순)의 앞 k개와 같아야 함
+ */
+class TopKCollectorTest {
+
+    @Test
+    void ordersByScoreThenDocId() {
+        TopKCollector collector = new TopKCollector(4);
+        collector.offer(7, 10);
+        collector.offer(3, 30);
+        collector.offer(5, 10);
+        collector.offer(1, 20);
+        collector.offer(9, 30);
+        collector.offer(0, 5);
+
+        assertThat(collector.docIds()).containsExactly(3, 9, 1, 5);
+    }
+
+    @Test
+    void returnsAllWhenFewerThanK() {
+        TopKCollector collector = new TopKCollector(10);
+        collector.offer(2, 0);
+        collector.offer(1, 0);
+
+        assertThat(collector.docIds()).containsExactly(1, 2);
+        assertThat(new TopKCollector(3).docIds()).isEmpty();
+    }
+
+    @Test
+    void matchesFullSortForRandomInput() {
+        Random random = new Random(42);
+        for (int round = 0; round < 50; round++) {
+            int n = 1 + random.nextInt(500);
+            int k = 1 + random.nextInt(50);
+            int[] scores = random.ints(n, 0, 20).toArray();
+
+            TopKCollector collector = new TopKCollector(k);
+            for (int docId = 0; docId < n; docId++) {
+                collector.offer(docId, scores[docId]);
+            }
+
+            int[] expected = IntStream.range(0, n).boxed()
+                    .sorted(Comparator.<Integer>comparingInt(docId -> -scores[docId])
+                            .thenComparingInt(docId -> docId))
+                    .limit(k)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            assertThat(collector.docIds()).containsExactly(expected);
+        }
+    }
+
+    @Test
+    void packedKeyKeepsLargeScoresAndDocIds() {
+        TopKCollector collector = new TopKCollector(2);
+        collector.offer(Integer.MAX_VALUE - 1, 1);
+        collector.offer(0, Integer.MAX_VALUE);
+        collector.offer(1, Integer.MAX_VALUE);
+
+        assertThat(collector.docIds()).containsExactly(0, 1);
+    }
+}